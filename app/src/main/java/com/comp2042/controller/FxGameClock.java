@@ -0,0 +1,42 @@
+package com.comp2042.controller;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+
+/**
+ * {@link GameClock} backed by JavaFX timelines, so ticks run on the JavaFX application thread.
+ */
+public class FxGameClock implements GameClock {
+
+    @Override
+    public Timer every(long periodMillis, Runnable task) {
+        Timeline timeline = new Timeline(new KeyFrame(
+            Duration.millis(periodMillis),
+            ae -> task.run()
+        ));
+        timeline.setCycleCount(Timeline.INDEFINITE);
+        return new Timer() {
+            @Override
+            public void play() {
+                timeline.play();
+            }
+
+            @Override
+            public void pause() {
+                timeline.pause();
+            }
+
+            @Override
+            public void stop() {
+                timeline.stop();
+            }
+        };
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        // Monotonic, unlike System.currentTimeMillis(), so recorded input never goes back in time
+        return System.nanoTime() / 1_000_000;
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.manager;
+
+import com.comp2042.controller.GameController;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.replay.ReplayWriter;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Singleton class that records every game to a replay archive in the user's home directory.
+ * The archive is the game history: replays can be attached to bug reports, reused as
+ * benchmark workloads, and queried for the best games of each mode.
+ * Recording is on by default; start the game with {@code -Dtetris.replays=false} to turn it off.
+ */
+public class ReplayManager {
+
+    /** Name of the replay directory in the user's home directory */
+    private static final String REPLAY_DIRECTORY_NAME = ".tetris_replays";
+
+    /** System property that turns recording off when set to false */
+    private static final String ENABLED_PROPERTY = "tetris.replays";
+
+    private static ReplayManager instance;
+
+    private final ReplayWriter writer;
+
+    /**
+     * Private constructor to enforce singleton pattern.
+     * Starts the background writer and makes sure queued replays are saved on exit. The
+     * writer opens the archive on its own thread, importing replays saved one file each by
+     * earlier versions the first time, so the first game starts without waiting for it.
+     */
+    private ReplayManager() {
+        Path directory = Paths.get(System.getProperty("user.home"), REPLAY_DIRECTORY_NAME);
+        writer = ReplayWriter.openArchive(directory);
+        Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "replay-shutdown"));
+    }
+
+    /**
+     * Returns the singleton instance of ReplayManager.
+     *
+     * @return the ReplayManager instance
+     */
+    public static ReplayManager getInstance() {
+        if (instance == null) {
+            instance = new ReplayManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns whether games should be recorded.
+     *
+     * @return false only if recording was turned off on the command line
+     */
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY));
+    }
+
+    /**
+     * Records every game the controller plays, starting with the current one.
+     *
+     * @param controller the controller of a new game
+     */
+    public void record(GameController controller) {
+        controller.setReplayRecorder(new ReplayRecorder(writer));
+    }
+}
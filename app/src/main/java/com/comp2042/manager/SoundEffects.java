@@ -0,0 +1,25 @@
+package com.comp2042.manager;
+
+import com.comp2042.model.GameListener;
+
+/**
+ * Plays the sound effects for board events through the {@link SoundManager}.
+ * Registered on the board by the game screen, so the core never touches the media stack.
+ */
+public class SoundEffects implements GameListener {
+
+    @Override
+    public void brickMoved() {
+        SoundManager.getInstance().playSound("move");
+    }
+
+    @Override
+    public void brickLanded() {
+        SoundManager.getInstance().playSound("land");
+    }
+
+    @Override
+    public void rowsCleared(int lines) {
+        SoundManager.getInstance().playSound("clear");
+    }
+}
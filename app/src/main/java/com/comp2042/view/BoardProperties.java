@@ -0,0 +1,53 @@
+package com.comp2042.view;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.GameListener;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * Exposes a board's score and level as JavaFX properties for binding to labels.
+ * The properties mirror the values the board reports through its {@link GameListener}
+ * callbacks, so they must be updated on the JavaFX application thread like the game itself.
+ */
+public final class BoardProperties implements GameListener {
+
+    private final IntegerProperty score;
+    private final IntegerProperty level;
+
+    private BoardProperties(Board board) {
+        score = new SimpleIntegerProperty(board.getScore().get());
+        level = new SimpleIntegerProperty(board.getLevel());
+    }
+
+    /**
+     * Creates the properties for a board and registers them as one of its listeners.
+     *
+     * @param board the board to mirror
+     * @return the properties, initialised to the board's current values
+     */
+    public static BoardProperties attach(Board board) {
+        BoardProperties properties = new BoardProperties(board);
+        board.addGameListener(properties);
+        return properties;
+    }
+
+    public ReadOnlyIntegerProperty scoreProperty() {
+        return score;
+    }
+
+    public ReadOnlyIntegerProperty levelProperty() {
+        return level;
+    }
+
+    @Override
+    public void scoreChanged(int newScore) {
+        score.set(newScore);
+    }
+
+    @Override
+    public void levelChanged(int newLevel) {
+        level.set(newLevel);
+    }
+}
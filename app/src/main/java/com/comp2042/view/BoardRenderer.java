@@ -0,0 +1,54 @@
+package com.comp2042.view;
+
+import com.comp2042.model.DirtyCells;
+import com.comp2042.model.ViewData;
+
+/**
+ * Draws the playing field, the falling brick and its ghost on the game screen.
+ *
+ * <p>{@link NodeBoardRenderer} keeps one {@code Rectangle} node per cell;
+ * {@link CanvasBoardRenderer} paints everything onto a single canvas, which spares the
+ * scene graph hundreds of nodes to style and lay out every frame. The game screen picks
+ * one at startup: run with {@code -Dtetris.renderer=canvas} for the canvas.
+ */
+interface BoardRenderer {
+
+    /** System property naming the renderer: {@code nodes} (the default) or {@code canvas} */
+    String PROPERTY = "tetris.renderer";
+
+    /** Side of a cell in pixels */
+    int BRICK_SIZE = 20;
+
+    /** Gap between neighbouring cells in pixels */
+    int CELL_GAP = 1;
+
+    /** Rows at the top of the board that are not shown; bricks spawn there */
+    int HIDDEN_ROWS = 2;
+
+    /** Corner arc of settled and falling blocks */
+    double ARC_RADIUS = 9.0;
+
+    /**
+     * Builds the field for a board and draws it with the first brick.
+     *
+     * @param boardMatrix the game board matrix
+     * @param brick the initial brick data
+     */
+    void initialize(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Redraws the settled blocks of the field that changed.
+     *
+     * @param boardMatrix the game board matrix
+     * @param changed the cells to redraw, or null to redraw them all
+     */
+    void drawBackground(int[][] boardMatrix, DirtyCells changed);
+
+    /**
+     * Moves the falling brick and its ghost to their current position.
+     *
+     * @param brick the falling brick
+     * @param ghostY the row the brick would land on; the ghost is hidden when this is the brick's own row
+     */
+    void drawBrick(ViewData brick, int ghostY);
+}
@@ -0,0 +1,82 @@
+package com.comp2042.view;
+
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * The colors of board cells, shared by the board renderers and the next brick previews.
+ */
+final class BrickColors {
+
+    // Color mapping for brick types
+    /** Array mapping color index to Paint color. Index 0 is TRANSPARENT, indices 1-7 are brick colors, index 8 is vine/dirt color, index 9 is gold color. */
+    private static final Paint[] COLOR_MAP = {
+            Color.TRANSPARENT,  // 0
+            Color.AQUA,          // 1
+            Color.BLUEVIOLET,    // 2
+            Color.DARKGREEN,     // 3
+            Color.YELLOW,        // 4
+            Color.RED,           // 5
+            Color.BEIGE,         // 6
+            Color.BURLYWOOD,     // 7
+            Color.rgb(101, 67, 33), // 8 - Dark Brown for Dirt (also used for vines in OVERGROWTH)
+            Color.GOLD           // 9 - Gold for Treasure Hunt
+    };
+
+    /** Number of color indices with a color of their own; others get the default color */
+    static final int COUNT = COLOR_MAP.length;
+
+    /** Default color used when color index is out of bounds */
+    private static final Paint DEFAULT_COLOR = Color.WHITE;
+
+    /** Opacity of the ghost piece cells */
+    private static final double GHOST_OPACITY = 0.3;
+
+    /** Semi-transparent ghost versions of COLOR_MAP, built once so ghost refreshes do not allocate colors */
+    private static final Paint[] GHOST_COLOR_MAP = createGhostColorMap();
+
+    /** Ghost color used when color index is out of bounds */
+    private static final Paint DEFAULT_GHOST_COLOR = Color.rgb(255, 255, 255, GHOST_OPACITY);
+
+    private BrickColors() {
+    }
+
+    /**
+     * Returns the Paint color corresponding to the given color index.
+     *
+     * @param colorIndex the color index (0 = TRANSPARENT, 1-7 = brick colors)
+     * @return the Paint color for the given index, or DEFAULT_COLOR if index is out of bounds
+     */
+    static Paint fill(int colorIndex) {
+        if (colorIndex >= 0 && colorIndex < COLOR_MAP.length) {
+            return COLOR_MAP[colorIndex];
+        }
+        return DEFAULT_COLOR;
+    }
+
+    /**
+     * Returns the semi-transparent ghost color for the given color index.
+     *
+     * @param colorIndex the color index
+     * @return the ghost Paint, or DEFAULT_GHOST_COLOR if index is out of bounds
+     */
+    static Paint ghostFill(int colorIndex) {
+        if (colorIndex >= 0 && colorIndex < GHOST_COLOR_MAP.length) {
+            return GHOST_COLOR_MAP[colorIndex];
+        }
+        return DEFAULT_GHOST_COLOR;
+    }
+
+    private static Paint[] createGhostColorMap() {
+        Paint[] ghostColors = new Paint[COLOR_MAP.length];
+        for (int i = 0; i < COLOR_MAP.length; i++) {
+            if (COLOR_MAP[i] instanceof Color) {
+                Color originalColor = (Color) COLOR_MAP[i];
+                ghostColors[i] = new Color(originalColor.getRed(), originalColor.getGreen(), originalColor.getBlue(), GHOST_OPACITY);
+            } else {
+                ghostColors[i] = Color.rgb(255, 255, 255, GHOST_OPACITY);
+            }
+        }
+        return ghostColors;
+    }
+}
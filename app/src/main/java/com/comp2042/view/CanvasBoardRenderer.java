@@ -0,0 +1,193 @@
+package com.comp2042.view;
+
+import com.comp2042.model.DirtyCells;
+import com.comp2042.model.ViewData;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+
+/**
+ * Paints the field, the ghost and the falling brick onto one {@link Canvas}: a single node,
+ * however many cells are filled, so frames cost no CSS or layout work for the board.
+ *
+ * <p>Blocks are drawn from images rendered once per color. The renderer remembers the
+ * settled cells and the brick it drew last, so moving the brick only repaints the cells it
+ * leaves and enters, and a locked brick only the cells the board reports changed, instead
+ * of the whole field.
+ */
+final class CanvasBoardRenderer implements BoardRenderer {
+
+    /** Name of this renderer for {@link BoardRenderer#PROPERTY} */
+    static final String NAME = "canvas";
+
+    /** Distance between the corners of neighbouring cells in pixels */
+    private static final int PITCH = BRICK_SIZE + CELL_GAP;
+
+    private final GridPane gamePanel;
+
+    /** Block images by color index; the last one is for indices without a color of their own */
+    private final Image[] blocks = new Image[BrickColors.COUNT + 1];
+    private final Image[] ghosts = new Image[BrickColors.COUNT + 1];
+
+    private GraphicsContext graphics;
+
+    /** The settled cells as last drawn */
+    private int[][] shown;
+
+    /** The falling brick as last drawn, and where */
+    private int[][] piece = new int[0][0];
+    private int pieceX;
+    private int pieceY;
+    private int pieceGhostY;
+
+    /**
+     * Creates a renderer drawing into the game screen's field.
+     *
+     * @param gamePanel the field, which receives the canvas
+     */
+    CanvasBoardRenderer(GridPane gamePanel) {
+        this.gamePanel = gamePanel;
+        for (int color = 0; color < blocks.length; color++) {
+            blocks[color] = renderBlock(color, false);
+            ghosts[color] = renderBlock(color, true);
+        }
+    }
+
+    /**
+     * Renders the image of one block, styled like the cells of {@link NodeBoardRenderer}.
+     */
+    private static Image renderBlock(int color, boolean ghost) {
+        Canvas block = new Canvas(BRICK_SIZE, BRICK_SIZE);
+        GraphicsContext gc = block.getGraphicsContext2D();
+        if (ghost) {
+            gc.setFill(BrickColors.ghostFill(color));
+            gc.fillRect(0, 0, BRICK_SIZE, BRICK_SIZE);
+            gc.setStroke(Color.WHITE);
+            gc.setLineWidth(1);
+            gc.strokeRect(0.5, 0.5, BRICK_SIZE - 1, BRICK_SIZE - 1);
+        } else {
+            gc.setFill(BrickColors.fill(color));
+            gc.fillRoundRect(0, 0, BRICK_SIZE, BRICK_SIZE, ARC_RADIUS, ARC_RADIUS);
+        }
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return block.snapshot(parameters, null);
+    }
+
+    private static int imageIndex(int color) {
+        return color >= 0 && color < BrickColors.COUNT ? color : BrickColors.COUNT;
+    }
+
+    @Override
+    public void initialize(int[][] boardMatrix, ViewData brick) {
+        int rows = boardMatrix.length;
+        int columns = boardMatrix[0].length;
+        Canvas canvas = new Canvas(columns * PITCH - CELL_GAP, (rows - HIDDEN_ROWS) * PITCH - CELL_GAP);
+        graphics = canvas.getGraphicsContext2D();
+        gamePanel.add(canvas, 0, 0);
+        shown = new int[rows][columns];
+        drawBackground(boardMatrix, null);
+        // As with the node renderer, the ghost appears with the first move
+        drawBrick(brick, brick.getyPosition());
+    }
+
+    @Override
+    public void drawBackground(int[][] boardMatrix, DirtyCells changed) {
+        if (changed == null) {
+            graphics.clearRect(0, 0, graphics.getCanvas().getWidth(), graphics.getCanvas().getHeight());
+            for (int i = HIDDEN_ROWS; i < boardMatrix.length; i++) {
+                for (int j = 0; j < boardMatrix[i].length; j++) {
+                    shown[i][j] = boardMatrix[i][j];
+                    if (shown[i][j] != 0) {
+                        drawBlock(blocks, shown[i][j], i, j);
+                    }
+                }
+            }
+        } else {
+            for (int i = HIDDEN_ROWS; i < boardMatrix.length; i++) {
+                if (!changed.isRowDirty(i)) {
+                    continue;
+                }
+                for (int j = 0; j < boardMatrix[i].length; j++) {
+                    if (changed.isDirty(i, j)) {
+                        shown[i][j] = boardMatrix[i][j];
+                        paintCell(i, j);
+                    }
+                }
+            }
+        }
+        // The brick is drawn over the field, so it went with it
+        drawPiece();
+    }
+
+    @Override
+    public void drawBrick(ViewData brick, int ghostY) {
+        // Restore the field where the brick and its ghost were
+        for (int i = 0; i < piece.length; i++) {
+            for (int j = 0; j < piece[i].length; j++) {
+                if (piece[i][j] != 0) {
+                    paintCell(pieceY + i, pieceX + j);
+                    paintCell(pieceGhostY + i, pieceX + j);
+                }
+            }
+        }
+
+        if (piece.length != brick.getBrickHeight() || piece[0].length != brick.getBrickWidth()) {
+            piece = new int[brick.getBrickHeight()][brick.getBrickWidth()];
+        }
+        for (int i = 0; i < piece.length; i++) {
+            for (int j = 0; j < piece[i].length; j++) {
+                piece[i][j] = brick.getBrickCell(i, j);
+            }
+        }
+        pieceX = brick.getxPosition();
+        pieceY = brick.getyPosition();
+        pieceGhostY = ghostY;
+        drawPiece();
+    }
+
+    /**
+     * Draws the ghost, unless the brick has landed, and then the brick over it.
+     */
+    private void drawPiece() {
+        for (int i = 0; i < piece.length; i++) {
+            for (int j = 0; j < piece[i].length; j++) {
+                if (piece[i][j] != 0 && pieceGhostY != pieceY) {
+                    drawBlock(ghosts, piece[i][j], pieceGhostY + i, pieceX + j);
+                }
+            }
+        }
+        for (int i = 0; i < piece.length; i++) {
+            for (int j = 0; j < piece[i].length; j++) {
+                if (piece[i][j] != 0) {
+                    drawBlock(blocks, piece[i][j], pieceY + i, pieceX + j);
+                }
+            }
+        }
+    }
+
+    /**
+     * Repaints one cell of the field as last drawn, without the brick.
+     */
+    private void paintCell(int row, int column) {
+        if (isVisible(row, column)) {
+            graphics.clearRect(column * PITCH, (row - HIDDEN_ROWS) * PITCH, BRICK_SIZE, BRICK_SIZE);
+            if (shown[row][column] != 0) {
+                drawBlock(blocks, shown[row][column], row, column);
+            }
+        }
+    }
+
+    private void drawBlock(Image[] images, int color, int row, int column) {
+        if (isVisible(row, column)) {
+            graphics.drawImage(images[imageIndex(color)], column * PITCH, (row - HIDDEN_ROWS) * PITCH);
+        }
+    }
+
+    private boolean isVisible(int row, int column) {
+        return row >= HIDDEN_ROWS && row < shown.length && column >= 0 && column < shown[row].length;
+    }
+}
@@ -1,20 +1,26 @@
 package com.comp2042.view;
 
+import com.comp2042.controller.GameController;
 import com.comp2042.controller.GameInputHandler;
+import com.comp2042.controller.GameView;
 import com.comp2042.events.InputEventListener;
 import com.comp2042.events.MoveEvent;
 import com.comp2042.events.EventSource;
 import com.comp2042.events.EventType;
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.manager.SoundEffects;
 import com.comp2042.manager.SoundManager;
 import com.comp2042.model.Board;
+import com.comp2042.model.DirtyCells;
 import com.comp2042.model.DownData;
 import com.comp2042.model.GameMode;
 import com.comp2042.model.ViewData;
+import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -31,7 +37,6 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.geometry.Pos;
-import javafx.scene.paint.Paint;
 import javafx.scene.shape.Line;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
@@ -41,32 +46,22 @@ import javafx.application.Platform;
 import java.net.URL;
 import java.util.ResourceBundle;
 
-public class GuiController implements Initializable {
+public class GuiController implements Initializable, GameView {
 
     // Block and sizing constants
     /** Size of each brick/block in pixels */
-    private static final int BRICK_SIZE = 20;
-    
-    /** Arc radius for rounded rectangle corners */
-    private static final double RECTANGLE_ARC_RADIUS = 9.0;
+    private static final int BRICK_SIZE = BoardRenderer.BRICK_SIZE;
     
     // Font constants
     /** Font size for loading the digital font */
     private static final double DIGITAL_FONT_SIZE = 38.0;
     
-    // Layout offsets
-    /** Starting row index for visible board (skips top 2 hidden rows) */
-    private static final int BOARD_VISIBLE_START_ROW = 2;
-    
-    /** Vertical offset for positioning the brick panel relative to game panel */
-    private static final double BRICK_PANEL_Y_OFFSET = -42.0;
-    
-    /** Pixel offset adjustment for ghost piece Y position (fine-tune in pixels) */
-    private static final double GHOST_Y_PIXEL_ADJUSTMENT = 10.5; // Half a row offset (half of 21px = 20px brick + 1px gap)
-    
     // Animation timing
     /** Duration in milliseconds for automatic brick drop animation */
     private static final int AUTO_DROP_INTERVAL_MS = 400;
+
+    /** Number of upcoming bricks shown in the side panel */
+    private static final int NEXT_BRICKS_SHOWN = 3;
     
     // Visual effects (Reflection)
     /** Fraction of reflection effect (0.0 to 1.0) */
@@ -78,24 +73,6 @@ public class GuiController implements Initializable {
     /** Top offset of reflection effect in pixels */
     private static final double REFLECTION_TOP_OFFSET = -12.0;
     
-    // Color mapping for brick types
-    /** Array mapping color index to Paint color. Index 0 is TRANSPARENT, indices 1-7 are brick colors, index 8 is vine/dirt color, index 9 is gold color. */
-    private static final Paint[] COLOR_MAP = {
-            Color.TRANSPARENT,  // 0
-            Color.AQUA,          // 1
-            Color.BLUEVIOLET,    // 2
-            Color.DARKGREEN,     // 3
-            Color.YELLOW,        // 4
-            Color.RED,           // 5
-            Color.BEIGE,         // 6
-            Color.BURLYWOOD,     // 7
-            Color.rgb(101, 67, 33), // 8 - Dark Brown for Dirt (also used for vines in OVERGROWTH)
-            Color.GOLD           // 9 - Gold for Treasure Hunt
-    };
-    
-    /** Default color used when color index is out of bounds */
-    private static final Paint DEFAULT_COLOR = Color.WHITE;
-
     @FXML
     private GridPane gamePanel;
 
@@ -150,19 +127,18 @@ public class GuiController implements Initializable {
     @FXML
     private VBox nextBricksContainer;
 
-    private Rectangle[][] displayMatrix;
+    private BoardRenderer renderer;
     
     private Board board; // Reference to board for getting next bricks
 
+    // Bricks currently in the preview panel, so unchanged previews are not rebuilt
+    private final Brick[] shownNextBricks = new Brick[NEXT_BRICKS_SHOWN];
+
     private InputEventListener eventListener;
     
     private com.comp2042.util.HighScoreManager highScoreManager;
     
-    private com.comp2042.controller.GameController gameController; // Reference to GameController for overgrowth timer
-
-    private Rectangle[][] rectangles;
-    
-    private Rectangle[][] ghostRectangles; // Ghost piece rectangles
+    private GameController gameController; // Reference to GameController for overgrowth timer
 
     private Timeline timeLine;
 
@@ -434,21 +410,31 @@ public class GuiController implements Initializable {
     }
     
     /**
-     * Updates the display of the next 3 bricks in the side panel.
+     * Updates the display of the next bricks in the side panel.
+     * Peeks at the queue without copying it and only rebuilds the previews when the
+     * upcoming bricks have changed, which is once per locked brick.
+     * Public so the rendering benchmarks can time it on its own.
      */
-    private void updateNextBricksDisplay() {
+    public void updateNextBricksDisplay() {
         if (nextBricksContainer == null || board == null) {
             return;
         }
-        
-        // Clear existing brick previews
+
+        boolean changed = nextBricksContainer.getChildren().size() != NEXT_BRICKS_SHOWN;
+        for (int i = 0; i < NEXT_BRICKS_SHOWN; i++) {
+            Brick brick = board.peekNextBrick(i);
+            if (shownNextBricks[i] != brick) {
+                shownNextBricks[i] = brick;
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return;
+        }
+
+        // Replace the brick previews
         nextBricksContainer.getChildren().clear();
-        
-        // Get next 3 bricks
-        java.util.List<Brick> nextBricks = board.getNextBricks(3);
-        
-        // Create preview for each brick
-        for (Brick brick : nextBricks) {
+        for (Brick brick : shownNextBricks) {
             VBox brickPreview = createBrickPreview(brick);
             nextBricksContainer.getChildren().add(brickPreview);
         }
@@ -465,8 +451,8 @@ public class GuiController implements Initializable {
         preview.getStyleClass().add("jungle-brick-preview");
         preview.setAlignment(Pos.CENTER);
         
-        // Get the first shape of the brick
-        int[][] shape = brick.getShapeMatrix().get(0);
+        // Read the first shape of the brick in place, cell by cell
+        RotationTable shape = brick.getRotationTable();
         
         // Create a GridPane to display the brick shape
         GridPane brickGrid = new GridPane();
@@ -478,11 +464,11 @@ public class GuiController implements Initializable {
         final double PREVIEW_CELL_SIZE = 12.0;
         
         // Draw the brick shape
-        for (int i = 0; i < shape.length; i++) {
-            for (int j = 0; j < shape[i].length; j++) {
-                if (shape[i][j] != 0) {
+        for (int i = 0; i < shape.getHeight(0); i++) {
+            for (int j = 0; j < shape.getWidth(); j++) {
+                if (shape.getCell(0, i, j) != 0) {
                     Rectangle cell = new Rectangle(PREVIEW_CELL_SIZE, PREVIEW_CELL_SIZE);
-                    cell.setFill(getFillColor(shape[i][j]));
+                    cell.setFill(BrickColors.fill(shape.getCell(0, i, j)));
                     cell.setArcWidth(2);
                     cell.setArcHeight(2);
                     brickGrid.add(cell, j, i);
@@ -541,6 +527,7 @@ public class GuiController implements Initializable {
      * @param currentScore the current game score
      * @return true if a new high score was set, false otherwise
      */
+    @Override
     public boolean updateHighScore(int currentScore) {
         if (highScoreManager != null) {
             boolean updated = highScoreManager.updateHighScore(currentScore);
@@ -575,102 +562,53 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Initializes the game view by setting up the background grid, falling brick, and game loop.
+     * Initializes the game view by setting up the board renderer, which draws the background
+     * grid and falling brick, and the game loop.
      *
      * @param boardMatrix the game board matrix
      * @param brick the initial brick data
      */
+    @Override
     public void initGameView(int[][] boardMatrix, ViewData brick) {
-        initializeBackgroundGrid(boardMatrix);
-        initializeFallingBrick(brick);
+        renderer = createRenderer();
+        renderer.initialize(boardMatrix, brick);
+        if (board != null) {
+            board.getDirtyCells().clear(); // The whole field was just drawn
+        }
         setupGameLoop();
     }
-    
-    /**
-     * Sets the board reference for accessing next bricks.
-     * 
-     * @param board the game board
-     */
-    public void setBoard(Board board) {
-        this.board = board;
-        updateNextBricksDisplay();
-    }
 
     /**
-     * Initializes the background grid (displayMatrix) that represents the game board.
-     * Creates rectangles for each cell in the visible portion of the board and sets their initial colors.
+     * Creates the board renderer chosen with the {@code tetris.renderer} system property.
      *
-     * @param boardMatrix the game board matrix
+     * @return the canvas renderer if asked for, otherwise the node renderer
      */
-    private void initializeBackgroundGrid(int[][] boardMatrix) {
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = BOARD_VISIBLE_START_ROW; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                // Set initial color based on board matrix (important for pre-filled modes like TREASURE_HUNT)
-                rectangle.setFill(getFillColor(boardMatrix[i][j]));
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - BOARD_VISIBLE_START_ROW);
-            }
+    private BoardRenderer createRenderer() {
+        String name = System.getProperty(BoardRenderer.PROPERTY, NodeBoardRenderer.NAME);
+        if (CanvasBoardRenderer.NAME.equalsIgnoreCase(name)) {
+            return new CanvasBoardRenderer(gamePanel);
         }
+        if (!NodeBoardRenderer.NAME.equalsIgnoreCase(name)) {
+            // RECOVERY: An unknown renderer must not stop the game from starting
+            System.err.println("Unknown renderer '" + name + "', using " + NodeBoardRenderer.NAME + ".");
+        }
+        return new NodeBoardRenderer(gamePanel, brickPanel, ghostPanel, gameBoard);
     }
-
+    
     /**
-     * Initializes the falling brick by creating rectangles for the brick shape
-     * and positioning the brick panel at the initial spawn location.
-     *
-     * @param brick the ViewData containing brick shape and position information
+     * Sets the board reference for accessing next bricks and the changed cells of the field,
+     * binds the score and level labels to the board and plays its sound effects.
+     * 
+     * @param board the game board
      */
-    private void initializeFallingBrick(ViewData brick) {
-        // Clear existing rectangles if any
-        if (brickPanel != null) {
-            brickPanel.getChildren().clear();
-        }
-        if (ghostPanel != null) {
-            ghostPanel.getChildren().clear();
-        }
-        
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        ghostRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                // Create regular brick rectangle
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(getFillColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
-                
-                // Create ghost piece rectangle (semi-transparent)
-                Rectangle ghostRectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                if (brick.getBrickData()[i][j] != 0) {
-                    // Make ghost piece semi-transparent (30% opacity)
-                    Paint ghostColor = getFillColor(brick.getBrickData()[i][j]);
-                    if (ghostColor instanceof Color) {
-                        Color originalColor = (Color) ghostColor;
-                        ghostRectangle.setFill(new Color(
-                            originalColor.getRed(),
-                            originalColor.getGreen(),
-                            originalColor.getBlue(),
-                            0.3 // 30% opacity for ghost effect
-                        ));
-                    } else {
-                        ghostRectangle.setFill(Color.rgb(255, 255, 255, 0.3));
-                    }
-                    ghostRectangle.setStroke(Color.WHITE);
-                    ghostRectangle.setStrokeWidth(1);
-                } else {
-                    ghostRectangle.setFill(Color.TRANSPARENT);
-                }
-                ghostRectangles[i][j] = ghostRectangle;
-                ghostPanel.add(ghostRectangle, j, i);
-            }
-        }
-        // Calculate gamePanel's absolute X position
-        // gameBoard is centered, gamePanel is in BorderPane center (layoutX = 0), add border width
-        double gamePanelAbsoluteX = (gameBoard != null ? gameBoard.getLayoutX() : 0) + 12; // BorderPane border width
-        brickPanel.setLayoutX(gamePanelAbsoluteX + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
-        brickPanel.setLayoutY(BRICK_PANEL_Y_OFFSET + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * BRICK_SIZE);
+    @Override
+    public void setBoard(Board board) {
+        this.board = board;
+        board.addGameListener(new SoundEffects()); // Move, landing and line clear sounds
+        BoardProperties properties = BoardProperties.attach(board);
+        bindScore(properties.scoreProperty()); // Binds score
+        bindLevel(properties.levelProperty(), board.getGameMode()); // Binds level and sets up speed adjustment
+        updateNextBricksDisplay();
     }
 
     /**
@@ -687,19 +625,15 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Returns the Paint color corresponding to the given color index.
-     * 
-     * @param colorIndex the color index (0 = TRANSPARENT, 1-7 = brick colors)
-     * @return the Paint color for the given index, or DEFAULT_COLOR if index is out of bounds
+     * Stops the automatic game loop for good, so the view only changes through explicit
+     * refresh calls. Used by the rendering benchmarks, which script the board themselves.
      */
-    private Paint getFillColor(int colorIndex) {
-        if (colorIndex >= 0 && colorIndex < COLOR_MAP.length) {
-            return COLOR_MAP[colorIndex];
+    public void stopGameLoop() {
+        if (timeLine != null) {
+            timeLine.stop();
         }
-        return DEFAULT_COLOR;
     }
 
-
     /**
      * Refreshes the brick display based on the provided ViewData.
      * This method is called by GameInputHandler and must be accessible.
@@ -708,103 +642,23 @@ public class GuiController implements Initializable {
      */
     public void refreshBrick(ViewData brick) {
         if (isPause.getValue() == Boolean.FALSE) {
-            // Calculate gamePanel's absolute X position
-            // gameBoard is centered, gamePanel is in BorderPane center (layoutX = 0), add border width
-            double gamePanelAbsoluteX = (gameBoard != null ? gameBoard.getLayoutX() : 0) + 12; // BorderPane border width
-            brickPanel.setLayoutX(gamePanelAbsoluteX + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
-            brickPanel.setLayoutY(BRICK_PANEL_Y_OFFSET + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * BRICK_SIZE);
-            
-            // Update regular brick display
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-                }
-            }
-            
-            // Update ghost piece position and display
-            updateGhostPiece(brick);
-        }
-    }
-    
-    /**
-     * Updates the ghost piece display to show where the current brick will land.
-     * 
-     * @param brick the current brick ViewData
-     */
-    private void updateGhostPiece(ViewData brick) {
-        if (ghostPanel == null || ghostRectangles == null || board == null) {
-            return;
-        }
-        
-        // Get ghost Y position (where the brick will land)
-        int ghostY = board.getGhostPieceY();
-        int currentX = brick.getxPosition();
-        int currentY = brick.getyPosition();
-        
-        // Only show ghost piece if it's different from current position (brick is falling)
-        if (ghostY == currentY) {
-            // Hide ghost piece if already at landing position
-            ghostPanel.setVisible(false);
-            return;
-        }
-        
-        // Show ghost piece
-        ghostPanel.setVisible(true);
-        
-        // Calculate gamePanel's absolute X position (same as regular brick)
-        double gamePanelAbsoluteX = (gameBoard != null ? gameBoard.getLayoutX() : 0) + 12;
-        
-        // Position ghost panel at ghost Y position
-        // Use the EXACT same calculation as brickPanel (matching the existing pattern)
-        // Note: brickPanel uses getVgap() for X and getHgap() for Y (matching line 531-532)
-        double baseY = BRICK_PANEL_Y_OFFSET + gamePanel.getLayoutY() + ghostY * brickPanel.getHgap() + ghostY * BRICK_SIZE;
-        ghostPanel.setLayoutX(gamePanelAbsoluteX + currentX * brickPanel.getVgap() + currentX * BRICK_SIZE);
-        ghostPanel.setLayoutY(baseY + GHOST_Y_PIXEL_ADJUSTMENT);
-        
-        // Update ghost rectangles to match brick shape
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                if (ghostRectangles[i][j] != null) {
-                    if (brick.getBrickData()[i][j] != 0) {
-                        // Make ghost piece semi-transparent (30% opacity)
-                        Paint ghostColor = getFillColor(brick.getBrickData()[i][j]);
-                        if (ghostColor instanceof Color) {
-                            Color originalColor = (Color) ghostColor;
-                            ghostRectangles[i][j].setFill(new Color(
-                                originalColor.getRed(),
-                                originalColor.getGreen(),
-                                originalColor.getBlue(),
-                                0.3 // 30% opacity for ghost effect
-                            ));
-                        } else {
-                            ghostRectangles[i][j].setFill(Color.rgb(255, 255, 255, 0.3));
-                        }
-                        ghostRectangles[i][j].setStroke(Color.WHITE);
-                        ghostRectangles[i][j].setStrokeWidth(1);
-                        ghostRectangles[i][j].setVisible(true);
-                    } else {
-                        ghostRectangles[i][j].setVisible(false);
-                    }
-                }
-            }
+            // The ghost sits where the brick would land; without a board there is none to show
+            int ghostY = board != null ? board.getGhostPieceY() : brick.getyPosition();
+            renderer.drawBrick(brick, ghostY);
         }
     }
 
-    public void refreshGameBackground(int[][] board) {
-        for (int i = BOARD_VISIBLE_START_ROW; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
-            }
+    @Override
+    public void refreshGameBackground(int[][] boardMatrix) {
+        // Only the cells the board changed since the last refresh are redrawn
+        DirtyCells changed = board != null ? board.getDirtyCells() : null;
+        renderer.drawBackground(boardMatrix, changed);
+        if (changed != null) {
+            changed.clear();
         }
         updateNextBricksDisplay(); // Update next bricks when background is refreshed (brick locked)
     }
 
-    private void setRectangleData(int color, Rectangle rectangle) {
-        rectangle.setFill(getFillColor(color));
-        rectangle.setArcHeight(RECTANGLE_ARC_RADIUS);
-        rectangle.setArcWidth(RECTANGLE_ARC_RADIUS);
-    }
-
     /**
      * Handles the down movement event.
      * This method is called by GameInputHandler and must be accessible.
@@ -840,12 +694,12 @@ public class GuiController implements Initializable {
                 notificationPanel.showScore(groupNotification.getChildren());
             }
             refreshBrick(downData.getViewData());
-            refreshGameBackground(board.getBoardMatrix()); // Refresh background after hard drop
             updateNextBricksDisplay(); // Update next bricks when a brick is placed
         }
         gamePanel.requestFocus();
     }
 
+    @Override
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
         // Update the event listener in the input handler if it's already initialized
@@ -860,7 +714,7 @@ public class GuiController implements Initializable {
      *
      * @param integerProperty the score property to bind to
      */
-    public void bindScore(IntegerProperty integerProperty) {
+    public void bindScore(ReadOnlyIntegerProperty integerProperty) {
         if (scoreLabel != null && integerProperty != null) {
             // Bind the label text to the score property
             scoreLabel.textProperty().bind(
@@ -873,10 +727,10 @@ public class GuiController implements Initializable {
      * Binds the level property to the level label and sets up speed adjustment based on level.
      * The game speed increases (drop interval decreases) as the level increases.
      * 
-     * @param levelProperty the IntegerProperty representing the current level
+     * @param levelProperty the property representing the current level
      * @param gameMode the current game mode (CLASSIC or OVERGROWTH)
      */
-    public void bindLevel(IntegerProperty levelProperty, GameMode gameMode) {
+    public void bindLevel(ReadOnlyIntegerProperty levelProperty, GameMode gameMode) {
         if (levelLabel != null && levelProperty != null) {
             // Bind the level text to the property
             levelLabel.textProperty().bind(levelProperty.asString());
@@ -888,21 +742,25 @@ public class GuiController implements Initializable {
                 double newSpeed = Math.max(100, 400 - ((newVal.intValue() - 1) * 50));
                 
                 // Stop current timeline
+                boolean running = timeLine != null && timeLine.getStatus() == Animation.Status.RUNNING;
                 if (timeLine != null) {
                     timeLine.stop();
                 }
                 
-                // Create new timeline with updated speed
+                // Create new timeline with updated speed; a stopped loop stays stopped
                 timeLine = new Timeline(new KeyFrame(
                     Duration.millis(newSpeed),
                     ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
                 ));
                 timeLine.setCycleCount(Timeline.INDEFINITE);
-                timeLine.play();
+                if (running) {
+                    timeLine.play();
+                }
             });
         }
     }
 
+    @Override
     public void gameOver() {
         timeLine.stop();
         // Reset title in case it was changed for victory
@@ -931,6 +789,7 @@ public class GuiController implements Initializable {
      * Shows the victory screen when the player wins (e.g., clears all gold in Treasure Hunt mode).
      * Reuses the gameOverPanel but changes the title to "YOU WIN!" in gold color.
      */
+    @Override
     public void showVictory() {
         timeLine.stop();
         // Update game over panel title to victory message
@@ -1030,7 +889,8 @@ public class GuiController implements Initializable {
      * 
      * @param controller the GameController instance
      */
-    public void setGameController(com.comp2042.controller.GameController controller) {
+    @Override
+    public void setGameController(GameController controller) {
         this.gameController = controller;
     }
     
@@ -1,5 +1,6 @@
 package com.comp2042.view;
 
+import com.comp2042.manager.ReplayManager;
 import com.comp2042.model.GameMode;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -391,7 +392,11 @@ public class MainMenuController implements Initializable {
                 guiController.setPrimaryStage(primaryStage);
                 
                 // Initialize the game with selected mode
-                new com.comp2042.controller.GameController(guiController, mode);
+                com.comp2042.controller.GameController controller =
+                        new com.comp2042.controller.GameController(guiController, mode, new com.comp2042.controller.FxGameClock());
+                if (ReplayManager.isEnabled()) {
+                    ReplayManager.getInstance().record(controller);
+                }
             }
         } catch (Exception e) {
             System.err.println("Error loading game: " + e.getMessage());
@@ -0,0 +1,221 @@
+package com.comp2042.view;
+
+import com.comp2042.model.DirtyCells;
+import com.comp2042.model.ViewData;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * The original renderer: one {@code Rectangle} node per visible cell of the field, plus
+ * grids of rectangles for the falling brick and its ghost, moved over the field as the
+ * brick falls.
+ */
+final class NodeBoardRenderer implements BoardRenderer {
+
+    /** Name of this renderer for {@link BoardRenderer#PROPERTY} */
+    static final String NAME = "nodes";
+
+    /** Y offset for brick panel positioning to align with the game board */
+    private static final double BRICK_PANEL_Y_OFFSET = -42.0;
+
+    /** Pixel adjustment for ghost piece Y positioning to align with the board grid */
+    private static final double GHOST_Y_PIXEL_ADJUSTMENT = 10.5; // Half a row offset (half of 21px = 20px brick + 1px gap)
+
+    /** Width of the game board's border in pixels */
+    private static final double BOARD_BORDER_WIDTH = 12;
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final GridPane ghostPanel;
+    private final Region gameBoard;
+
+    private Rectangle[][] displayMatrix;
+
+    private Rectangle[][] rectangles;
+
+    private Rectangle[][] ghostRectangles; // Ghost piece rectangles
+
+    /**
+     * Creates a renderer drawing into the game screen's panels.
+     *
+     * @param gamePanel the grid of field cells
+     * @param brickPanel the grid of the falling brick, placed over the field
+     * @param ghostPanel the grid of the ghost piece, placed over the field
+     * @param gameBoard the bordered board holding the field, which positions the brick panels
+     */
+    NodeBoardRenderer(GridPane gamePanel, GridPane brickPanel, GridPane ghostPanel, Region gameBoard) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        this.ghostPanel = ghostPanel;
+        this.gameBoard = gameBoard;
+    }
+
+    @Override
+    public void initialize(int[][] boardMatrix, ViewData brick) {
+        initializeBackgroundGrid(boardMatrix);
+        initializeFallingBrick(brick);
+    }
+
+    /**
+     * Initializes the background grid (displayMatrix) that represents the game board.
+     * Creates rectangles for each cell in the visible portion of the board and sets their initial colors.
+     *
+     * @param boardMatrix the game board matrix
+     */
+    private void initializeBackgroundGrid(int[][] boardMatrix) {
+        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        for (int i = HIDDEN_ROWS; i < boardMatrix.length; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                // Set initial color based on board matrix (important for pre-filled modes like TREASURE_HUNT)
+                setRectangleData(boardMatrix[i][j], rectangle);
+                displayMatrix[i][j] = rectangle;
+                gamePanel.add(rectangle, j, i - HIDDEN_ROWS);
+            }
+        }
+    }
+
+    /**
+     * Initializes the falling brick by creating rectangles for the brick shape
+     * and positioning the brick panel at the initial spawn location.
+     *
+     * @param brick the ViewData containing brick shape and position information
+     */
+    private void initializeFallingBrick(ViewData brick) {
+        // Clear existing rectangles if any
+        if (brickPanel != null) {
+            brickPanel.getChildren().clear();
+        }
+        if (ghostPanel != null) {
+            ghostPanel.getChildren().clear();
+        }
+
+        rectangles = new Rectangle[brick.getBrickHeight()][brick.getBrickWidth()];
+        ghostRectangles = new Rectangle[brick.getBrickHeight()][brick.getBrickWidth()];
+
+        for (int i = 0; i < brick.getBrickHeight(); i++) {
+            for (int j = 0; j < brick.getBrickWidth(); j++) {
+                int cell = brick.getBrickCell(i, j);
+                // Create regular brick rectangle
+                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                rectangle.setFill(BrickColors.fill(cell));
+                rectangles[i][j] = rectangle;
+                brickPanel.add(rectangle, j, i);
+
+                // Create ghost piece rectangle (semi-transparent)
+                Rectangle ghostRectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                if (cell != 0) {
+                    ghostRectangle.setFill(BrickColors.ghostFill(cell));
+                    ghostRectangle.setStroke(Color.WHITE);
+                    ghostRectangle.setStrokeWidth(1);
+                } else {
+                    ghostRectangle.setFill(Color.TRANSPARENT);
+                }
+                ghostRectangles[i][j] = ghostRectangle;
+                ghostPanel.add(ghostRectangle, j, i);
+            }
+        }
+        positionBrickPanel(brick);
+    }
+
+    /**
+     * Places the brick panel over the field cell at the brick's position.
+     */
+    private void positionBrickPanel(ViewData brick) {
+        // Calculate gamePanel's absolute X position
+        // gameBoard is centered, gamePanel is in BorderPane center (layoutX = 0), add border width
+        double gamePanelAbsoluteX = (gameBoard != null ? gameBoard.getLayoutX() : 0) + BOARD_BORDER_WIDTH;
+        brickPanel.setLayoutX(gamePanelAbsoluteX + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
+        brickPanel.setLayoutY(BRICK_PANEL_Y_OFFSET + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * BRICK_SIZE);
+    }
+
+    @Override
+    public void drawBrick(ViewData brick, int ghostY) {
+        positionBrickPanel(brick);
+
+        // Update regular brick display
+        for (int i = 0; i < brick.getBrickHeight(); i++) {
+            for (int j = 0; j < brick.getBrickWidth(); j++) {
+                setRectangleData(brick.getBrickCell(i, j), rectangles[i][j]);
+            }
+        }
+
+        // Update ghost piece position and display
+        updateGhostPiece(brick, ghostY);
+    }
+
+    /**
+     * Updates the ghost piece display to show where the current brick will land.
+     *
+     * @param brick the current brick ViewData
+     * @param ghostY the row the brick will land on
+     */
+    private void updateGhostPiece(ViewData brick, int ghostY) {
+        if (ghostPanel == null || ghostRectangles == null) {
+            return;
+        }
+
+        int currentX = brick.getxPosition();
+        int currentY = brick.getyPosition();
+
+        // Only show ghost piece if it's different from current position (brick is falling)
+        if (ghostY == currentY) {
+            // Hide ghost piece if already at landing position
+            ghostPanel.setVisible(false);
+            return;
+        }
+
+        // Show ghost piece
+        ghostPanel.setVisible(true);
+
+        // Calculate gamePanel's absolute X position (same as regular brick)
+        double gamePanelAbsoluteX = (gameBoard != null ? gameBoard.getLayoutX() : 0) + BOARD_BORDER_WIDTH;
+
+        // Position ghost panel at ghost Y position
+        // Use the EXACT same calculation as brickPanel (matching the existing pattern)
+        // Note: brickPanel uses getVgap() for X and getHgap() for Y (matching positionBrickPanel)
+        double baseY = BRICK_PANEL_Y_OFFSET + gamePanel.getLayoutY() + ghostY * brickPanel.getHgap() + ghostY * BRICK_SIZE;
+        ghostPanel.setLayoutX(gamePanelAbsoluteX + currentX * brickPanel.getVgap() + currentX * BRICK_SIZE);
+        ghostPanel.setLayoutY(baseY + GHOST_Y_PIXEL_ADJUSTMENT);
+
+        // Update ghost rectangles to match brick shape
+        for (int i = 0; i < brick.getBrickHeight(); i++) {
+            for (int j = 0; j < brick.getBrickWidth(); j++) {
+                if (ghostRectangles[i][j] != null) {
+                    int cell = brick.getBrickCell(i, j);
+                    if (cell != 0) {
+                        // Make ghost piece semi-transparent
+                        ghostRectangles[i][j].setFill(BrickColors.ghostFill(cell));
+                        ghostRectangles[i][j].setStroke(Color.WHITE);
+                        ghostRectangles[i][j].setStrokeWidth(1);
+                        ghostRectangles[i][j].setVisible(true);
+                    } else {
+                        ghostRectangles[i][j].setVisible(false);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void drawBackground(int[][] boardMatrix, DirtyCells changed) {
+        for (int i = HIDDEN_ROWS; i < boardMatrix.length; i++) {
+            if (changed != null && !changed.isRowDirty(i)) {
+                continue;
+            }
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                if (changed == null || changed.isDirty(i, j)) {
+                    setRectangleData(boardMatrix[i][j], displayMatrix[i][j]);
+                }
+            }
+        }
+    }
+
+    private void setRectangleData(int color, Rectangle rectangle) {
+        rectangle.setFill(BrickColors.fill(color));
+        rectangle.setArcHeight(ARC_RADIUS);
+        rectangle.setArcWidth(ARC_RADIUS);
+    }
+}
@@ -0,0 +1,52 @@
+package com.comp2042.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of the benchmark jar. Takes the usual JMH command line and adds the GC
+ * profiler, so every result comes with bytes allocated per operation, unless profilers
+ * were chosen with {@code -prof}.
+ *
+ * <p>Example: {@code java -jar benchmarks/target/benchmarks.jar MatrixOperationsBenchmark -p fullRows=4}
+ */
+public final class BenchmarkMain {
+
+    /** Exit status for invalid arguments */
+    private static final int EXIT_USAGE = 2;
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        CommandLineOptions options;
+        try {
+            options = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(EXIT_USAGE);
+            return;
+        }
+        if (options.shouldHelp()) {
+            options.showHelp();
+            return;
+        }
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+        if (options.getProfilers().isEmpty()) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        Runner runner = new Runner(builder.build());
+        if (options.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.ClearRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks whole {@link Board} game steps on every engine, from the same seeded
+ * mid-game state (see {@link Boards#midGame}), so a new engine can be compared with
+ * {@code SIMPLE} directly.
+ *
+ * <p>Moves and rotations are undone within the benchmark (left then right, four
+ * rotations), so the board stays in the fixture state. Steps that change the board for
+ * good first restore the fixture with {@link Board#restoreState}; the {@code restoreState}
+ * benchmark measures that share on its own, so it can be subtracted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    /** Rotations that bring every brick back to its starting orientation */
+    private static final int FULL_TURN = 4;
+
+    @Param({"SIMPLE", "BITBOARD", "RING_BUFFER"})
+    public BoardType boardType;
+
+    private Board board;
+    private ByteBuffer midGame;
+
+    @Setup
+    public void setUp() {
+        board = Boards.midGame(boardType);
+        midGame = Boards.snapshot(board);
+
+        // The reversible benchmarks rely on the brick coming back to where it started
+        int x = board.getViewData().getxPosition();
+        lateralMove();
+        rotation();
+        if (board.getViewData().getxPosition() != x) {
+            throw new IllegalStateException("The fixture's brick does not return to its column");
+        }
+    }
+
+    private void restore() {
+        midGame.rewind();
+        board.restoreState(midGame);
+    }
+
+    @Benchmark
+    public Board restoreState() {
+        restore();
+        return board;
+    }
+
+    @Benchmark
+    public boolean gravityStep() {
+        restore();
+        return board.moveBrickDown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public boolean lateralMove() {
+        return board.moveBrickLeft() & board.moveBrickRight();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FULL_TURN)
+    public int rotation() {
+        for (int i = 0; i < FULL_TURN; i++) {
+            board.rotateLeftBrick();
+        }
+        return board.getCurrentRotation();
+    }
+
+    @Benchmark
+    public int ghostPieceY() {
+        return board.getGhostPieceY();
+    }
+
+    /**
+     * Locks the falling brick the way a hard drop does: drop, merge and clear.
+     */
+    @Benchmark
+    public ClearRow hardDropLock() {
+        restore();
+        board.hardDrop();
+        board.mergeBrickToBackground();
+        return board.clearRows();
+    }
+
+    @Benchmark
+    public boolean vineLine() {
+        restore();
+        return board.addVineLine();
+    }
+}
@@ -0,0 +1,155 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.GameMode;
+import com.comp2042.simulation.GreedyPolicy;
+import com.comp2042.simulation.Placement;
+import com.comp2042.simulation.Policy;
+import com.comp2042.simulation.RandomPolicy;
+import com.comp2042.util.GameRandom;
+import com.comp2042.util.MatrixOperations;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Builds the board fixtures shared by the benchmarks, so every benchmark measures the same
+ * seeded fields.
+ */
+final class Boards {
+
+    /** Number of columns, as in the desktop client */
+    static final int WIDTH = 10;
+
+    /** Number of rows, as in the desktop client */
+    static final int HEIGHT = 25;
+
+    /** Rows at the bottom that hold the stack; the rows above are empty */
+    static final int STACK_ROWS = 12;
+
+    /** Seed of the mid-game fixture */
+    static final long MID_GAME_SEED = 2042;
+
+    // Mid-game fixture: bricks placed well, then a few placed badly, with a vine line every few bricks
+    private static final int GOOD_BRICKS = 60;
+    private static final int BAD_BRICKS = 6;
+    private static final int BRICKS_PER_VINE = 12;
+
+    private Boards() {
+    }
+
+    /**
+     * Builds a field with a stack at the bottom: the lowest rows are full, and each other
+     * stack row has cells filled at the given density but at least one hole.
+     *
+     * @param fillPercent the chance of each cell of a partial row being filled, in percent
+     * @param fullRows the number of full rows at the bottom
+     * @param seed the seed of the cell pattern
+     * @return a new field
+     */
+    static int[][] create(int fillPercent, int fullRows, long seed) {
+        if (fullRows < 0 || fullRows > STACK_ROWS) {
+            throw new IllegalArgumentException("Invalid number of full rows: " + fullRows
+                    + ". Must be between 0 and " + STACK_ROWS + ".");
+        }
+        GameRandom random = new GameRandom(seed);
+        int[][] field = new int[HEIGHT][WIDTH];
+        for (int row = HEIGHT - STACK_ROWS; row < HEIGHT; row++) {
+            boolean full = row >= HEIGHT - fullRows;
+            for (int column = 0; column < WIDTH; column++) {
+                if (full || random.nextInt(100) < fillPercent) {
+                    field[row][column] = 1 + random.nextInt(7);
+                }
+            }
+            if (!full) {
+                field[row][random.nextInt(WIDTH)] = 0;
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Returns the lowest row a shape can be placed at in a column, dropping it from the top.
+     *
+     * @param field the field
+     * @param shapes the rotation table of the brick
+     * @param rotation the rotation index
+     * @param x the column of the shape's left edge
+     * @return the landing row
+     */
+    static int landingRow(int[][] field, RotationTable shapes, int rotation, int x) {
+        int y = -shapes.getMinRow(rotation);
+        while (!MatrixOperations.intersect(field, shapes, rotation, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Plays a seeded Overgrowth game into a realistic mid-game state: a ragged stack with
+     * holes and vine lines, and a fresh brick at the top. The same seed and inputs give the
+     * same state on every engine.
+     *
+     * @param type the board engine
+     * @return the board, ready for its next brick to fall
+     * @throws IllegalStateException if the game ended while the fixture was built
+     */
+    static Board midGame(BoardType type) {
+        Board board = type.create(WIDTH, HEIGHT);
+        board.setGameMode(GameMode.OVERGROWTH);
+        board.newGame(MID_GAME_SEED);
+        Policy good = new GreedyPolicy();
+        Policy bad = new RandomPolicy(MID_GAME_SEED);
+        Placement placement = new Placement();
+        for (int brick = 0; brick < GOOD_BRICKS + BAD_BRICKS; brick++) {
+            steer(board, brick < GOOD_BRICKS ? good : bad, placement);
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (brick % BRICKS_PER_VINE == BRICKS_PER_VINE - 1 && !board.addVineLine()) {
+                throw new IllegalStateException("Mid-game fixture topped out on a vine line");
+            }
+            if (board.createNewBrick()) {
+                throw new IllegalStateException("Mid-game fixture topped out after " + brick + " bricks");
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Turns and moves the falling brick to where a policy would place it, stopping early
+     * if blocked.
+     *
+     * @param board the board
+     * @param policy the policy choosing the placement
+     * @param placement receives the chosen placement
+     */
+    static void steer(Board board, Policy policy, Placement placement) {
+        policy.choose(board.getBoardMatrix(), board.getCurrentRotationTable(),
+                board.getViewData().getxPosition(), board.getViewData().getyPosition(), placement);
+        int rotations = board.getCurrentRotationTable().size();
+        for (int i = 0; i < rotations && board.getCurrentRotation() != placement.getRotation(); i++) {
+            board.rotateLeftBrick();
+        }
+        while (board.getViewData().getxPosition() < placement.getX() && board.moveBrickRight()) {
+            // Steer right until in place or blocked
+        }
+        while (board.getViewData().getxPosition() > placement.getX() && board.moveBrickLeft()) {
+            // Steer left until in place or blocked
+        }
+    }
+
+    /**
+     * Saves a board's state for {@link Board#restoreState}.
+     *
+     * @param board the board
+     * @return the state, ready to be read
+     */
+    static ByteBuffer snapshot(Board board) {
+        ByteBuffer state = ByteBuffer.allocate(1024 + WIDTH * HEIGHT);
+        board.saveState(state);
+        state.flip();
+        return state;
+    }
+}
@@ -0,0 +1,178 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.controller.GameController;
+import com.comp2042.controller.ManualClock;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.bricks.Randomizer;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.GameMode;
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayArchive;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.replay.ReplayWriter;
+import com.comp2042.simulation.GreedyPolicy;
+import com.comp2042.simulation.HeadlessGameView;
+import com.comp2042.simulation.Placement;
+import com.comp2042.util.GameRandom;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the replay corpus of the replay benchmark: recorded games from an archive or a
+ * replay directory, or a seeded mix of games generated to look like human play.
+ */
+final class Corpus {
+
+    /** Bricks after which a generated game is cut off */
+    private static final int MAX_BRICKS = 300;
+
+    // Generated input timing: a gravity tick per 500 ms, a key press per 120 ms
+    private static final long GRAVITY_MILLIS = 500;
+    private static final long KEY_MILLIS = 120;
+
+    /** One brick in this many is hard-dropped; the rest fall with gravity and soft drops */
+    private static final int HARD_DROP_ONE_IN = 3;
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    private Corpus() {
+    }
+
+    /**
+     * Loads every complete replay of an archive directory or a directory of replay files.
+     *
+     * @param path the archive or replay directory
+     * @return the decoded replays
+     * @throws UncheckedIOException if the replays cannot be read
+     * @throws IllegalArgumentException if there are no complete replays
+     */
+    static List<Replay> load(Path path) {
+        List<Replay> replays = new ArrayList<>();
+        try {
+            if (Files.exists(path.resolve(ReplayArchive.DATA_FILE_NAME))) {
+                try (ReplayArchive archive = ReplayArchive.openReadOnly(path)) {
+                    for (ReplayArchive.Entry entry : archive.entries()) {
+                        // Copied to the heap: the archive's map is released when it closes
+                        ByteBuffer stored = archive.slice(entry);
+                        byte[] data = new byte[stored.remaining()];
+                        stored.get(data);
+                        addComplete(replays, data);
+                    }
+                }
+            } else {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(path, "*" + ReplayWriter.EXTENSION)) {
+                    for (Path file : files) {
+                        addComplete(replays, Files.readAllBytes(file));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (replays.isEmpty()) {
+            throw new IllegalArgumentException("No complete replays in " + path);
+        }
+        return replays;
+    }
+
+    private static void addComplete(List<Replay> replays, byte[] data) {
+        try {
+            Replay replay = Replay.read(data);
+            if (replay.isComplete()) {
+                replays.add(replay);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Skipping invalid replay: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Generates a seeded mix of games, the same number in every mode. Each brick is steered
+     * into a good spot with key presses and then falls with gravity ticks and the odd soft
+     * drop, or is hard-dropped, so the input stream looks like human play.
+     *
+     * @param gamesPerMode the number of games of each mode
+     * @param seed the seed of the first game
+     * @return the recorded games
+     */
+    static List<Replay> generate(int gamesPerMode, long seed) {
+        List<byte[]> saved = new ArrayList<>();
+        ReplayRecorder recorder = new ReplayRecorder(Randomizer.UNIFORM, saved::add);
+        long gameSeed = seed;
+        for (int game = 0; game < gamesPerMode; game++) {
+            for (GameMode mode : GameMode.values()) {
+                play(mode, gameSeed++, recorder);
+            }
+        }
+        List<Replay> replays = new ArrayList<>(saved.size());
+        for (byte[] data : saved) {
+            replays.add(Replay.read(data));
+        }
+        return replays;
+    }
+
+    private static void play(GameMode mode, long seed, ReplayRecorder recorder) {
+        Board board = BoardType.SIMPLE.create(Boards.WIDTH, Boards.HEIGHT, Randomizer.UNIFORM.create(seed));
+        board.setGameMode(mode);
+        HeadlessGameView view = new HeadlessGameView();
+        ManualClock clock = new ManualClock();
+        GameController controller = new GameController(view, board, clock, seed);
+        controller.setReplayRecorder(recorder);
+        GameRandom input = new GameRandom(~seed);
+        GreedyPolicy policy = new GreedyPolicy();
+        Placement placement = new Placement();
+
+        for (int brick = 0; brick < MAX_BRICKS && !view.isGameOver(); brick++) {
+            policy.choose(board.getBoardMatrix(), board.getCurrentRotationTable(),
+                    board.getViewData().getxPosition(), board.getViewData().getyPosition(), placement);
+            int rotations = board.getCurrentRotationTable().size();
+            for (int i = 0; i < rotations && board.getCurrentRotation() != placement.getRotation(); i++) {
+                clock.advance(KEY_MILLIS);
+                controller.onRotateEvent(ROTATE);
+            }
+            int x = board.getViewData().getxPosition();
+            while (x != placement.getX()) {
+                clock.advance(KEY_MILLIS);
+                int moved = (x < placement.getX() ? controller.onRightEvent(RIGHT) : controller.onLeftEvent(LEFT))
+                        .getxPosition();
+                if (moved == x) {
+                    break;
+                }
+                x = moved;
+            }
+            if (input.nextInt(HARD_DROP_ONE_IN) == 0) {
+                clock.advance(KEY_MILLIS);
+                controller.onHardDropEvent(HARD_DROP);
+                continue;
+            }
+            // Fall until the brick locks and the next one appears higher up
+            int y = -1;
+            while (!view.isGameOver() && board.getViewData().getyPosition() > y) {
+                y = board.getViewData().getyPosition();
+                boolean soft = input.nextInt(4) == 0;
+                clock.advance(soft ? KEY_MILLIS / 2 : GRAVITY_MILLIS);
+                controller.onDownEvent(soft ? SOFT_DROP : GRAVITY);
+            }
+        }
+        if (!view.isGameOver()) {
+            // Saves the game cut off at the brick limit with the score it had
+            recorder.finish(board.getScore().get(), clock.currentTimeMillis());
+            controller.setReplayRecorder(null);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.comp2042.benchmarks;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Starts JavaFX once per benchmark JVM and runs work on its application thread, where all
+ * scene graph changes must happen.
+ *
+ * <p>Unless a glass platform is chosen on the command line, JavaFX runs headless on Monocle
+ * with the software renderer, so the rendering benchmarks need no display. Pass
+ * {@code -jvmArgs -Dglass.platform=gtk} (or the native toolkit of the OS) to measure a real
+ * window system instead.
+ */
+final class FxPlatform {
+
+    private static boolean started = false;
+
+    private FxPlatform() {
+    }
+
+    /**
+     * Starts the JavaFX runtime if it is not running yet.
+     *
+     * @throws IllegalStateException if interrupted while JavaFX starts
+     */
+    static synchronized void start() {
+        if (started) {
+            return;
+        }
+        if (System.getProperty("glass.platform") == null) {
+            System.setProperty("glass.platform", "Monocle");
+            System.setProperty("monocle.platform", "Headless");
+            System.setProperty("prism.order", "sw");
+        }
+        CountDownLatch ready = new CountDownLatch(1);
+        Platform.startup(ready::countDown);
+        // Benchmarks open no windows; JavaFX must outlive the moments with none
+        Platform.setImplicitExit(false);
+        try {
+            ready.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting JavaFX.", e);
+        }
+        started = true;
+    }
+
+    /**
+     * Runs a task on the JavaFX application thread and waits for it.
+     *
+     * @param task the task
+     * @param <T> the type of the task's result
+     * @return the task's result
+     * @throws IllegalStateException if the task fails or the wait is interrupted
+     */
+    static <T> T call(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        Platform.runLater(future);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the JavaFX thread.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("JavaFX task failed: " + e.getCause(), e.getCause());
+        }
+    }
+}
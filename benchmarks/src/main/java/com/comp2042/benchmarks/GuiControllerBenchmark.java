@@ -0,0 +1,235 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import com.comp2042.simulation.GreedyPolicy;
+import com.comp2042.simulation.Placement;
+import com.comp2042.simulation.Policy;
+import com.comp2042.view.GuiController;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.image.WritableImage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of drawing the game screen: the real {@link GuiController}, loaded
+ * from its FXML, is driven with scripted board states through the same calls the game
+ * makes, on a headless JavaFX platform (see {@link FxPlatform}). This is the baseline for
+ * judging any rendering rewrite.
+ *
+ * <p>The scripts continue the seeded mid-game fixture (see {@link Boards#midGame}) with
+ * greedy play: one state per gravity step of the falling bricks for {@code refreshBrick},
+ * and one state per landed brick for the calls made when a brick locks. Before each call
+ * the controller's board is restored to the scripted state, as the ghost piece and the
+ * upcoming bricks are read from it; {@code restoreState} measures that share, along with
+ * the hop to the JavaFX thread, so it can be subtracted. A restore marks the whole field
+ * changed, so the lock benchmarks forget those marks and then lock the landed brick on the
+ * board, leaving the view only the cells a real lock changes; {@code lockBrick} is their share
+ * to subtract.
+ *
+ * <p>{@code frame} is everything the game does when a brick locks, plus rendering the
+ * scene into an offscreen image, which the other benchmarks leave out. Under
+ * {@link BenchmarkMain} the GC profiler's {@code gc.alloc.rate.norm} counts allocation on
+ * every thread, so it includes the JavaFX thread's garbage per call.
+ *
+ * <p>Every benchmark runs on each board renderer the game screen can be started with, the
+ * {@code Rectangle}-per-cell {@code nodes} renderer and the single {@code canvas}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GuiControllerBenchmark {
+
+    /** Scripted states per invocation; one hop to the JavaFX thread covers them all */
+    private static final int FRAMES = 64;
+
+    // Size of the game window, as opened by the main menu
+    private static final int SCENE_WIDTH = 500;
+    private static final int SCENE_HEIGHT = 510;
+
+    /** Value of the game screen's {@code tetris.renderer} system property */
+    @Param({"nodes", "canvas"})
+    public String renderer;
+
+    private Board board;
+    private GuiController gui;
+    private Scene scene;
+    private WritableImage image;
+    private ByteBuffer[] falling;
+    private ByteBuffer[] landed;
+
+    @Setup
+    public void setUp() {
+        falling = fallingStates(Boards.midGame(BoardType.SIMPLE));
+        landed = landedStates(Boards.midGame(BoardType.SIMPLE));
+
+        // The client plays on a SIMPLE board
+        board = Boards.midGame(BoardType.SIMPLE);
+        FxPlatform.start();
+        System.setProperty("tetris.renderer", renderer);
+        FxPlatform.call(() -> {
+            FXMLLoader loader = new FXMLLoader(GuiController.class.getClassLoader().getResource("gameLayout.fxml"));
+            Parent root = loader.load();
+            gui = loader.getController();
+            scene = new Scene(root, SCENE_WIDTH, SCENE_HEIGHT);
+            gui.setBoard(board);
+            gui.initGameView(board.getBoardMatrix(), board.getViewData());
+            // The scripts drive the view; the drop loop would move the board under them
+            gui.stopGameLoop();
+            image = new WritableImage(SCENE_WIDTH, SCENE_HEIGHT);
+            return scene.snapshot(image);
+        });
+    }
+
+    /**
+     * Saves a state per gravity step while bricks are steered into place and fall.
+     */
+    private static ByteBuffer[] fallingStates(Board script) {
+        ByteBuffer[] states = new ByteBuffer[FRAMES];
+        Policy policy = new GreedyPolicy();
+        Placement placement = new Placement();
+        int count = 0;
+        while (count < FRAMES) {
+            Boards.steer(script, policy, placement);
+            do {
+                states[count++] = Boards.snapshot(script);
+            } while (count < FRAMES && script.moveBrickDown());
+            lock(script);
+        }
+        return states;
+    }
+
+    /**
+     * Saves a state as each brick lands, before it is merged into the field.
+     */
+    private static ByteBuffer[] landedStates(Board script) {
+        ByteBuffer[] states = new ByteBuffer[FRAMES];
+        Policy policy = new GreedyPolicy();
+        Placement placement = new Placement();
+        for (int i = 0; i < FRAMES; i++) {
+            Boards.steer(script, policy, placement);
+            script.hardDrop();
+            states[i] = Boards.snapshot(script);
+            lock(script);
+        }
+        return states;
+    }
+
+    private static void lock(Board script) {
+        script.mergeBrickToBackground();
+        script.clearRows();
+        if (script.createNewBrick()) {
+            throw new IllegalStateException("Rendering script topped out");
+        }
+    }
+
+    private void restore(ByteBuffer state) {
+        state.rewind();
+        board.restoreState(state);
+    }
+
+    /**
+     * Restores a landed state and locks its brick, leaving only the lock's cells marked.
+     */
+    private void restoreAndLock(ByteBuffer state) {
+        restore(state);
+        board.getDirtyCells().clear();
+        lock(board);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public Board restoreState() {
+        return FxPlatform.call(() -> {
+            for (ByteBuffer state : falling) {
+                restore(state);
+            }
+            return board;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public Board lockBrick() {
+        return FxPlatform.call(() -> {
+            for (ByteBuffer state : landed) {
+                restoreAndLock(state);
+            }
+            return board;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public GuiController refreshBrick() {
+        return FxPlatform.call(() -> {
+            for (ByteBuffer state : falling) {
+                restore(state);
+                gui.refreshBrick(board.getViewData());
+            }
+            return gui;
+        });
+    }
+
+    /**
+     * Redraws the field after a brick locks; this includes updating the upcoming bricks.
+     */
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public GuiController refreshGameBackground() {
+        return FxPlatform.call(() -> {
+            for (ByteBuffer state : landed) {
+                restoreAndLock(state);
+                gui.refreshGameBackground(board.getBoardMatrix());
+            }
+            return gui;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public GuiController updateNextBricksDisplay() {
+        return FxPlatform.call(() -> {
+            for (ByteBuffer state : landed) {
+                restoreAndLock(state);
+                gui.updateNextBricksDisplay();
+            }
+            return gui;
+        });
+    }
+
+    /**
+     * Updates the view for a locked brick and renders the whole scene offscreen.
+     */
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public WritableImage frame() {
+        return FxPlatform.call(() -> {
+            for (ByteBuffer state : landed) {
+                restoreAndLock(state);
+                gui.refreshGameBackground(board.getBoardMatrix());
+                gui.refreshBrick(board.getViewData());
+                scene.snapshot(image);
+            }
+            return image;
+        });
+    }
+}
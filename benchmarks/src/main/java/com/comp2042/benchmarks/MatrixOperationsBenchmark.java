@@ -0,0 +1,97 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.model.ClearRow;
+import com.comp2042.util.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link MatrixOperations} kernels on seeded 10x25 fields of varying fill
+ * density and number of full rows. Collision and merge kernels are measured in both their
+ * matrix and packed {@link RotationTable} forms, with a T brick placed where it would land.
+ *
+ * <p>Results are returned to JMH, so nothing is eliminated as dead code. Run through
+ * {@link BenchmarkMain} to get allocation per operation from the GC profiler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    /** Chance of each cell of a partial stack row being filled, in percent */
+    @Param({"0", "35", "70"})
+    public int fillPercent;
+
+    /** Full rows at the bottom of the field, waiting to be cleared */
+    @Param({"0", "1", "4"})
+    public int fullRows;
+
+    private int[][] field;
+    private RotationTable shapes;
+    private int[][] shape;
+    private List<int[][]> rotations;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        field = Boards.create(fillPercent, fullRows, 2042);
+        shapes = BrickFactory.getBrick(BrickFactory.BRICK_TYPE_T).getRotationTable();
+        shape = shapes.copy(0);
+        rotations = BrickFactory.getBrick(BrickFactory.BRICK_TYPE_T).getShapeMatrix();
+        x = Boards.WIDTH / 2 - 1;
+        y = Boards.landingRow(field, shapes, 0, x);
+    }
+
+    @Benchmark
+    public boolean intersectMatrix() {
+        return MatrixOperations.intersect(field, shape, x, y);
+    }
+
+    @Benchmark
+    public boolean intersectPacked() {
+        return MatrixOperations.intersect(field, shapes, 0, x, y);
+    }
+
+    @Benchmark
+    public int[][] mergeMatrix() {
+        return MatrixOperations.merge(field, shape, x, y);
+    }
+
+    @Benchmark
+    public int[][] mergePacked() {
+        return MatrixOperations.merge(field, shapes, 0, x, y);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(field);
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(field);
+    }
+
+    @Benchmark
+    public List<int[][]> deepCopyList() {
+        return MatrixOperations.deepCopyList(rotations);
+    }
+}
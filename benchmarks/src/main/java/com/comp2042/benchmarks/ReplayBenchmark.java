@@ -0,0 +1,95 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.model.BoardType;
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayPlayer;
+import com.comp2042.simulation.HeadlessGameView;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark of the game loop: recorded games are replayed through
+ * {@link com.comp2042.controller.GameController} headlessly, as fast as possible, one whole
+ * game per operation.
+ *
+ * <p>The primary result is games/sec; the {@code inputs} and {@code pieces} counters give
+ * inputs/sec and pieces/sec, and under {@link BenchmarkMain} the GC profiler's
+ * {@code gc.alloc.rate.norm} is the allocation per game. Games are taken from the corpus in
+ * turn, so a long enough run covers the whole mix of modes and yields one macro number.
+ *
+ * <p>By default the corpus is a seeded mix of CLASSIC, OVERGROWTH and TREASURE_HUNT games
+ * generated to look like human play (see {@link Corpus#generate}); pass
+ * {@code -p corpus=PATH} to replay a recorded archive or replay directory instead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplayBenchmark {
+
+    /** Generated games of each mode when no corpus path is given */
+    private static final int GENERATED_GAMES_PER_MODE = 20;
+
+    /** Archive or replay directory to replay; empty for the generated mix */
+    @Param({""})
+    public String corpus;
+
+    @Param({"SIMPLE", "BITBOARD", "RING_BUFFER"})
+    public BoardType boardType;
+
+    private List<Replay> replays;
+    private int next;
+
+    /**
+     * Inputs and bricks played, reported by JMH as rates next to games/sec.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long inputs;
+        public long pieces;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            inputs = 0;
+            pieces = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // Replays are decoded once, so only playing them is measured
+        replays = corpus.isEmpty()
+                ? Corpus.generate(GENERATED_GAMES_PER_MODE, Boards.MID_GAME_SEED)
+                : Corpus.load(Paths.get(corpus));
+        next = 0;
+    }
+
+    @Benchmark
+    public int game(Counters counters) {
+        Replay replay = replays.get(next);
+        next = next + 1 == replays.size() ? 0 : next + 1;
+        ReplayPlayer player = new ReplayPlayer(replay, new HeadlessGameView(), boardType);
+        player.playToEnd();
+        counters.inputs += replay.getEventCount();
+        counters.pieces += player.getSummary().getPieces();
+        return player.getBoard().getScore().get();
+    }
+}
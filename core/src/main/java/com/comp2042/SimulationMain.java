@@ -0,0 +1,136 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Randomizer;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.GameMode;
+import com.comp2042.replay.ReplayArchive;
+import com.comp2042.simulation.BatchSimulation;
+import com.comp2042.simulation.GameSimulator;
+import com.comp2042.simulation.PolicyType;
+import com.comp2042.simulation.SimulationReport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * Command-line entry point that plays a batch of seeded games headlessly and prints
+ * throughput, score and latency statistics. Runs from the core module alone; no display
+ * or JavaFX runtime is needed.
+ *
+ * <p>Example: {@code java -cp core/target/classes com.comp2042.SimulationMain --games 10000 --policy greedy}
+ */
+public final class SimulationMain {
+
+    // Defaults
+    /** Number of games played when --games is not given */
+    private static final int DEFAULT_GAMES = 1000;
+
+    /** Bricks after which a game is cut off when --max-pieces is not given */
+    private static final int DEFAULT_MAX_PIECES = 1000;
+
+    /** Game time per brick when --piece-millis is not given (a vine every 10 bricks in Overgrowth) */
+    private static final long DEFAULT_PIECE_MILLIS = 1000;
+
+    /** Exit status for invalid arguments */
+    private static final int EXIT_USAGE = 2;
+
+    /** Exit status when the replay archive cannot be written */
+    private static final int EXIT_IO = 3;
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: SimulationMain [options]",
+            "  --games N          number of games to play (default " + DEFAULT_GAMES + ")",
+            "  --mode MODE        CLASSIC, OVERGROWTH or TREASURE_HUNT (default CLASSIC)",
+            "  --policy POLICY    RANDOM or GREEDY (default GREEDY)",
+            "  --board TYPE       SIMPLE, BITBOARD or RING_BUFFER (default SIMPLE)",
+            "  --randomizer R     UNIFORM, BAG_7, BAG_14 or HISTORY (default UNIFORM)",
+            "  --seed S           seed of the first game; game i uses S + i (default 0)",
+            "  --threads T        worker threads (default: available processors)",
+            "  --max-pieces K     cut games off after K bricks (default " + DEFAULT_MAX_PIECES + ")",
+            "  --piece-millis MS  game time per brick, drives Overgrowth vines (default " + DEFAULT_PIECE_MILLIS + ")",
+            "  --record DIR       append every game to the replay archive in DIR");
+
+    private SimulationMain() {
+    }
+
+    public static void main(String[] args) {
+        int games = DEFAULT_GAMES;
+        GameMode mode = GameMode.CLASSIC;
+        PolicyType policy = PolicyType.GREEDY;
+        BoardType boardType = BoardType.SIMPLE;
+        Randomizer randomizer = Randomizer.UNIFORM;
+        long seed = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxPieces = DEFAULT_MAX_PIECES;
+        long pieceMillis = DEFAULT_PIECE_MILLIS;
+        Path record = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--games" -> games = Integer.parseInt(value);
+                    case "--mode" -> mode = GameMode.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--policy" -> policy = PolicyType.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--board" -> boardType = BoardType.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--randomizer" -> randomizer = Randomizer.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    case "--max-pieces" -> maxPieces = Integer.parseInt(value);
+                    case "--piece-millis" -> pieceMillis = Long.parseLong(value);
+                    case "--record" -> record = Paths.get(value);
+                    default -> throw new IllegalArgumentException("Unknown option: " + option);
+                }
+            }
+
+            GameSimulator simulator = new GameSimulator(mode, boardType, randomizer, maxPieces, pieceMillis);
+            BatchSimulation batch = new BatchSimulation(simulator, policy);
+            System.out.printf(Locale.ROOT, "Playing %d %s games with the %s policy on %s boards, %s bricks, %d threads%n",
+                    games, mode, policy, boardType, randomizer, threads);
+
+            if (record == null) {
+                long start = System.nanoTime();
+                SimulationReport report = batch.run(games, seed, threads);
+                System.out.print(report.format(System.nanoTime() - start));
+                return;
+            }
+            try (ReplayArchive archive = ReplayArchive.open(record)) {
+                long start = System.nanoTime();
+                SimulationReport report = batch.run(games, seed, threads, replay -> {
+                    try {
+                        archive.append(replay);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                System.out.print(report.format(System.nanoTime() - start));
+                System.out.printf(Locale.ROOT, "archive:      %d replays in %s%n", archive.size(), record);
+            } catch (IllegalStateException e) {
+                // A failed append surfaces as the failure of the game that was being saved
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                }
+                throw e;
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing replays: " + e.getMessage());
+            System.exit(EXIT_IO);
+        } catch (IllegalArgumentException e) {
+            // Covers NumberFormatException and unknown enum names
+            System.err.println("Error: " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(EXIT_USAGE);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.comp2042;
+
+import com.comp2042.model.BoardType;
+import com.comp2042.replay.ReplayArchive;
+import com.comp2042.replay.ReplayVerifier;
+import com.comp2042.replay.VerificationReport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * Command-line entry point that re-simulates a directory or archive of replays in parallel
+ * and reports every game whose score, bricks, lines or line clears came out differently
+ * than recorded. Exits with status 1 on any mismatch, so it can guard engine changes in CI.
+ *
+ * <p>Example: {@code java -cp core/target/classes com.comp2042.VerifyMain ~/.tetris_replays --board bitboard}
+ */
+public final class VerifyMain {
+
+    /** Exit status when a replay did not match or could not be read */
+    private static final int EXIT_MISMATCH = 1;
+
+    /** Exit status for invalid arguments */
+    private static final int EXIT_USAGE = 2;
+
+    /** Exit status when the replays cannot be listed */
+    private static final int EXIT_IO = 3;
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: VerifyMain PATH [options]",
+            "  PATH               a replay archive directory, or a directory of .replay files",
+            "  --board TYPE       SIMPLE, BITBOARD or RING_BUFFER (default SIMPLE)",
+            "  --threads T        worker threads (default: available processors)");
+
+    private VerifyMain() {
+    }
+
+    public static void main(String[] args) {
+        Path path = null;
+        BoardType boardType = BoardType.SIMPLE;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                if (!option.startsWith("--")) {
+                    path = Paths.get(option);
+                    continue;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--board" -> boardType = BoardType.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option: " + option);
+                }
+            }
+            if (path == null) {
+                throw new IllegalArgumentException("Missing replay path");
+            }
+
+            ReplayVerifier verifier = new ReplayVerifier(boardType);
+            boolean archived = Files.exists(path.resolve(ReplayArchive.DATA_FILE_NAME));
+            System.out.printf(Locale.ROOT, "Verifying %s %s on %s boards, %d threads%n",
+                    archived ? "archive" : "replay files in", path, boardType, threads);
+
+            long start = System.nanoTime();
+            VerificationReport report;
+            if (archived) {
+                try (ReplayArchive archive = ReplayArchive.openReadOnly(path)) {
+                    report = verifier.verify(archive, threads);
+                }
+            } else {
+                report = verifier.verify(path, threads);
+            }
+            System.out.print(report.format(System.nanoTime() - start));
+            if (!report.isClean()) {
+                System.exit(EXIT_MISMATCH);
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading replays: " + e.getMessage());
+            System.exit(EXIT_IO);
+        } catch (IllegalArgumentException e) {
+            // Covers NumberFormatException and unknown enum names
+            System.err.println("Error: " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(EXIT_USAGE);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.comp2042.controller;
+
+/**
+ * Source of the repeating timers used by game modes, such as the Overgrowth vine timer.
+ *
+ * <p>The desktop client backs this with JavaFX timelines. Headless runs use
+ * {@link ManualClock}, which only moves when told to, so timed mode rules can be driven
+ * as fast as the CPU allows and replayed deterministically.
+ */
+public interface GameClock {
+
+    /**
+     * A repeating task created by {@link GameClock#every}. Timers start stopped.
+     */
+    interface Timer {
+
+        /**
+         * Starts the timer, or resumes it from where it was paused.
+         */
+        void play();
+
+        /**
+         * Pauses the timer, keeping the time already elapsed towards the next tick.
+         */
+        void pause();
+
+        /**
+         * Stops the timer. A later {@link #play()} waits a full period before the next tick.
+         */
+        void stop();
+    }
+
+    /**
+     * Creates a timer that runs a task once per period while it is playing.
+     *
+     * @param periodMillis the time between ticks in milliseconds
+     * @param task the task to run on every tick
+     * @return the timer, initially stopped
+     */
+    Timer every(long periodMillis, Runnable task);
+
+    /**
+     * Returns the clock's current time, used to timestamp recorded input. Only differences
+     * between two readings are meaningful.
+     *
+     * @return the current time in milliseconds
+     */
+    long currentTimeMillis();
+}
@@ -0,0 +1,336 @@
+package com.comp2042.controller;
+
+import com.comp2042.events.InputEventListener;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.events.EventSource;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.DownData;
+import com.comp2042.model.GameMode;
+import com.comp2042.model.ViewData;
+import com.comp2042.replay.ReplayFormat;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.util.GameRandom;
+
+/**
+ * Applies the player's input and the mode rules to a board and tells the view what to show.
+ *
+ * <p>The controller only talks to a {@link GameView} and a {@link GameClock}, so it has no
+ * UI toolkit dependency and can play complete games headlessly.
+ */
+public class GameController implements InputEventListener {
+
+    // Board dimensions
+    /** Number of rows (height) in the game board */
+    private static final int BOARD_HEIGHT = 25;
+    
+    /** Number of columns (width) in the game board */
+    private static final int BOARD_WIDTH = 10;
+
+    // Scoring rules
+    /** Points awarded for manually moving a brick down */
+    private static final int MANUAL_MOVE_SCORE = 1;
+    
+    /** Points awarded per row when hard dropping a brick */
+    private static final int HARD_DROP_SCORE_PER_ROW = 2;
+
+    // Overgrowth rules
+    /** Time between vine lines in OVERGROWTH mode, in milliseconds */
+    private static final long VINE_INTERVAL_MILLIS = 10_000;
+
+    private final Board board;
+
+    private final GameView view;
+
+    private final GameClock clock;
+    
+    private GameClock.Timer overgrowthTimer;
+
+    // Records every input and vine line when set; null when replays are off
+    private ReplayRecorder recorder;
+
+    // Reused for every down and hard-drop move so gravity ticks do not allocate
+    private final DownData downData = new DownData(null, null);
+
+    public GameController(GameView c, GameClock clock) {
+        this(c, GameMode.CLASSIC, clock);
+    }
+    
+    public GameController(GameView c, GameMode mode, GameClock clock) {
+        this(c, mode, BoardType.SIMPLE, clock);
+    }
+
+    /**
+     * Creates a controller that runs the game on the given board engine.
+     *
+     * @param c the view
+     * @param mode the game mode to play
+     * @param boardType the board implementation to use
+     * @param clock the clock driving timed mode rules
+     */
+    public GameController(GameView c, GameMode mode, BoardType boardType, GameClock clock) {
+        this(c, withMode(boardType.create(BOARD_WIDTH, BOARD_HEIGHT), mode), clock);
+    }
+
+    /**
+     * Creates a controller for an existing board, playing the board's current game mode.
+     * A new game with an unpredictable seed is started on the board.
+     *
+     * @param c the view
+     * @param board the board to play on
+     * @param clock the clock driving timed mode rules
+     */
+    public GameController(GameView c, Board board, GameClock clock) {
+        this(c, board, clock, GameRandom.newSeed());
+    }
+
+    /**
+     * Creates a controller for an existing board and starts a reproducible game on it:
+     * the same seed and the same inputs always produce the same game.
+     *
+     * @param c the view
+     * @param board the board to play on
+     * @param clock the clock driving timed mode rules
+     * @param seed the seed of the game
+     */
+    public GameController(GameView c, Board board, GameClock clock, long seed) {
+        this.board = board;
+        this.view = c;
+        this.clock = clock;
+        board.newGame(seed); // Initialize the game (including treasure field for TREASURE_HUNT mode)
+        view.setEventListener(this);
+        view.setBoard(board); // Set board reference for next bricks, score and level display
+        view.initGameView(board.getBoardMatrix(), board.getViewData());
+        view.setGameController(this); // Set GameController reference for pause/resume
+        
+        // Initialize overgrowth timer if in OVERGROWTH mode
+        if (board.getGameMode() == GameMode.OVERGROWTH) {
+            initializeOvergrowthTimer();
+        }
+    }
+
+    private static Board withMode(Board board, GameMode mode) {
+        board.setGameMode(mode);
+        return board;
+    }
+
+    /**
+     * Returns the board this controller plays on.
+     *
+     * @return the game board
+     */
+    public Board getBoard() {
+        return board;
+    }
+    
+    /**
+     * Records this and every following game with the given recorder, starting with the game
+     * in progress. The recorder is registered with the board to capture the outcome.
+     *
+     * @param recorder the recorder, or null to stop recording
+     */
+    public void setReplayRecorder(ReplayRecorder recorder) {
+        if (this.recorder != null) {
+            board.removeGameListener(this.recorder);
+        }
+        this.recorder = recorder;
+        if (recorder != null) {
+            board.addGameListener(recorder);
+            recorder.begin(board, clock.currentTimeMillis());
+        }
+    }
+
+    private void record(int event) {
+        if (recorder != null) {
+            recorder.record(event, clock.currentTimeMillis());
+        }
+    }
+
+    private void finishRecording() {
+        if (recorder != null) {
+            recorder.finish(board.getScore().get(), clock.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Initializes the overgrowth timer that adds vine lines every 10 seconds.
+     */
+    private void initializeOvergrowthTimer() {
+        overgrowthTimer = clock.every(VINE_INTERVAL_MILLIS, this::onVineTick);
+        overgrowthTimer.play();
+    }
+
+    /**
+     * Grows a vine line, ending the game if the field is full to the top. Called by the
+     * overgrowth timer; replay playback calls it directly at the recorded times.
+     */
+    public void onVineTick() {
+        record(ReplayFormat.VINE);
+        if (board.addVineLine()) {
+            // Operation successful - refresh the view
+            refreshGameView();
+        } else {
+            // Game over - top row has blocks
+            finishRecording();
+            view.updateHighScore(board.getScore().get());
+            view.gameOver();
+            if (overgrowthTimer != null) {
+                overgrowthTimer.stop();
+            }
+        }
+    }
+    
+    /**
+     * Pauses or resumes the overgrowth timer.
+     * Used when the game is paused/unpaused.
+     * 
+     * @param pause true to pause, false to resume
+     */
+    public void pauseOvergrowthTimer(boolean pause) {
+        if (overgrowthTimer != null) {
+            if (pause) {
+                overgrowthTimer.pause();
+            } else {
+                overgrowthTimer.play();
+            }
+        }
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        record(event.getEventSource() == EventSource.USER ? ReplayFormat.SOFT_DROP : ReplayFormat.GRAVITY);
+        boolean canMove = board.moveBrickDown();
+        ClearRow clearRow = null;
+        if (!canMove) {
+            clearRow = handleBrickLocked();
+        } else {
+            awardManualMoveScore(event);
+        }
+        downData.set(clearRow, board.getViewData());
+        return downData;
+    }
+
+    /**
+     * Handles the logic when a brick can no longer move down (is locked).
+     * Merges the brick to the background, clears completed rows, updates score,
+     * checks for game over, and refreshes the view.
+     *
+     * @return ClearRow information about cleared rows, or null if no rows were cleared
+     */
+    private ClearRow handleBrickLocked() {
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        updateScoreForClearedRows(clearRow);
+        
+        // Check for victory condition in Treasure Hunt mode
+        if (board.getGameMode() == GameMode.TREASURE_HUNT && !board.hasRemainingTreasure()) {
+            finishRecording();
+            view.showVictory();
+            view.gameOver(); // Stop the game loop
+        } else {
+            checkAndHandleGameOver();
+        }
+        
+        refreshGameView();
+        return clearRow;
+    }
+
+    /**
+     * Updates the score if any rows were cleared.
+     *
+     * @param clearRow the result of row clearing operation
+     */
+    private void updateScoreForClearedRows(ClearRow clearRow) {
+        if (clearRow.getLinesRemoved() > 0) {
+            board.getScore().add(clearRow.getScoreBonus());
+        }
+    }
+
+    /**
+     * Checks if the game is over (new brick cannot be created) and triggers game over if needed.
+     */
+    private void checkAndHandleGameOver() {
+        if (board.createNewBrick()) {
+            finishRecording();
+            // Update high score before showing game over
+            int currentScore = board.getScore().get();
+            view.updateHighScore(currentScore);
+            view.gameOver();
+            // Stop overgrowth timer if it's running
+            if (overgrowthTimer != null) {
+                overgrowthTimer.stop();
+            }
+        }
+    }
+
+    /**
+     * Refreshes the game view to display the current board state.
+     */
+    private void refreshGameView() {
+        view.refreshGameBackground(board.getBoardMatrix());
+    }
+
+    /**
+     * Awards score points for manually moving a brick down (user input).
+     *
+     * @param event the move event that triggered this action
+     */
+    private void awardManualMoveScore(MoveEvent event) {
+        if (event.getEventSource() == EventSource.USER) {
+            board.getScore().add(MANUAL_MOVE_SCORE);
+        }
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        record(ReplayFormat.LEFT);
+        board.moveBrickLeft();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        record(ReplayFormat.RIGHT);
+        board.moveBrickRight();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        record(ReplayFormat.ROTATE);
+        board.rotateLeftBrick();
+        return board.getViewData();
+    }
+    
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        record(ReplayFormat.HARD_DROP);
+        // Hard drop the brick to the bottom
+        int rowsDropped = board.hardDrop();
+        
+        // Award score for hard drop (2 points per row)
+        if (rowsDropped > 0 && event.getEventSource() == EventSource.USER) {
+            board.getScore().add(rowsDropped * HARD_DROP_SCORE_PER_ROW);
+        }
+        
+        // The brick is now at the bottom, so it can't move down anymore
+        // Handle brick locking (merge, clear rows, etc.)
+        ClearRow clearRow = handleBrickLocked();
+        
+        downData.set(clearRow, board.getViewData());
+        return downData;
+    }
+
+    @Override
+    public void createNewGame() {
+        // A game abandoned for a new one is saved with the score it had
+        finishRecording();
+        board.newGame();
+        if (recorder != null) {
+            recorder.begin(board, clock.currentTimeMillis());
+        }
+        refreshGameView();
+    }
+}
+
@@ -0,0 +1,70 @@
+package com.comp2042.controller;
+
+import com.comp2042.events.InputEventListener;
+import com.comp2042.model.Board;
+import com.comp2042.model.ViewData;
+
+/**
+ * Everything the {@link GameController} needs from a user interface.
+ *
+ * <p>The JavaFX client implements this with its game screen. Headless runs can supply a
+ * view that ignores or records the calls, which lets complete games, including the mode
+ * rules, victory and game over, be played without a display.
+ */
+public interface GameView {
+
+    /**
+     * Sets the listener that receives the player's input.
+     *
+     * @param eventListener the input listener, normally the controller
+     */
+    void setEventListener(InputEventListener eventListener);
+
+    /**
+     * Gives the view the board it displays, so it can read upcoming bricks and the
+     * ghost piece and subscribe to score and level changes.
+     *
+     * @param board the game board
+     */
+    void setBoard(Board board);
+
+    /**
+     * Draws the initial field and falling brick and starts the view's game loop.
+     *
+     * @param boardMatrix the game board matrix
+     * @param brick the initial brick data
+     */
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Sets the controller, so the view can pause and resume its timers.
+     *
+     * @param controller the game controller
+     */
+    void setGameController(GameController controller);
+
+    /**
+     * Redraws the settled blocks of the field.
+     *
+     * @param boardMatrix the game board matrix
+     */
+    void refreshGameBackground(int[][] boardMatrix);
+
+    /**
+     * Ends the game after a loss.
+     */
+    void gameOver();
+
+    /**
+     * Shows that the player has won (all treasure cleared in Treasure Hunt mode).
+     */
+    void showVictory();
+
+    /**
+     * Reports the final score of a game.
+     *
+     * @param currentScore the score to compare with the high score
+     * @return true if the score is a new high score
+     */
+    boolean updateHighScore(int currentScore);
+}
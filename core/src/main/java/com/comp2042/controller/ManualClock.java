@@ -0,0 +1,103 @@
+package com.comp2042.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link GameClock} whose time only moves when {@link #advance} is called.
+ * Ticks run synchronously on the calling thread, in time order, so headless games and
+ * tests see exactly the same sequence of timed events on every run.
+ */
+public class ManualClock implements GameClock {
+
+    private final List<ManualTimer> timers = new ArrayList<>();
+    private long now = 0;
+
+    @Override
+    public Timer every(long periodMillis, Runnable task) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("Invalid timer period: " + periodMillis + ". Must be positive.");
+        }
+        ManualTimer timer = new ManualTimer(periodMillis, task);
+        timers.add(timer);
+        return timer;
+    }
+
+    /**
+     * Returns the time elapsed on this clock.
+     *
+     * @return the current time in milliseconds
+     */
+    @Override
+    public long currentTimeMillis() {
+        return now;
+    }
+
+    /**
+     * Moves the clock forward, running every tick that falls due on the way.
+     * A tick due exactly at the new time is run.
+     *
+     * @param millis how far to move the clock, in milliseconds
+     * @throws IllegalArgumentException if millis is negative
+     */
+    public void advance(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Cannot move the clock backwards: " + millis);
+        }
+        long target = now + millis;
+        while (true) {
+            ManualTimer next = null;
+            for (ManualTimer timer : timers) {
+                if (timer.playing && timer.nextDue <= target && (next == null || timer.nextDue < next.nextDue)) {
+                    next = timer;
+                }
+            }
+            if (next == null) {
+                break;
+            }
+            now = next.nextDue;
+            next.nextDue += next.period;
+            // The task may pause or stop its own timer
+            next.task.run();
+        }
+        now = target;
+    }
+
+    private final class ManualTimer implements Timer {
+
+        private final long period;
+        private final Runnable task;
+        private boolean playing = false;
+        // Time still to wait when not playing, absolute due time while playing
+        private long remaining;
+        private long nextDue;
+
+        ManualTimer(long period, Runnable task) {
+            this.period = period;
+            this.task = task;
+            this.remaining = period;
+        }
+
+        @Override
+        public void play() {
+            if (!playing) {
+                nextDue = now + remaining;
+                playing = true;
+            }
+        }
+
+        @Override
+        public void pause() {
+            if (playing) {
+                remaining = nextDue - now;
+                playing = false;
+            }
+        }
+
+        @Override
+        public void stop() {
+            playing = false;
+            remaining = period;
+        }
+    }
+}
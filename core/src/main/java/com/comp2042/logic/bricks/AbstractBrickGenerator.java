@@ -0,0 +1,122 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.util.GameRandom;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Base class for randomizers that deal brick types from a seeded stream.
+ *
+ * <p>Upcoming types are kept in a ring buffer of ints, filled lazily as far ahead as anyone
+ * has peeked. Subclasses only decide which type comes next; dealing, peeking and reseeding
+ * never allocate once the buffer is deep enough for the longest preview.
+ */
+public abstract class AbstractBrickGenerator implements BrickGenerator {
+
+    /** Starting queue capacity; must be a power of two */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] queue = new int[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+    private GameRandom random;
+
+    /**
+     * Picks the type that follows everything drawn so far.
+     *
+     * @param random the piece stream of the current game
+     * @return a brick type, one of the {@link BrickFactory} type constants
+     */
+    protected abstract int nextType(GameRandom random);
+
+    /**
+     * Resets the randomizer's own state (bag, history) at the start of a sequence.
+     * Called by {@link #reseed(GameRandom)}; must not allocate.
+     */
+    protected void restart() {
+    }
+
+    /**
+     * Writes the randomizer's own state (bag, history) after the queue.
+     *
+     * @param out the destination
+     */
+    protected void saveRandomizerState(ByteBuffer out) {
+    }
+
+    /**
+     * Reads the state written by {@link #saveRandomizerState}.
+     *
+     * @param in the source
+     */
+    protected void restoreRandomizerState(ByteBuffer in) {
+    }
+
+    @Override
+    public void saveState(ByteBuffer out) {
+        out.putShort((short) size);
+        for (int i = 0; i < size; i++) {
+            out.put((byte) queue[(head + i) & (queue.length - 1)]);
+        }
+        saveRandomizerState(out);
+    }
+
+    @Override
+    public void restoreState(ByteBuffer in) {
+        head = 0;
+        size = 0;
+        int queued = in.getShort();
+        while (queue.length < queued) {
+            grow();
+        }
+        for (int i = 0; i < queued; i++) {
+            queue[i] = in.get();
+        }
+        size = queued;
+        restoreRandomizerState(in);
+    }
+
+    @Override
+    public void reseed(GameRandom random) {
+        this.random = random;
+        head = 0;
+        size = 0;
+        restart();
+    }
+
+    @Override
+    public int peekType(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Invalid preview index: " + index + ". Must not be negative.");
+        }
+        while (size <= index) {
+            if (size == queue.length) {
+                grow();
+            }
+            queue[(head + size) & (queue.length - 1)] = nextType(random);
+            size++;
+        }
+        return queue[(head + index) & (queue.length - 1)];
+    }
+
+    @Override
+    public Brick getBrick() {
+        int type = peekType(0);
+        head = (head + 1) & (queue.length - 1);
+        size--;
+        return BrickFactory.getBrick(type);
+    }
+
+    /**
+     * Doubles the queue, unwrapping it so the oldest entry lands in slot 0.
+     * Only happens the first time a preview looks further ahead than ever before.
+     */
+    private void grow() {
+        int[] larger = new int[queue.length * 2];
+        for (int i = 0; i < size; i++) {
+            larger[i] = queue[(head + i) & (queue.length - 1)];
+        }
+        queue = larger;
+        head = 0;
+    }
+}
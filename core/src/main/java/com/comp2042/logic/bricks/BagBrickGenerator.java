@@ -0,0 +1,81 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.util.GameRandom;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Deals bricks from a shuffled bag holding every type the same number of times, refilling
+ * the bag when it is empty. With one copy of each type (the 7-bag) no type is ever more
+ * than 12 bricks away; two copies (the 14-bag) allow short repeats while keeping the
+ * long-run counts even.
+ */
+public class BagBrickGenerator extends AbstractBrickGenerator {
+
+    private final int[] bag;
+    private int drawn;
+
+    /**
+     * Constructs a bag generator with an unpredictable sequence.
+     *
+     * @param copies how many times each type is in the bag
+     * @throws IllegalArgumentException if copies is not positive
+     */
+    public BagBrickGenerator(int copies) {
+        this(copies, GameRandom.newSeed());
+    }
+
+    /**
+     * Constructs a bag generator whose sequence is fully determined by the seed.
+     *
+     * @param copies how many times each type is in the bag
+     * @param seed the seed of the brick sequence
+     * @throws IllegalArgumentException if copies is not positive
+     */
+    public BagBrickGenerator(int copies, long seed) {
+        if (copies <= 0) {
+            throw new IllegalArgumentException("Invalid bag copies: " + copies + ". Must be positive.");
+        }
+        bag = new int[copies * BrickFactory.TOTAL_BRICK_TYPES];
+        reseed(new GameRandom(seed));
+    }
+
+    @Override
+    protected void restart() {
+        drawn = bag.length;
+    }
+
+    @Override
+    protected void saveRandomizerState(ByteBuffer out) {
+        out.putShort((short) drawn);
+        for (int type : bag) {
+            out.put((byte) type);
+        }
+    }
+
+    @Override
+    protected void restoreRandomizerState(ByteBuffer in) {
+        drawn = in.getShort();
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = in.get();
+        }
+    }
+
+    @Override
+    protected int nextType(GameRandom random) {
+        if (drawn == bag.length) {
+            // Refill in type order, then Fisher-Yates shuffle so the order depends only on the stream
+            for (int i = 0; i < bag.length; i++) {
+                bag[i] = i % BrickFactory.TOTAL_BRICK_TYPES;
+            }
+            for (int i = bag.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = bag[i];
+                bag[i] = bag[j];
+                bag[j] = swap;
+            }
+            drawn = 0;
+        }
+        return bag[drawn++];
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.util.MatrixOperations;
+
+import java.util.List;
+
+public interface Brick {
+
+    /**
+     * Returns the shared, precomputed rotation states of this brick type.
+     * Use {@link #getShapeMatrix()} for private copies of every state.
+     *
+     * @return the immutable rotation table
+     */
+    RotationTable getRotationTable();
+
+    /**
+     * Returns a rotation state packed into a 16-bit occupancy mask.
+     *
+     * @param rotation the rotation index
+     * @return the packed mask (see {@link RotationTable} for the bit layout)
+     */
+    default int getShapeMask(int rotation) {
+        return getRotationTable().getMask(rotation);
+    }
+
+    /**
+     * Returns the color value of this brick's cells.
+     *
+     * @return the brick color
+     */
+    default byte getColor() {
+        return getRotationTable().getColor();
+    }
+
+    /**
+     * Returns deep copies of every rotation state that the caller may modify freely.
+     *
+     * @return a new list of copied shape matrices
+     */
+    default List<int[][]> getShapeMatrix() {
+        return MatrixOperations.deepCopyList(getRotationTable().asList());
+    }
+}
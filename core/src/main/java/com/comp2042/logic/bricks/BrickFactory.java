@@ -3,6 +3,7 @@ package com.comp2042.logic.bricks;
 /**
  * Factory class for creating Brick instances.
  * Implements the Factory Design Pattern to centralize brick creation logic.
+ * Bricks are stateless, so the factory hands out one shared instance per type (Flyweight Pattern).
  * 
  * <p>This factory maps integer types (0-6) to specific brick implementations:
  * <ul>
@@ -42,26 +43,36 @@ public class BrickFactory {
     /** Total number of brick types available */
     public static final int TOTAL_BRICK_TYPES = 7;
 
+    // Bricks hold no per-instance state, so one shared instance (flyweight) per type is enough
+    private static final Brick I_BRICK = new IBrick();
+    private static final Brick J_BRICK = new JBrick();
+    private static final Brick L_BRICK = new LBrick();
+    private static final Brick O_BRICK = new OBrick();
+    private static final Brick S_BRICK = new SBrick();
+    private static final Brick T_BRICK = new TBrick();
+    private static final Brick Z_BRICK = new ZBrick();
+
     // We don't want to instantiate this factory class
     private BrickFactory() {
     }
 
     /**
-     * Creates and returns a Brick instance based on the specified type.
+     * Returns the shared Brick instance for the specified type.
+     * Bricks are immutable flyweights, so the same instance is returned for every call with the same type.
      * 
      * @param type the brick type (0-6). Values outside this range will result in IllegalArgumentException
-     * @return a new Brick instance of the specified type
+     * @return the Brick instance of the specified type
      * @throws IllegalArgumentException if the type is not in the valid range [0, 6]
      */
     public static Brick getBrick(int type) {
         return switch (type) {
-            case BRICK_TYPE_I -> new IBrick();
-            case BRICK_TYPE_J -> new JBrick();
-            case BRICK_TYPE_L -> new LBrick();
-            case BRICK_TYPE_O -> new OBrick();
-            case BRICK_TYPE_S -> new SBrick();
-            case BRICK_TYPE_T -> new TBrick();
-            case BRICK_TYPE_Z -> new ZBrick();
+            case BRICK_TYPE_I -> I_BRICK;
+            case BRICK_TYPE_J -> J_BRICK;
+            case BRICK_TYPE_L -> L_BRICK;
+            case BRICK_TYPE_O -> O_BRICK;
+            case BRICK_TYPE_S -> S_BRICK;
+            case BRICK_TYPE_T -> T_BRICK;
+            case BRICK_TYPE_Z -> Z_BRICK;
             default -> throw new IllegalArgumentException(
                     "Invalid brick type: " + type + ". Valid range is 0-6.");
         };
@@ -0,0 +1,96 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.util.GameRandom;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public interface BrickGenerator {
+
+    /**
+     * Removes the next brick from the queue and returns it.
+     *
+     * @return the brick that spawns now
+     */
+    Brick getBrick();
+
+    /**
+     * Returns the type of a queued brick without removing it or copying anything.
+     * Previews and bots can look arbitrarily far ahead; the queue is extended as needed,
+     * and looking ahead never changes which bricks are dealt.
+     *
+     * @param index how far ahead to look (0 is the brick returned by the next {@link #getBrick()})
+     * @return the brick type, one of the {@link BrickFactory} type constants
+     * @throws IllegalArgumentException if index is negative
+     */
+    int peekType(int index);
+
+    /**
+     * Returns a queued brick without removing it. Bricks are shared flyweights, so this
+     * never allocates.
+     *
+     * @param index how far ahead to look (0 is the brick returned by the next {@link #getBrick()})
+     * @return the queued brick
+     * @throws IllegalArgumentException if index is negative
+     */
+    default Brick peek(int index) {
+        return BrickFactory.getBrick(peekType(index));
+    }
+
+    /**
+     * Returns the brick that spawns next, without removing it.
+     *
+     * @return the next brick
+     */
+    default Brick getNextBrick() {
+        return peek(0);
+    }
+    
+    /**
+     * Gets the next N bricks without removing them from the queue.
+     * Builds a new list on every call; use {@link #peek(int)} where that matters.
+     * 
+     * @param count the number of next bricks to retrieve
+     * @return a list of the next N bricks
+     */
+    default List<Brick> getNextBricks(int count) {
+        List<Brick> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(peek(i));
+        }
+        return result;
+    }
+
+    /**
+     * Restarts the brick sequence from the given stream. Called by the board at the start of
+     * every game, so the sequence is determined by the game's seed. The generator may keep
+     * using the stream; generators with a fixed sequence can ignore it.
+     *
+     * @param random the piece stream of the new game
+     */
+    default void reseed(GameRandom random) {
+    }
+
+    /**
+     * Writes the generator's own state (queued bricks, bag, history), so a saved game can be
+     * resumed exactly. The stream passed to {@link #reseed} is saved by its owner.
+     *
+     * @param out the destination
+     * @throws UnsupportedOperationException if the generator cannot be saved
+     */
+    default void saveState(ByteBuffer out) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be saved");
+    }
+
+    /**
+     * Resumes from a state written by {@link #saveState}. The generator must have been
+     * reseeded with the stream it used when the state was saved.
+     *
+     * @param in the source
+     * @throws UnsupportedOperationException if the generator cannot be saved
+     */
+    default void restoreState(ByteBuffer in) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be saved");
+    }
+}
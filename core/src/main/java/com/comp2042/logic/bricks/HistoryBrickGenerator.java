@@ -0,0 +1,113 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.util.GameRandom;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Deals bricks uniformly at random but rerolls a type that is among the last four dealt,
+ * up to a fixed number of rolls, as arcade randomizers do. Repeats become rare without
+ * making the sequence predictable. The first brick is never an S, Z or O.
+ */
+public class HistoryBrickGenerator extends AbstractBrickGenerator {
+
+    /** Number of recent bricks a new brick should differ from */
+    private static final int HISTORY_SIZE = 4;
+
+    /** Rolls per brick when none is given */
+    public static final int DEFAULT_ROLLS = 6;
+
+    /** Types the first brick is chosen from */
+    private static final int[] FIRST_TYPES = {
+            BrickFactory.BRICK_TYPE_I, BrickFactory.BRICK_TYPE_J,
+            BrickFactory.BRICK_TYPE_L, BrickFactory.BRICK_TYPE_T
+    };
+
+    private final int rolls;
+    // Oldest entry first
+    private final int[] history = new int[HISTORY_SIZE];
+    private boolean first;
+
+    /**
+     * Constructs a history generator with the default number of rolls and an unpredictable sequence.
+     */
+    public HistoryBrickGenerator() {
+        this(DEFAULT_ROLLS, GameRandom.newSeed());
+    }
+
+    /**
+     * Constructs a history generator with the default number of rolls.
+     *
+     * @param seed the seed of the brick sequence
+     */
+    public HistoryBrickGenerator(long seed) {
+        this(DEFAULT_ROLLS, seed);
+    }
+
+    /**
+     * Constructs a history generator whose sequence is fully determined by the seed.
+     *
+     * @param rolls how many times a brick is drawn before a repeat is accepted
+     * @param seed the seed of the brick sequence
+     * @throws IllegalArgumentException if rolls is not positive
+     */
+    public HistoryBrickGenerator(int rolls, long seed) {
+        if (rolls <= 0) {
+            throw new IllegalArgumentException("Invalid roll count: " + rolls + ". Must be positive.");
+        }
+        this.rolls = rolls;
+        reseed(new GameRandom(seed));
+    }
+
+    @Override
+    protected void restart() {
+        // Start as if S and Z had just been dealt, which makes them unlikely early on
+        history[0] = BrickFactory.BRICK_TYPE_Z;
+        history[1] = BrickFactory.BRICK_TYPE_S;
+        history[2] = BrickFactory.BRICK_TYPE_S;
+        history[3] = BrickFactory.BRICK_TYPE_Z;
+        first = true;
+    }
+
+    @Override
+    protected void saveRandomizerState(ByteBuffer out) {
+        out.put((byte) (first ? 1 : 0));
+        for (int type : history) {
+            out.put((byte) type);
+        }
+    }
+
+    @Override
+    protected void restoreRandomizerState(ByteBuffer in) {
+        first = in.get() != 0;
+        for (int i = 0; i < HISTORY_SIZE; i++) {
+            history[i] = in.get();
+        }
+    }
+
+    @Override
+    protected int nextType(GameRandom random) {
+        int type;
+        if (first) {
+            type = FIRST_TYPES[random.nextInt(FIRST_TYPES.length)];
+            first = false;
+        } else {
+            type = random.nextInt(BrickFactory.TOTAL_BRICK_TYPES);
+            for (int roll = 1; roll < rolls && inHistory(type); roll++) {
+                type = random.nextInt(BrickFactory.TOTAL_BRICK_TYPES);
+            }
+        }
+        System.arraycopy(history, 1, history, 0, HISTORY_SIZE - 1);
+        history[HISTORY_SIZE - 1] = type;
+        return type;
+    }
+
+    private boolean inHistory(int type) {
+        for (int recent : history) {
+            if (recent == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,25 @@
+package com.comp2042.logic.bricks;
+
+final class IBrick implements Brick {
+
+    private static final RotationTable ROTATIONS = new RotationTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {1, 1, 1, 1},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0}
+            }
+    );
+
+    @Override
+    public RotationTable getRotationTable() {
+        return ROTATIONS;
+    }
+
+}
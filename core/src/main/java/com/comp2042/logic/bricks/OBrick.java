@@ -0,0 +1,19 @@
+package com.comp2042.logic.bricks;
+
+final class OBrick implements Brick {
+
+    private static final RotationTable ROTATIONS = new RotationTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 4, 4, 0},
+                    {0, 4, 4, 0},
+                    {0, 0, 0, 0}
+            }
+    );
+
+    @Override
+    public RotationTable getRotationTable() {
+        return ROTATIONS;
+    }
+
+}
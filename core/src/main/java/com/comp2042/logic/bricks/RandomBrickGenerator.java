@@ -0,0 +1,34 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.util.GameRandom;
+
+/**
+ * Deals every brick type with equal probability, independently of earlier bricks.
+ * Long droughts of one type are possible; see {@link BagBrickGenerator} and
+ * {@link HistoryBrickGenerator} for fairer sequences.
+ */
+public class RandomBrickGenerator extends AbstractBrickGenerator {
+
+    /**
+     * Constructs a new RandomBrickGenerator with an unpredictable sequence.
+     */
+    public RandomBrickGenerator() {
+        this(GameRandom.newSeed());
+    }
+
+    /**
+     * Constructs a generator whose brick sequence is fully determined by the seed.
+     * A board reseeds its generator at the start of every game, so on a board the
+     * sequence follows the game's seed instead.
+     *
+     * @param seed the seed of the brick sequence
+     */
+    public RandomBrickGenerator(long seed) {
+        reseed(new GameRandom(seed));
+    }
+
+    @Override
+    protected int nextType(GameRandom random) {
+        return random.nextInt(BrickFactory.TOTAL_BRICK_TYPES);
+    }
+}
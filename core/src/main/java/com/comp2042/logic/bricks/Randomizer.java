@@ -0,0 +1,31 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Enum representing the brick randomizers a game can be played with.
+ * UNIFORM: Every type equally likely for every brick, as in the original game.
+ * BAG_7: Shuffled bags of all seven types.
+ * BAG_14: Shuffled bags of two of each type.
+ * HISTORY: Rerolls types dealt among the last four bricks.
+ */
+public enum Randomizer {
+    UNIFORM,
+    BAG_7,
+    BAG_14,
+    HISTORY;
+
+    /**
+     * Creates a generator of this type. Boards reseed their generator at the start of every
+     * game, so the initial seed only matters when the generator is used on its own.
+     *
+     * @param seed the seed of the brick sequence
+     * @return a new generator
+     */
+    public BrickGenerator create(long seed) {
+        return switch (this) {
+            case UNIFORM -> new RandomBrickGenerator(seed);
+            case BAG_7 -> new BagBrickGenerator(1, seed);
+            case BAG_14 -> new BagBrickGenerator(2, seed);
+            case HISTORY -> new HistoryBrickGenerator(seed);
+        };
+    }
+}
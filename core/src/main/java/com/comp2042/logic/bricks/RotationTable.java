@@ -0,0 +1,279 @@
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Precomputed rotation states of a single brick type.
+ *
+ * <p>Each brick type builds its table once and every brick of that type shares it, so the
+ * table is immutable: the shape matrices never leave this package. Other callers read
+ * shapes cell by cell with {@link #getCell(int, int, int)}, which reads the packed mask
+ * that collision and merging use, or take private copies with {@link #copy(int)} and
+ * {@link Brick#getShapeMatrix()}.
+ *
+ * <p>Every rotation state also fits in a {@value #MASK_SIZE}x{@value #MASK_SIZE} box and is
+ * packed into a 16-bit occupancy mask: bit {@code row * MASK_SIZE + column} is set when that
+ * cell is filled, so {@link #maskRow(int, int)} yields one row of the shape as a 4-bit mask
+ * with column 0 in the lowest bit. The tight bounding box of each state is precomputed so
+ * callers can check the walls once per placement and skip empty rows and columns.
+ */
+public final class RotationTable {
+
+    /** Marks a column of a rotation state that contains no filled cell */
+    public static final int EMPTY_COLUMN = -1;
+
+    /** Side length of the box that every packed rotation state must fit in */
+    public static final int MASK_SIZE = 4;
+
+    private static final int MASK_ROW_BITS = (1 << MASK_SIZE) - 1;
+
+    private final List<int[][]> rotations;
+    // bottomProfiles[rotation][column] = lowest filled row in that column, or EMPTY_COLUMN
+    private final int[][] bottomProfiles;
+    private final int[] masks;
+    // Tight bounding box of each rotation state, inclusive
+    private final int[] minRows;
+    private final int[] maxRows;
+    private final int[] minColumns;
+    private final int[] maxColumns;
+    private final byte color;
+
+    /**
+     * Creates a table from the given rotation states, in rotation order.
+     * The matrices are copied so later changes to the arguments cannot leak in.
+     *
+     * @param rotations the shape matrix of each rotation state
+     * @throws IllegalArgumentException if no rotation states are given, a state does not fit
+     *         in a {@value #MASK_SIZE}x{@value #MASK_SIZE} box, a state is empty or the
+     *         states use more than one color
+     */
+    RotationTable(int[][]... rotations) {
+        if (rotations.length == 0) {
+            throw new IllegalArgumentException("A brick needs at least one rotation state.");
+        }
+        List<int[][]> copies = new ArrayList<>(rotations.length);
+        bottomProfiles = new int[rotations.length][];
+        masks = new int[rotations.length];
+        minRows = new int[rotations.length];
+        maxRows = new int[rotations.length];
+        minColumns = new int[rotations.length];
+        maxColumns = new int[rotations.length];
+        int shapeColor = 0;
+        for (int r = 0; r < rotations.length; r++) {
+            int[][] rotation = rotations[r];
+            if (rotation.length > MASK_SIZE) {
+                throw new IllegalArgumentException("Rotation state " + r + " is taller than " + MASK_SIZE + " rows.");
+            }
+            int[][] copy = new int[rotation.length][];
+            for (int i = 0; i < rotation.length; i++) {
+                if (rotation[i].length > MASK_SIZE) {
+                    throw new IllegalArgumentException("Rotation state " + r + " is wider than " + MASK_SIZE + " columns.");
+                }
+                copy[i] = rotation[i].clone();
+            }
+            copies.add(copy);
+            bottomProfiles[r] = computeBottomProfile(copy);
+
+            minRows[r] = MASK_SIZE;
+            maxRows[r] = -1;
+            minColumns[r] = MASK_SIZE;
+            maxColumns[r] = -1;
+            for (int i = 0; i < copy.length; i++) {
+                for (int j = 0; j < copy[i].length; j++) {
+                    int cell = copy[i][j];
+                    if (cell == 0) {
+                        continue;
+                    }
+                    if (shapeColor != 0 && cell != shapeColor) {
+                        throw new IllegalArgumentException("A brick must use a single color, found " + shapeColor + " and " + cell + ".");
+                    }
+                    shapeColor = cell;
+                    masks[r] |= 1 << (i * MASK_SIZE + j);
+                    minRows[r] = Math.min(minRows[r], i);
+                    maxRows[r] = Math.max(maxRows[r], i);
+                    minColumns[r] = Math.min(minColumns[r], j);
+                    maxColumns[r] = Math.max(maxColumns[r], j);
+                }
+            }
+            if (masks[r] == 0) {
+                throw new IllegalArgumentException("Rotation state " + r + " has no filled cells.");
+            }
+        }
+        this.rotations = Collections.unmodifiableList(copies);
+        this.color = (byte) shapeColor;
+    }
+
+    /**
+     * Extracts one row of a packed shape mask.
+     *
+     * @param mask the packed 16-bit occupancy mask
+     * @param row the row within the shape, from 0 to {@value #MASK_SIZE} - 1
+     * @return the row as a 4-bit mask, column 0 in the lowest bit
+     */
+    public static int maskRow(int mask, int row) {
+        return (mask >>> (row * MASK_SIZE)) & MASK_ROW_BITS;
+    }
+
+    private static int[] computeBottomProfile(int[][] shape) {
+        int[] profile = new int[shape[0].length];
+        for (int col = 0; col < profile.length; col++) {
+            profile[col] = EMPTY_COLUMN;
+            for (int row = shape.length - 1; row >= 0; row--) {
+                if (shape[row][col] != 0) {
+                    profile[col] = row;
+                    break;
+                }
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * Returns the number of rotation states.
+     *
+     * @return the number of rotation states (1, 2 or 4)
+     */
+    public int size() {
+        return rotations.size();
+    }
+
+    /**
+     * Returns the shared shape matrix of a rotation state without copying it. The matrix
+     * must not be modified, so it is only handed out within this package.
+     *
+     * @param rotation the rotation index, from 0 to {@link #size()} - 1
+     * @return the shared shape matrix
+     */
+    int[][] get(int rotation) {
+        return rotations.get(rotation);
+    }
+
+    /**
+     * Returns a private copy of a rotation state's shape matrix.
+     *
+     * @param rotation the rotation index, from 0 to {@link #size()} - 1
+     * @return a new matrix the caller may modify
+     */
+    public int[][] copy(int rotation) {
+        int[][] shape = rotations.get(rotation);
+        int[][] copy = new int[shape.length][];
+        for (int i = 0; i < shape.length; i++) {
+            copy[i] = shape[i].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Returns one cell of a rotation state without copying anything.
+     *
+     * @param rotation the rotation index
+     * @param row the row within the shape matrix
+     * @param column the column within the shape matrix
+     * @return the brick color if the cell is filled, otherwise 0
+     */
+    public int getCell(int rotation, int row, int column) {
+        return ((masks[rotation] >>> (row * MASK_SIZE + column)) & 1) != 0 ? color : 0;
+    }
+
+    /**
+     * Returns the number of rows of a rotation state's matrix.
+     *
+     * @param rotation the rotation index
+     * @return the shape height
+     */
+    public int getHeight(int rotation) {
+        return rotations.get(rotation).length;
+    }
+
+    /**
+     * Returns the number of columns of every rotation state's matrix.
+     *
+     * @return the shape width
+     */
+    public int getWidth() {
+        return bottomProfiles[0].length;
+    }
+
+    /**
+     * Returns the lowest filled row of a column in a rotation state.
+     * Used to find where a brick lands from the board's column heights.
+     *
+     * @param rotation the rotation index
+     * @param column the column within the shape matrix
+     * @return the row index of the lowest filled cell, or {@link #EMPTY_COLUMN}
+     */
+    public int getBottom(int rotation, int column) {
+        return bottomProfiles[rotation][column];
+    }
+
+    /**
+     * Returns the packed occupancy mask of a rotation state.
+     *
+     * @param rotation the rotation index
+     * @return the 16-bit mask, bit {@code row * MASK_SIZE + column} set for filled cells
+     */
+    public int getMask(int rotation) {
+        return masks[rotation];
+    }
+
+    /**
+     * Returns the color value shared by every filled cell of this brick.
+     *
+     * @return the brick color
+     */
+    public byte getColor() {
+        return color;
+    }
+
+    /**
+     * Returns the first row of a rotation state that contains a filled cell.
+     *
+     * @param rotation the rotation index
+     * @return the top row of the bounding box
+     */
+    public int getMinRow(int rotation) {
+        return minRows[rotation];
+    }
+
+    /**
+     * Returns the last row of a rotation state that contains a filled cell.
+     *
+     * @param rotation the rotation index
+     * @return the bottom row of the bounding box
+     */
+    public int getMaxRow(int rotation) {
+        return maxRows[rotation];
+    }
+
+    /**
+     * Returns the first column of a rotation state that contains a filled cell.
+     *
+     * @param rotation the rotation index
+     * @return the left column of the bounding box
+     */
+    public int getMinColumn(int rotation) {
+        return minColumns[rotation];
+    }
+
+    /**
+     * Returns the last column of a rotation state that contains a filled cell.
+     *
+     * @param rotation the rotation index
+     * @return the right column of the bounding box
+     */
+    public int getMaxColumn(int rotation) {
+        return maxColumns[rotation];
+    }
+
+    /**
+     * Returns all rotation states as an unmodifiable list of shared matrices. The matrices
+     * must not be modified, so the list is only handed out within this package.
+     *
+     * @return the shared rotation states, in rotation order
+     */
+    List<int[][]> asList() {
+        return rotations;
+    }
+}
@@ -0,0 +1,24 @@
+package com.comp2042.logic.bricks;
+
+final class SBrick implements Brick {
+
+    private static final RotationTable ROTATIONS = new RotationTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 5, 5, 0},
+                    {5, 5, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {5, 0, 0, 0},
+                    {5, 5, 0, 0},
+                    {0, 5, 0, 0},
+                    {0, 0, 0, 0}
+            }
+    );
+
+    @Override
+    public RotationTable getRotationTable() {
+        return ROTATIONS;
+    }
+}
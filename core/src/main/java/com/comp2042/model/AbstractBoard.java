@@ -0,0 +1,619 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.model.tetromino.BrickRotator;
+import com.comp2042.util.GameRandom;
+import com.comp2042.util.MatrixOperations;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Game rules shared by every board engine.
+ *
+ * <p>This class owns the falling brick, the score, the level and the game mode, and
+ * implements spawning, movement, rotation, locking and the mode-specific field setup on
+ * top of a small set of storage operations. Subclasses only decide how the field itself
+ * is stored: they test collisions, write cells, remove full rows and insert bottom rows.
+ *
+ * <p>Nothing here depends on a UI toolkit. Score and level changes, moves, landings and
+ * cleared rows are reported to {@link GameListener}s, which the client adapts to its own
+ * bindings and sounds.
+ */
+public abstract class AbstractBoard implements Board {
+
+    // Movement offsets for brick translation
+    private static final int MOVE_LEFT_OFFSET = -1;
+    private static final int MOVE_RIGHT_OFFSET = 1;
+    private static final int MOVE_DOWN_OFFSET = 1;
+    private static final int NO_MOVEMENT = 0;
+
+    // Brick spawn position
+    private static final int BRICK_SPAWN_X = 4;
+    private static final int BRICK_SPAWN_Y = 1;
+
+    // Treasure Hunt Colors
+    private static final int DIRT_COLOR = 8;
+    private static final int GOLD_COLOR = 9;
+    private static final int VINE_COLOR = 8;
+
+    /** Brick type saved when no brick is falling */
+    private static final int NO_BRICK = -1;
+
+    /** Number of columns of the field */
+    protected final int width;
+
+    /** Number of rows of the field */
+    protected final int height;
+
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    // Position of the falling brick, kept as primitives so moves never allocate
+    private int currentX;
+    private int currentY;
+    private boolean hasCurrentBrick = false;
+    private final Score score;
+    private int level = 1;
+    private int linesClearedTotal = 0;
+    private GameMode gameMode = GameMode.CLASSIC;
+    // Reused for every lock so clearing rows never allocates
+    private final ClearRow clearResult = new ClearRow(0, null, 0);
+    // Reused for every view refresh so reading the brick never allocates
+    private final ViewData viewData = new ViewData();
+    // Cells written since the view last drew the field
+    private final DirtyCells dirtyCells;
+    // One stream per random subsystem, all split from the game's seed and reused across games
+    private final GameRandom seedRandom = new GameRandom(0);
+    private final GameRandom pieceRandom = new GameRandom(0);
+    private final GameRandom treasureRandom = new GameRandom(0);
+    private final GameRandom vineRandom = new GameRandom(0);
+    private long seed;
+    // Copied on registration so firing events never allocates
+    private GameListener[] listeners = new GameListener[0];
+
+    /**
+     * Creates a board that draws its bricks from the given generator.
+     *
+     * @param width the number of columns
+     * @param height the number of rows
+     * @param brickGenerator the source of new bricks
+     */
+    protected AbstractBoard(int width, int height, BrickGenerator brickGenerator) {
+        this.width = width;
+        this.height = height;
+        this.brickGenerator = brickGenerator;
+        dirtyCells = new DirtyCells(width, height);
+        brickRotator = new BrickRotator();
+        score = new Score();
+        seedStreams(GameRandom.newSeed());
+    }
+
+    /**
+     * Checks whether a rotation state placed with its top-left corner at (x, y) is out of
+     * bounds or overlaps a settled block. Must not modify the field.
+     *
+     * @param shapes the rotation table of the brick, with packed masks and bounding boxes
+     * @param rotation the rotation index
+     * @param x the target column of the shape's left edge
+     * @param y the target row of the shape's top edge
+     * @return true if the shape cannot be placed there
+     */
+    protected abstract boolean intersects(RotationTable shapes, int rotation, int x, int y);
+
+    /**
+     * Writes every filled cell of a rotation state into the field.
+     *
+     * @param shapes the rotation table of the brick
+     * @param rotation the rotation index
+     * @param x the column of the shape's left edge
+     * @param y the row of the shape's top edge
+     */
+    protected abstract void mergeShape(RotationTable shapes, int rotation, int x, int y);
+
+    /**
+     * Removes every full row, dropping the rows above it, and fills the top with empty rows.
+     * Every row from the top down to the lowest one removed is marked changed.
+     *
+     * @param changed the set to mark the moved and emptied rows in
+     * @return the number of rows removed
+     */
+    protected abstract int removeFullRows(DirtyCells changed);
+
+    /**
+     * Empties every cell of the field.
+     */
+    protected abstract void clearField();
+
+    /**
+     * Returns the color of a cell (0 when empty).
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return the cell color
+     */
+    protected abstract int getCell(int row, int col);
+
+    /**
+     * Sets the color of a single cell (0 empties it).
+     *
+     * @param row the row index
+     * @param col the column index
+     * @param color the new cell color
+     */
+    protected abstract void setCell(int row, int col, int color);
+
+    /**
+     * Returns the number of filled cells in a row.
+     *
+     * @param row the row index
+     * @return the number of non-empty cells
+     */
+    protected abstract int getRowFillCount(int row);
+
+    /**
+     * Shifts every row up by one (discarding the empty top row) and inserts a new bottom
+     * row filled with the given color except for one hole.
+     *
+     * @param color the color of the new row
+     * @param holeColumn the column left empty
+     */
+    protected abstract void insertBottomRow(int color, int holeColumn);
+
+    /**
+     * Finds the row where a shape lands when dropped from (x, y).
+     * The default implementation probes each row below in turn; engines with extra
+     * bookkeeping can override it with something faster.
+     *
+     * @param shapes the rotation table of the brick
+     * @param rotation the rotation index
+     * @param x the column of the shape's left edge
+     * @param y the current row of the shape's top edge
+     * @return the lowest reachable row
+     */
+    protected int findLandingY(RotationTable shapes, int rotation, int x, int y) {
+        int landingY = y;
+        while (!intersects(shapes, rotation, x, landingY + 1)) {
+            landingY++;
+        }
+        return landingY;
+    }
+
+    /**
+     * Creates a new brick at the spawn position with robust error handling.
+     * * @return true if game is over (new brick collides with existing blocks), false otherwise
+     * @throws IllegalStateException if brick generation fails critically
+     */
+    @Override
+    public boolean createNewBrick() {
+        try {
+            Brick currentBrick = brickGenerator.getBrick();
+
+            if (currentBrick == null) {
+                // RECOVERY: This shouldn't happen, but if it does, create a default brick
+                System.err.println("Warning: Brick generator returned null. Using fallback brick.");
+                currentBrick = BrickFactory.getBrick(BrickFactory.BRICK_TYPE_I);
+            }
+
+            brickRotator.setBrick(currentBrick);
+            moveToSpawn();
+
+            // Check if game is over (new brick collides with existing blocks)
+            return intersectsAtCurrentPosition();
+
+        } catch (IllegalArgumentException e) {
+            // RECOVERY: Handle invalid brick type
+            System.err.println("Error creating brick: " + e.getMessage());
+            System.err.println("Using fallback I-brick to continue game.");
+
+            // Use a safe fallback brick
+            Brick fallbackBrick = BrickFactory.getBrick(BrickFactory.BRICK_TYPE_I);
+            brickRotator.setBrick(fallbackBrick);
+            moveToSpawn();
+
+            return intersectsAtCurrentPosition();
+
+        } catch (Exception e) {
+            // RECOVERY: Last resort - log error and signal game over
+            System.err.println("Critical error creating new brick: " + e.getMessage());
+            e.printStackTrace();
+
+            // Signal game over to prevent further errors
+            throw new IllegalStateException("Unable to create new brick. Game cannot continue.", e);
+        }
+    }
+
+    private boolean intersectsAtCurrentPosition() {
+        return intersects(brickRotator.getRotationTable(), brickRotator.getCurrentPosition(), currentX, currentY);
+    }
+
+    private void moveToSpawn() {
+        currentX = BRICK_SPAWN_X;
+        currentY = BRICK_SPAWN_Y;
+        hasCurrentBrick = true;
+    }
+
+    /**
+     * Moves the current brick by the given offsets if the target position is free.
+     * Collision is tested against the live field, so neither a successful nor a
+     * blocked move allocates.
+     *
+     * @param deltaX the column offset
+     * @param deltaY the row offset
+     * @return true if the brick moved, false if the move was blocked
+     */
+    private boolean tryMove(int deltaX, int deltaY) {
+        int newX = currentX + deltaX;
+        int newY = currentY + deltaY;
+        boolean conflict = intersects(brickRotator.getRotationTable(), brickRotator.getCurrentPosition(), newX, newY);
+        if (conflict) {
+            return false;
+        } else {
+            currentX = newX;
+            currentY = newY;
+            return true;
+        }
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(NO_MOVEMENT, MOVE_DOWN_OFFSET);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        boolean success = tryMove(MOVE_LEFT_OFFSET, NO_MOVEMENT);
+        if (success) {
+            fireBrickMoved();
+        }
+        return success;
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        boolean success = tryMove(MOVE_RIGHT_OFFSET, NO_MOVEMENT);
+        if (success) {
+            fireBrickMoved();
+        }
+        return success;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextPosition = brickRotator.getNextPosition();
+        boolean conflict = intersects(brickRotator.getRotationTable(), nextPosition, currentX, currentY);
+        if (conflict) {
+            return false;
+        } else {
+            brickRotator.setCurrentShape(nextPosition);
+            fireBrickMoved();
+            return true;
+        }
+    }
+
+    @Override
+    public RotationTable getCurrentRotationTable() {
+        return brickRotator.getRotationTable();
+    }
+
+    @Override
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentPosition();
+    }
+
+    /**
+     * Returns the cells changed since the view last cleared the set.
+     * The same instance is returned every time.
+     */
+    @Override
+    public DirtyCells getDirtyCells() {
+        return dirtyCells;
+    }
+
+    /**
+     * Refreshes and returns the board's snapshot of the falling and next brick.
+     * The same instance is returned every time.
+     */
+    @Override
+    public ViewData getViewData() {
+        viewData.set(brickRotator.getRotationTable(), brickRotator.getCurrentPosition(), currentX, currentY,
+                brickGenerator.getNextBrick().getRotationTable());
+        return viewData;
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        RotationTable shapes = brickRotator.getRotationTable();
+        int rotation = brickRotator.getCurrentPosition();
+        mergeShape(shapes, rotation, currentX, currentY);
+        int mask = shapes.getMask(rotation);
+        for (int i = shapes.getMinRow(rotation); i <= shapes.getMaxRow(rotation); i++) {
+            for (int bits = RotationTable.maskRow(mask, i); bits != 0; bits &= bits - 1) {
+                dirtyCells.markCell(currentY + i, currentX + Integer.numberOfTrailingZeros(bits));
+            }
+        }
+        for (GameListener listener : listeners) {
+            listener.brickLanded();
+        }
+    }
+
+    /**
+     * Removes full rows and updates the level. The returned result is owned by the board
+     * and overwritten by the next call.
+     */
+    @Override
+    public ClearRow clearRows() {
+        int linesRemoved = removeFullRows(dirtyCells);
+
+        linesClearedTotal += linesRemoved;
+        int newLevel = (linesClearedTotal / 10) + 1;
+        if (newLevel > level) {
+            setLevel(newLevel);
+        }
+
+        clearResult.set(linesRemoved, getBoardMatrix(), MatrixOperations.calculateScoreBonus(linesRemoved));
+        if (linesRemoved > 0) {
+            for (GameListener listener : listeners) {
+                listener.rowsCleared(linesRemoved);
+            }
+        }
+        return clearResult;
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        newGame(GameRandom.newSeed());
+    }
+
+    @Override
+    public void newGame(long seed) {
+        seedStreams(seed);
+        brickGenerator.reseed(pieceRandom);
+        clearField();
+        score.reset();
+        setLevel(1);
+        linesClearedTotal = 0;
+
+        if (gameMode == GameMode.TREASURE_HUNT) {
+            initTreasureField();
+        }
+        dirtyCells.markAll();
+
+        createNewBrick();
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Splits the game's seed into the per-subsystem streams. The split order is fixed, so
+     * each subsystem's stream depends only on the seed.
+     */
+    private void seedStreams(long seed) {
+        this.seed = seed;
+        seedRandom.setSeed(seed);
+        seedRandom.splitInto(pieceRandom);
+        seedRandom.splitInto(treasureRandom);
+        seedRandom.splitInto(vineRandom);
+    }
+
+    @Override
+    public void saveState(ByteBuffer out) {
+        out.putInt(score.get());
+        out.putInt(level);
+        out.putInt(linesClearedTotal);
+        out.put((byte) (hasCurrentBrick ? typeOf(brickRotator.getRotationTable()) : NO_BRICK));
+        out.put((byte) (hasCurrentBrick ? brickRotator.getCurrentPosition() : 0));
+        out.putInt(currentX);
+        out.putInt(currentY);
+        pieceRandom.saveState(out);
+        treasureRandom.saveState(out);
+        vineRandom.saveState(out);
+        brickGenerator.saveState(out);
+        // Two cells per byte; colors fit in four bits
+        for (int cell = 0; cell < width * height; cell += 2) {
+            int high = getCell(cell / width, cell % width);
+            int low = cell + 1 < width * height ? getCell((cell + 1) / width, (cell + 1) % width) : 0;
+            out.put((byte) ((high << 4) | low));
+        }
+    }
+
+    @Override
+    public void restoreState(ByteBuffer in) {
+        int savedScore = in.getInt();
+        int savedLevel = in.getInt();
+        linesClearedTotal = in.getInt();
+        int type = in.get();
+        int rotation = in.get();
+        currentX = in.getInt();
+        currentY = in.getInt();
+        hasCurrentBrick = type != NO_BRICK;
+        if (hasCurrentBrick) {
+            brickRotator.setBrick(BrickFactory.getBrick(type));
+            brickRotator.setCurrentShape(rotation);
+        }
+        pieceRandom.restoreState(in);
+        treasureRandom.restoreState(in);
+        vineRandom.restoreState(in);
+        brickGenerator.restoreState(in);
+        clearField();
+        for (int cell = 0; cell < width * height; cell += 2) {
+            int packed = in.get() & 0xFF;
+            setCell(cell / width, cell % width, packed >>> 4);
+            if (cell + 1 < width * height) {
+                setCell((cell + 1) / width, (cell + 1) % width, packed & 0xF);
+            }
+        }
+        dirtyCells.markAll();
+        score.reset();
+        score.add(savedScore);
+        setLevel(savedLevel);
+    }
+
+    private static int typeOf(RotationTable shapes) {
+        for (int type = 0; type < BrickFactory.TOTAL_BRICK_TYPES; type++) {
+            if (BrickFactory.getBrick(type).getRotationTable() == shapes) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("Falling brick is not a BrickFactory brick");
+    }
+
+    private void initTreasureField() {
+        int startRow = height - 8;
+        for (int row = startRow; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                setCell(row, col, DIRT_COLOR);
+            }
+        }
+
+        int goldCount = treasureRandom.nextInt(5, 9);
+        int placedGold = 0;
+
+        while (placedGold < goldCount) {
+            int row = treasureRandom.nextInt(startRow, height);
+            int col = treasureRandom.nextInt(width);
+
+            if (getCell(row, col) == DIRT_COLOR) {
+                setCell(row, col, GOLD_COLOR);
+                placedGold++;
+            }
+        }
+
+        // Every treasure row needs a hole so it is not cleared straight away
+        for (int row = startRow; row < height; row++) {
+            if (getRowFillCount(row) == width) {
+                int col = treasureRandom.nextInt(width);
+                if (getCell(row, col) == GOLD_COLOR) {
+                    for (int c = 0; c < width; c++) {
+                        if (getCell(row, c) == DIRT_COLOR) {
+                            col = c;
+                            break;
+                        }
+                    }
+                }
+                setCell(row, col, 0);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasRemainingTreasure() {
+        for (int row = 0; row < height; row++) {
+            if (getRowFillCount(row) == 0) {
+                continue;
+            }
+            for (int col = 0; col < width; col++) {
+                if (getCell(row, col) == GOLD_COLOR) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public void addGameListener(GameListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        score.addListener(listener);
+    }
+
+    @Override
+    public void removeGameListener(GameListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameListener[] remaining = new GameListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, remaining, 0, i);
+                System.arraycopy(listeners, i + 1, remaining, i, remaining.length - i);
+                listeners = remaining;
+                score.removeListener(listener);
+                return;
+            }
+        }
+    }
+
+    private void setLevel(int newLevel) {
+        if (newLevel == level) {
+            return;
+        }
+        level = newLevel;
+        for (GameListener listener : listeners) {
+            listener.levelChanged(newLevel);
+        }
+    }
+
+    private void fireBrickMoved() {
+        for (GameListener listener : listeners) {
+            listener.brickMoved();
+        }
+    }
+
+    @Override
+    public List<Brick> getNextBricks(int count) {
+        return brickGenerator.getNextBricks(count);
+    }
+
+    @Override
+    public Brick peekNextBrick(int index) {
+        return brickGenerator.peek(index);
+    }
+
+    @Override
+    public int getGhostPieceY() {
+        if (!hasCurrentBrick) {
+            return BRICK_SPAWN_Y;
+        }
+
+        return findLandingY(brickRotator.getRotationTable(), brickRotator.getCurrentPosition(), currentX, currentY);
+    }
+
+    @Override
+    public int hardDrop() {
+        if (!hasCurrentBrick) {
+            return 0;
+        }
+
+        int startY = currentY;
+        currentY = getGhostPieceY();
+        return currentY - startY;
+    }
+
+    @Override
+    public void setGameMode(GameMode mode) {
+        this.gameMode = mode;
+    }
+
+    @Override
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    @Override
+    public boolean addVineLine() {
+        if (getRowFillCount(0) != 0) {
+            return false;
+        }
+
+        int randomHole = vineRandom.nextInt(width);
+        insertBottomRow(VINE_COLOR, randomHole);
+        // Every row moved up by one
+        dirtyCells.markAll();
+        return true;
+    }
+}
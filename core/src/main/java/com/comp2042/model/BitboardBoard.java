@@ -0,0 +1,186 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.RotationTable;
+
+import java.util.Arrays;
+
+/**
+ * Board implementation that stores each row of the field as a bit mask.
+ *
+ * <p>Bit {@code c} of {@code rowMasks[r]} is set when cell (r, c) is occupied, so collision,
+ * merge and full-row checks become a handful of AND/OR operations per row instead of
+ * walking every cell. Colors live in a separate plane that is only touched when cells
+ * are written, and which doubles as the matrix returned by {@link #getBoardMatrix()}.
+ *
+ * <p>Game rules (scoring, levels, modes) come from {@link AbstractBoard} and are identical
+ * to {@link SimpleBoard}.
+ */
+public class BitboardBoard extends AbstractBoard {
+
+    /** Maximum supported board width (one bit per column in an int mask) */
+    public static final int MAX_WIDTH = Integer.SIZE - 1;
+
+    private static final int ROW_WINDOW = (1 << RotationTable.MASK_SIZE) - 1;
+
+    private final int fullRowMask;
+    private final int[] rowMasks;
+    private final int[][] colorPlane;
+
+    public BitboardBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a board that draws its bricks from the given generator.
+     *
+     * @param width the number of columns (at most {@link #MAX_WIDTH})
+     * @param height the number of rows
+     * @param brickGenerator the source of new bricks
+     * @throws IllegalArgumentException if the width does not fit in a row mask
+     */
+    public BitboardBoard(int width, int height, BrickGenerator brickGenerator) {
+        super(checkWidth(width), height, brickGenerator);
+        this.fullRowMask = (1 << width) - 1;
+        rowMasks = new int[height];
+        colorPlane = new int[height][width];
+    }
+
+    private static int checkWidth(int width) {
+        if (width <= 0 || width > MAX_WIDTH) {
+            throw new IllegalArgumentException(
+                    "Invalid board width: " + width + ". Valid range is 1-" + MAX_WIDTH + ".");
+        }
+        return width;
+    }
+
+    /**
+     * Checks whether the shape collides with the walls, floor or settled blocks
+     * when its top-left corner is placed at (x, y).
+     *
+     * <p>The bounding box is checked against the walls first. The 4-column window of every
+     * board row the shape covers is then gathered into a 16-bit word with the same layout as
+     * the shape mask, so a single AND tests all four shape rows at once.
+     *
+     * @param shapes the rotation table of the brick
+     * @param rotation the rotation index
+     * @param x the target column of the shape's left edge
+     * @param y the target row of the shape's top edge
+     * @return true if any filled cell of the shape is out of bounds or overlaps the field
+     */
+    @Override
+    protected boolean intersects(RotationTable shapes, int rotation, int x, int y) {
+        int minRow = shapes.getMinRow(rotation);
+        int maxRow = shapes.getMaxRow(rotation);
+        if (y + minRow < 0 || y + maxRow >= height
+                || x + shapes.getMinColumn(rotation) < 0 || x + shapes.getMaxColumn(rotation) >= width) {
+            return true;
+        }
+        int window = 0;
+        for (int i = minRow; i <= maxRow; i++) {
+            int row = rowMasks[y + i];
+            // Columns left of the board are never filled in the shape, so shifting them in is harmless
+            int slice = x >= 0 ? row >>> x : row << -x;
+            window |= (slice & ROW_WINDOW) << (i * RotationTable.MASK_SIZE);
+        }
+        return (window & shapes.getMask(rotation)) != 0;
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return colorPlane;
+    }
+
+    @Override
+    protected void mergeShape(RotationTable shapes, int rotation, int x, int y) {
+        int mask = shapes.getMask(rotation);
+        int color = shapes.getColor();
+        for (int i = shapes.getMinRow(rotation); i <= shapes.getMaxRow(rotation); i++) {
+            int rowBits = RotationTable.maskRow(mask, i);
+            rowMasks[y + i] |= x >= 0 ? rowBits << x : rowBits >>> -x;
+            int[] colors = colorPlane[y + i];
+            for (int bits = rowBits; bits != 0; bits &= bits - 1) {
+                colors[x + Integer.numberOfTrailingZeros(bits)] = color;
+            }
+        }
+    }
+
+    /**
+     * Removes every full row and drops the rows above it.
+     * Row arrays are moved by reference; cleared rows are wiped and reused at the top.
+     */
+    @Override
+    protected int removeFullRows(DirtyCells changed) {
+        int linesRemoved = 0;
+        int writeRow = height - 1;
+        for (int readRow = height - 1; readRow >= 0; readRow--) {
+            if (rowMasks[readRow] == fullRowMask) {
+                if (linesRemoved == 0) {
+                    // The lowest full row; everything above it moves or empties
+                    changed.markRows(0, readRow);
+                }
+                linesRemoved++;
+                continue;
+            }
+            if (writeRow != readRow) {
+                int[] colors = colorPlane[writeRow];
+                rowMasks[writeRow] = rowMasks[readRow];
+                colorPlane[writeRow] = colorPlane[readRow];
+                colorPlane[readRow] = colors;
+            }
+            writeRow--;
+        }
+        for (int row = writeRow; row >= 0; row--) {
+            rowMasks[row] = 0;
+            Arrays.fill(colorPlane[row], 0);
+        }
+        return linesRemoved;
+    }
+
+    @Override
+    protected void clearField() {
+        Arrays.fill(rowMasks, 0);
+        for (int[] row : colorPlane) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    @Override
+    protected int getCell(int row, int col) {
+        return colorPlane[row][col];
+    }
+
+    @Override
+    protected void setCell(int row, int col, int color) {
+        colorPlane[row][col] = color;
+        if (color != 0) {
+            rowMasks[row] |= 1 << col;
+        } else {
+            rowMasks[row] &= ~(1 << col);
+        }
+    }
+
+    @Override
+    protected int getRowFillCount(int row) {
+        return Integer.bitCount(rowMasks[row]);
+    }
+
+    /**
+     * Shifts every row up by one and inserts the new bottom row.
+     * Rows are moved by reference; the evicted (empty) top row is reused as the new bottom row.
+     */
+    @Override
+    protected void insertBottomRow(int color, int holeColumn) {
+        int[] recycled = colorPlane[0];
+        for (int row = 0; row < height - 1; row++) {
+            rowMasks[row] = rowMasks[row + 1];
+            colorPlane[row] = colorPlane[row + 1];
+        }
+
+        Arrays.fill(recycled, color);
+        recycled[holeColumn] = 0;
+        colorPlane[height - 1] = recycled;
+        rowMasks[height - 1] = fullRowMask & ~(1 << holeColumn);
+    }
+}
@@ -0,0 +1,199 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.Score;
+import com.comp2042.model.ViewData;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+public interface Board {
+
+    boolean moveBrickDown();
+
+    boolean moveBrickLeft();
+
+    boolean moveBrickRight();
+
+    boolean rotateLeftBrick();
+
+    boolean createNewBrick();
+
+    int[][] getBoardMatrix();
+
+    /**
+     * Returns the cells of the field changed since a view last drew it. Merged bricks mark
+     * their cells, cleared rows and vine lines mark the rows they move, and new games and
+     * restored states mark everything. A view repaints the marked cells and then clears
+     * the set.
+     *
+     * @return the board's set of changed cells
+     */
+    DirtyCells getDirtyCells();
+
+    /**
+     * Returns a snapshot of the falling brick and the next brick.
+     * The snapshot may be reused by the board and refreshed by the next call.
+     *
+     * @return the current view data
+     */
+    ViewData getViewData();
+
+    /**
+     * Returns the rotation states of the falling brick, for bots and simulations that
+     * plan placements. The table is shared and must not be modified.
+     *
+     * @return the rotation table of the current brick
+     */
+    RotationTable getCurrentRotationTable();
+
+    /**
+     * Returns the rotation index of the falling brick within {@link #getCurrentRotationTable()}.
+     *
+     * @return the current rotation index
+     */
+    int getCurrentRotation();
+
+    void mergeBrickToBackground();
+
+    /**
+     * Removes every full row after a brick has been merged.
+     * The returned result may be reused by the board and overwritten by the next call.
+     *
+     * @return the number of rows removed, their score bonus and the updated matrix
+     */
+    ClearRow clearRows();
+
+    Score getScore();
+
+    /**
+     * Starts a new game from an unpredictable seed.
+     */
+    void newGame();
+
+    /**
+     * Starts a new game whose randomness (piece sequence, treasure field and vine holes) is
+     * fully determined by the seed. Two games started from the same seed that receive the
+     * same inputs produce identical boards.
+     *
+     * @param seed the seed of the game
+     */
+    void newGame(long seed);
+
+    /**
+     * Returns the seed of the current game.
+     *
+     * @return the seed passed to, or chosen by, the last new game
+     */
+    long getSeed();
+    
+    /**
+     * Writes the complete state of the game in progress: field, falling brick, score, level,
+     * brick queue and random streams. Listeners and the game mode are not included.
+     *
+     * @param out the destination, with room for the state
+     * @throws UnsupportedOperationException if the brick generator cannot be saved
+     */
+    void saveState(ByteBuffer out);
+
+    /**
+     * Resumes a game saved by {@link #saveState}. The board must have the same size, game
+     * mode and kind of brick generator, and a game must have been started on it with the
+     * same seed. Listeners are told about the restored score and level.
+     *
+     * @param in the source, positioned at the state
+     * @throws UnsupportedOperationException if the brick generator cannot be saved
+     */
+    void restoreState(ByteBuffer in);
+
+    /**
+     * Gets the next N bricks that will appear.
+     * Builds a new list on every call; previews should use {@link #peekNextBrick(int)}.
+     * 
+     * @param count the number of next bricks to retrieve
+     * @return a list of the next N bricks
+     */
+    List<Brick> getNextBricks(int count);
+
+    /**
+     * Returns an upcoming brick without copying or allocating anything.
+     *
+     * @param index how far ahead to look (0 is the brick that spawns next)
+     * @return the shared brick instance
+     * @throws IllegalArgumentException if index is negative
+     */
+    Brick peekNextBrick(int index);
+    
+    /**
+     * Calculates the Y position where the current brick will land (ghost piece position).
+     * The current brick is not moved.
+     * 
+     * @return the Y coordinate where the brick will land, or the current Y if already at bottom
+     */
+    int getGhostPieceY();
+    
+    /**
+     * Instantly drops the current brick to the bottom (hard drop).
+     * Moves the brick down until it can no longer move, then returns true.
+     * The brick will be at its landing position after this call.
+     * 
+     * @return the number of rows the brick was dropped (for scoring purposes)
+     */
+    int hardDrop();
+    
+    /**
+     * Returns the current level.
+     * Level starts at 1 and increments every 10 cleared lines.
+     * 
+     * @return the current level
+     */
+    int getLevel();
+
+    /**
+     * Registers a listener for score and level changes, moves, landings and cleared rows.
+     * Listeners are also registered with the board's {@link Score}.
+     *
+     * @param listener the listener to add
+     */
+    void addGameListener(GameListener listener);
+
+    /**
+     * Unregisters a listener previously passed to {@link #addGameListener}.
+     *
+     * @param listener the listener to remove
+     */
+    void removeGameListener(GameListener listener);
+    
+    /**
+     * Sets the game mode (CLASSIC or ZEN).
+     * 
+     * @param mode the game mode to set
+     */
+    void setGameMode(GameMode mode);
+    
+    /**
+     * Gets the current game mode.
+     * 
+     * @return the current game mode
+     */
+    GameMode getGameMode();
+    
+    /**
+     * Adds a vine line at the bottom and shifts the board up.
+     * Used in OVERGROWTH mode. Returns false if game over (top row has blocks).
+     * 
+     * @return true if operation successful, false if game over
+     */
+    boolean addVineLine();
+    
+    /**
+     * Checks if there are any remaining Gold blocks in the board.
+     * Used in Treasure Hunt mode to determine victory condition.
+     * 
+     * @return true if any Gold blocks remain, false otherwise
+     */
+    boolean hasRemainingTreasure();
+}
+
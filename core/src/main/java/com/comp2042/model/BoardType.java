@@ -0,0 +1,46 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+
+/**
+ * Enum representing the available board engines.
+ * SIMPLE: Reference implementation backed by an int[][] matrix.
+ * BITBOARD: Stores each row as a bit mask with a separate color plane for fast collision checks.
+ * RING_BUFFER: Keeps rows in a circular buffer so line clears and vine insertion move references, not cells.
+ */
+public enum BoardType {
+    SIMPLE,
+    BITBOARD,
+    RING_BUFFER;
+
+    /**
+     * Creates a new board of this type.
+     *
+     * @param width the number of columns
+     * @param height the number of rows
+     * @return a new, empty board
+     */
+    public Board create(int width, int height) {
+        return switch (this) {
+            case SIMPLE -> new SimpleBoard(width, height);
+            case BITBOARD -> new BitboardBoard(width, height);
+            case RING_BUFFER -> new RingBufferBoard(width, height);
+        };
+    }
+
+    /**
+     * Creates a new board of this type that draws its bricks from the given generator.
+     *
+     * @param width the number of columns
+     * @param height the number of rows
+     * @param brickGenerator the source of new bricks
+     * @return a new, empty board
+     */
+    public Board create(int width, int height, BrickGenerator brickGenerator) {
+        return switch (this) {
+            case SIMPLE -> new SimpleBoard(width, height, brickGenerator);
+            case BITBOARD -> new BitboardBoard(width, height, brickGenerator);
+            case RING_BUFFER -> new RingBufferBoard(width, height, brickGenerator);
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.comp2042.model;
+
+import com.comp2042.util.MatrixOperations;
+
+/**
+ * Result of removing the full rows after a brick locks.
+ *
+ * <p>Boards reuse a single instance and overwrite it on every {@link Board#clearRows()}
+ * call so locking a brick does not allocate. Read the values before the next lock.
+ */
+public final class ClearRow {
+
+    private int linesRemoved;
+    private int[][] newMatrix;
+    private int scoreBonus;
+
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        set(linesRemoved, newMatrix, scoreBonus);
+    }
+
+    /**
+     * Overwrites this result in place.
+     *
+     * @param linesRemoved the number of rows removed
+     * @param newMatrix the board matrix after the rows were removed
+     * @param scoreBonus the points awarded for the removed rows
+     */
+    void set(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this.linesRemoved = linesRemoved;
+        this.newMatrix = newMatrix;
+        this.scoreBonus = scoreBonus;
+    }
+
+    public int getLinesRemoved() {
+        return linesRemoved;
+    }
+
+    /**
+     * Returns a copy of the board matrix after the rows were removed.
+     * Callers that only read the board should use {@link Board#getBoardMatrix()} instead.
+     *
+     * @return a new copy of the matrix
+     */
+    public int[][] getNewMatrix() {
+        return MatrixOperations.copy(newMatrix);
+    }
+
+    public int getScoreBonus() {
+        return scoreBonus;
+    }
+}
+
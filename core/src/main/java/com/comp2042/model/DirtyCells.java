@@ -0,0 +1,126 @@
+package com.comp2042.model;
+
+import java.util.Arrays;
+
+/**
+ * The cells of a board's field that changed since a view last drew it, one bit per cell.
+ *
+ * <p>Each row is a bitset of its columns, so marking a cell is a single OR and a view can
+ * skip unchanged rows with one test. The board marks the cells it writes; the view repaints
+ * the marked cells and then {@link #clear() clears} the set. Nothing is allocated after
+ * construction.
+ */
+public final class DirtyCells {
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    // Row r's columns are bits of words [r * wordsPerRow, (r + 1) * wordsPerRow)
+    private final long[] words;
+    private final long lastWordMask;
+
+    /**
+     * Creates an empty set for a field.
+     *
+     * @param width the number of columns
+     * @param height the number of rows
+     * @throws IllegalArgumentException if either dimension is not positive
+     */
+    public DirtyCells(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid field size: " + width + "x" + height + ". Must be positive.");
+        }
+        this.width = width;
+        this.height = height;
+        wordsPerRow = (width + Long.SIZE - 1) / Long.SIZE;
+        words = new long[wordsPerRow * height];
+        int lastWordBits = width - (wordsPerRow - 1) * Long.SIZE;
+        lastWordMask = lastWordBits == Long.SIZE ? -1L : (1L << lastWordBits) - 1;
+    }
+
+    /**
+     * Marks one cell as changed.
+     *
+     * @param row the row
+     * @param column the column
+     */
+    public void markCell(int row, int column) {
+        words[row * wordsPerRow + (column >>> 6)] |= 1L << column;
+    }
+
+    /**
+     * Marks every cell of a range of rows as changed, for changes that move whole rows such
+     * as line clears and vine lines. The range is clipped to the field.
+     *
+     * @param fromRow the first row
+     * @param toRow the last row, inclusive
+     */
+    public void markRows(int fromRow, int toRow) {
+        for (int row = Math.max(0, fromRow); row <= Math.min(height - 1, toRow); row++) {
+            int first = row * wordsPerRow;
+            Arrays.fill(words, first, first + wordsPerRow - 1, -1L);
+            words[first + wordsPerRow - 1] = lastWordMask;
+        }
+    }
+
+    /**
+     * Marks the whole field as changed.
+     */
+    public void markAll() {
+        markRows(0, height - 1);
+    }
+
+    /**
+     * Returns whether a cell changed.
+     *
+     * @param row the row
+     * @param column the column
+     * @return true if the cell is marked
+     */
+    public boolean isDirty(int row, int column) {
+        return (words[row * wordsPerRow + (column >>> 6)] & (1L << column)) != 0;
+    }
+
+    /**
+     * Returns whether any cell of a row changed, so views can skip clean rows at once.
+     *
+     * @param row the row
+     * @return true if any cell of the row is marked
+     */
+    public boolean isRowDirty(int row) {
+        for (int i = row * wordsPerRow; i < (row + 1) * wordsPerRow; i++) {
+            if (words[i] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of changed cells.
+     *
+     * @return the number of marked cells
+     */
+    public int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Forgets every change, after a view has drawn them.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
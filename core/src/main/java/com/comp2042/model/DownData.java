@@ -0,0 +1,33 @@
+package com.comp2042.model;
+
+/**
+ * Result of a down or hard-drop move: the rows cleared if the brick locked, and the
+ * brick to display next. The game controller reuses one instance for every move.
+ */
+public final class DownData {
+    private ClearRow clearRow;
+    private ViewData viewData;
+
+    public DownData(ClearRow clearRow, ViewData viewData) {
+        set(clearRow, viewData);
+    }
+
+    /**
+     * Overwrites this result in place.
+     *
+     * @param clearRow the rows cleared by the lock, or null if the brick did not lock
+     * @param viewData the brick to display
+     */
+    public void set(ClearRow clearRow, ViewData viewData) {
+        this.clearRow = clearRow;
+        this.viewData = viewData;
+    }
+
+    public ClearRow getClearRow() {
+        return clearRow;
+    }
+
+    public ViewData getViewData() {
+        return viewData;
+    }
+}
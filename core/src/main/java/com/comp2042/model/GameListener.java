@@ -0,0 +1,45 @@
+package com.comp2042.model;
+
+/**
+ * Receives state changes and game events from a {@link Board}.
+ *
+ * <p>This is how the core reports to the outside world without depending on a UI toolkit:
+ * the desktop client adapts these callbacks to JavaFX properties and sound effects, while
+ * headless runs register nothing. Callbacks run synchronously on the thread driving the
+ * board, so they should be quick. Every method has an empty default, so implementations
+ * only override what they need.
+ */
+public interface GameListener extends ScoreListener {
+
+    @Override
+    default void scoreChanged(int score) {
+    }
+
+    /**
+     * Called after the level has changed.
+     *
+     * @param level the new level
+     */
+    default void levelChanged(int level) {
+    }
+
+    /**
+     * Called after the falling brick has been moved sideways or rotated by the player.
+     */
+    default void brickMoved() {
+    }
+
+    /**
+     * Called after the falling brick has been merged into the field.
+     */
+    default void brickLanded() {
+    }
+
+    /**
+     * Called after full rows have been removed. Not called when a lock clears nothing.
+     *
+     * @param lines the number of rows removed
+     */
+    default void rowsCleared(int lines) {
+    }
+}
@@ -3,6 +3,10 @@ package com.comp2042.model;
 /**
  * Represents a 2D point with integer coordinates.
  * This class is immutable and replaces java.awt.Point to decouple from AWT.
+ *
+ * <p>Boards do not use this class for the falling brick: they keep its position in
+ * primitive fields so moves, ghost lookups and hard drops never allocate. GamePoint is
+ * meant for code at the UI boundary that wants a position as a value.
  */
 public final class GamePoint {
 
@@ -54,7 +58,7 @@ public final class GamePoint {
     /**
      * Returns a new GamePoint that is translated by the specified offsets.
      * Since this class is immutable, this method returns a new instance
-     * rather than modifying the current one.
+     * rather than modifying the current one, so avoid it in per-move code.
      *
      * @param dx the x offset
      * @param dy the y offset
@@ -0,0 +1,130 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.RotationTable;
+
+/**
+ * Board implementation whose rows live in a {@link RowRingBuffer}.
+ *
+ * <p>Vine and garbage rows are inserted by rotating the buffer, and each cleared line is
+ * removed by moving the row references on its shorter side, so neither operation copies
+ * cells. This keeps Overgrowth games with tall stacks and frequent vine insertion cheap.
+ *
+ * <p>Game rules (scoring, levels, modes) come from {@link AbstractBoard} and are identical
+ * to {@link SimpleBoard}.
+ */
+public class RingBufferBoard extends AbstractBoard {
+
+    private final RowRingBuffer rows;
+    // Rows covered by the most recently merged brick; the only rows a lock can complete
+    private int lastMergeTop = 0;
+    private int lastMergeBottom = -1;
+
+    public RingBufferBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a board that draws its bricks from the given generator.
+     *
+     * @param width the number of columns
+     * @param height the number of rows
+     * @param brickGenerator the source of new bricks
+     */
+    public RingBufferBoard(int width, int height, BrickGenerator brickGenerator) {
+        super(width, height, brickGenerator);
+        rows = new RowRingBuffer(width, height);
+    }
+
+    @Override
+    protected boolean intersects(RotationTable shapes, int rotation, int x, int y) {
+        int minRow = shapes.getMinRow(rotation);
+        int maxRow = shapes.getMaxRow(rotation);
+        if (y + minRow < 0 || y + maxRow >= height
+                || x + shapes.getMinColumn(rotation) < 0 || x + shapes.getMaxColumn(rotation) >= width) {
+            return true;
+        }
+        int mask = shapes.getMask(rotation);
+        for (int i = minRow; i <= maxRow; i++) {
+            int[] rowCells = rows.cells(y + i);
+            for (int bits = RotationTable.maskRow(mask, i); bits != 0; bits &= bits - 1) {
+                if (rowCells[x + Integer.numberOfTrailingZeros(bits)] != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return rows.asMatrix();
+    }
+
+    @Override
+    protected void mergeShape(RotationTable shapes, int rotation, int x, int y) {
+        int mask = shapes.getMask(rotation);
+        int color = shapes.getColor();
+        int minRow = shapes.getMinRow(rotation);
+        int maxRow = shapes.getMaxRow(rotation);
+        for (int i = minRow; i <= maxRow; i++) {
+            for (int bits = RotationTable.maskRow(mask, i); bits != 0; bits &= bits - 1) {
+                rows.set(y + i, x + Integer.numberOfTrailingZeros(bits), color);
+            }
+        }
+        lastMergeTop = y + minRow;
+        lastMergeBottom = y + maxRow;
+    }
+
+    /**
+     * Removes the full rows among those covered by the last merged brick.
+     * Rows are removed top to bottom: removing a row only shifts the rows above it,
+     * so the indices of the rows still to be checked stay valid.
+     */
+    @Override
+    protected int removeFullRows(DirtyCells changed) {
+        int linesRemoved = 0;
+        int lowestRemoved = -1;
+        for (int row = lastMergeTop; row <= lastMergeBottom; row++) {
+            if (rows.isFull(row)) {
+                rows.removeRow(row);
+                linesRemoved++;
+                lowestRemoved = row;
+            }
+        }
+        if (linesRemoved > 0) {
+            changed.markRows(0, lowestRemoved);
+        }
+        lastMergeTop = 0;
+        lastMergeBottom = -1;
+        return linesRemoved;
+    }
+
+    @Override
+    protected void clearField() {
+        rows.clear();
+        lastMergeTop = 0;
+        lastMergeBottom = -1;
+    }
+
+    @Override
+    protected int getCell(int row, int col) {
+        return rows.get(row, col);
+    }
+
+    @Override
+    protected void setCell(int row, int col, int color) {
+        rows.set(row, col, color);
+    }
+
+    @Override
+    protected int getRowFillCount(int row) {
+        return rows.fillCount(row);
+    }
+
+    @Override
+    protected void insertBottomRow(int color, int holeColumn) {
+        rows.pushBottom(color, holeColumn);
+    }
+}
@@ -0,0 +1,170 @@
+package com.comp2042.model;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-height stack of board rows kept in a circular buffer.
+ *
+ * <p>Logical row {@code r} (0 = top) lives in slot {@code (head + r) % height}. Inserting a
+ * row at the bottom only advances {@code head}, and removing a row moves row references
+ * on whichever side of it is shorter; no cell is ever copied between rows. Each row keeps
+ * its own fill count, so the count travels with the row when it moves.
+ */
+final class RowRingBuffer {
+
+    /**
+     * One row of the field: its cells and the number of them that are filled.
+     */
+    private static final class Row {
+        final int[] cells;
+        int filled;
+
+        Row(int width) {
+            cells = new int[width];
+        }
+
+        void clear() {
+            Arrays.fill(cells, 0);
+            filled = 0;
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final Row[] slots;
+    private int head = 0;
+    // Top-to-bottom view handed to callers; rows alias the live cells and only the order is cached
+    private final int[][] view;
+    private boolean viewStale = true;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param width the number of cells per row
+     * @param height the number of rows
+     */
+    RowRingBuffer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        slots = new Row[height];
+        for (int i = 0; i < height; i++) {
+            slots[i] = new Row(width);
+        }
+        view = new int[height][];
+    }
+
+    private int slot(int row) {
+        int slot = head + row;
+        return slot >= height ? slot - height : slot;
+    }
+
+    /**
+     * Returns the live cells of a logical row. Writes through this array bypass the
+     * fill count, so use {@link #set} to change cells.
+     *
+     * @param row the logical row index
+     * @return the cells of the row
+     */
+    int[] cells(int row) {
+        return slots[slot(row)].cells;
+    }
+
+    int get(int row, int col) {
+        return slots[slot(row)].cells[col];
+    }
+
+    /**
+     * Writes a cell and updates the fill count of its row.
+     *
+     * @param row the logical row index
+     * @param col the column index
+     * @param color the new color (0 empties the cell)
+     */
+    void set(int row, int col, int color) {
+        Row target = slots[slot(row)];
+        int previous = target.cells[col];
+        target.cells[col] = color;
+        if (previous == 0 && color != 0) {
+            target.filled++;
+        } else if (previous != 0 && color == 0) {
+            target.filled--;
+        }
+    }
+
+    int fillCount(int row) {
+        return slots[slot(row)].filled;
+    }
+
+    boolean isFull(int row) {
+        return slots[slot(row)].filled == width;
+    }
+
+    /**
+     * Removes a row; the rows above it drop by one and an empty row appears at the top.
+     * Costs at most half the height in reference moves.
+     *
+     * @param row the logical row index to remove
+     */
+    void removeRow(int row) {
+        Row removed = slots[slot(row)];
+        removed.clear();
+        if (row < height - 1 - row) {
+            // Drop the rows above by one and put the cleared row on top
+            for (int r = row; r > 0; r--) {
+                slots[slot(r)] = slots[slot(r - 1)];
+            }
+            slots[head] = removed;
+        } else {
+            // Lift the rows below by one, park the cleared row at the bottom and rotate it to the top
+            for (int r = row; r < height - 1; r++) {
+                slots[slot(r)] = slots[slot(r + 1)];
+            }
+            slots[slot(height - 1)] = removed;
+            head = head == 0 ? height - 1 : head - 1;
+        }
+        viewStale = true;
+    }
+
+    /**
+     * Inserts a row at the bottom, pushing every row up by one. The top row is recycled,
+     * so it must be empty.
+     *
+     * @param color the color of the new row
+     * @param holeColumn the column left empty
+     */
+    void pushBottom(int color, int holeColumn) {
+        Row recycled = slots[head];
+        Arrays.fill(recycled.cells, color);
+        recycled.cells[holeColumn] = 0;
+        recycled.filled = width - 1;
+        head = slot(1);
+        viewStale = true;
+    }
+
+    /**
+     * Empties every row and resets the rotation.
+     */
+    void clear() {
+        for (Row row : slots) {
+            row.clear();
+        }
+        head = 0;
+        viewStale = true;
+    }
+
+    /**
+     * Returns the rows in top-to-bottom order. The row arrays are the live cells; the outer
+     * array is reused and only reordered after rows have been inserted or removed.
+     *
+     * @return the field as a matrix
+     */
+    int[][] asMatrix() {
+        if (viewStale) {
+            for (int r = 0; r < height; r++) {
+                view[r] = slots[slot(r)].cells;
+            }
+            viewStale = false;
+        }
+        return view;
+    }
+}
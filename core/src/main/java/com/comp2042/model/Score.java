@@ -0,0 +1,64 @@
+package com.comp2042.model;
+
+import java.util.Arrays;
+
+/**
+ * The running score of a game. Changes are reported to registered {@link ScoreListener}s.
+ */
+public final class Score {
+
+    private static final ScoreListener[] NO_LISTENERS = new ScoreListener[0];
+
+    private int score = 0;
+    // Copied on registration so notifying never allocates
+    private ScoreListener[] listeners = NO_LISTENERS;
+
+    public int get() {
+        return score;
+    }
+
+    public void add(int i){
+        set(score + i);
+    }
+
+    public void reset() {
+        set(0);
+    }
+
+    /**
+     * Registers a listener that is notified whenever the score changes.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(ScoreListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Unregisters a listener previously passed to {@link #addListener}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(ScoreListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                ScoreListener[] remaining = new ScoreListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, remaining, 0, i);
+                System.arraycopy(listeners, i + 1, remaining, i, remaining.length - i);
+                listeners = remaining;
+                return;
+            }
+        }
+    }
+
+    private void set(int value) {
+        if (value == score) {
+            return;
+        }
+        score = value;
+        for (ScoreListener listener : listeners) {
+            listener.scoreChanged(value);
+        }
+    }
+}
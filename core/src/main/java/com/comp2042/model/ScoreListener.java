@@ -0,0 +1,15 @@
+package com.comp2042.model;
+
+/**
+ * Receives score changes from a {@link Score}.
+ */
+@FunctionalInterface
+public interface ScoreListener {
+
+    /**
+     * Called after the score has changed.
+     *
+     * @param score the new score
+     */
+    void scoreChanged(int score);
+}
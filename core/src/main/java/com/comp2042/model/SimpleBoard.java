@@ -0,0 +1,235 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.util.MatrixOperations;
+
+import java.util.Arrays;
+
+public class SimpleBoard extends AbstractBoard {
+
+    private final int[][] currentGameMatrix;
+    // Number of filled cells in each row, maintained on every write so full rows are found without scanning
+    private final int[] rowFillCounts;
+    // Row index of the topmost filled cell in each column, or height if the column is empty
+    private final int[] columnTops;
+    // Rows covered by the most recently merged brick; the only rows a lock can complete
+    private int lastMergeTop = 0;
+    private int lastMergeBottom = -1;
+
+    public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a board that draws its bricks from the given generator.
+     *
+     * @param width the number of columns
+     * @param height the number of rows
+     * @param brickGenerator the source of new bricks
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
+        super(width, height, brickGenerator);
+        currentGameMatrix = new int[height][width];
+        rowFillCounts = new int[height];
+        columnTops = new int[width];
+        Arrays.fill(columnTops, height);
+    }
+
+    /**
+     * Collision is tested against the live matrix (intersect never writes to it),
+     * so neither a successful nor a blocked move allocates.
+     */
+    @Override
+    protected boolean intersects(RotationTable shapes, int rotation, int x, int y) {
+        return MatrixOperations.intersect(currentGameMatrix, shapes, rotation, x, y);
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return currentGameMatrix;
+    }
+
+    @Override
+    protected void mergeShape(RotationTable shapes, int rotation, int x, int y) {
+        MatrixOperations.mergeInPlace(currentGameMatrix, shapes, rotation, x, y);
+
+        int mask = shapes.getMask(rotation);
+        int minRow = shapes.getMinRow(rotation);
+        int maxRow = shapes.getMaxRow(rotation);
+        for (int i = minRow; i <= maxRow; i++) {
+            int rowBits = RotationTable.maskRow(mask, i);
+            rowFillCounts[y + i] += Integer.bitCount(rowBits);
+            // Rows are visited top-down, so the first row to reach a column is its top cell
+            for (int bits = rowBits; bits != 0; bits &= bits - 1) {
+                int col = x + Integer.numberOfTrailingZeros(bits);
+                columnTops[col] = Math.min(columnTops[col], y + i);
+            }
+        }
+        lastMergeTop = y + minRow;
+        lastMergeBottom = y + maxRow;
+    }
+
+    /**
+     * Removes full rows in place. Only the rows covered by the last merged brick can have
+     * become full, so only their fill counters are checked; when none is full nothing else
+     * is touched. Otherwise the rows above the lowest full row are moved down by reference
+     * and the cleared row arrays are wiped and reused at the top.
+     */
+    @Override
+    protected int removeFullRows(DirtyCells changed) {
+        int lowestFullRow = -1;
+        for (int row = lastMergeBottom; row >= lastMergeTop; row--) {
+            if (rowFillCounts[row] == width) {
+                lowestFullRow = row;
+                break;
+            }
+        }
+        lastMergeTop = 0;
+        lastMergeBottom = -1;
+        if (lowestFullRow < 0) {
+            return 0;
+        }
+        changed.markRows(0, lowestFullRow);
+
+        int linesRemoved = 0;
+        int writeRow = lowestFullRow;
+        for (int readRow = lowestFullRow; readRow >= 0; readRow--) {
+            if (rowFillCounts[readRow] == width) {
+                linesRemoved++;
+                continue;
+            }
+            if (writeRow != readRow) {
+                int[] clearedRow = currentGameMatrix[writeRow];
+                currentGameMatrix[writeRow] = currentGameMatrix[readRow];
+                rowFillCounts[writeRow] = rowFillCounts[readRow];
+                currentGameMatrix[readRow] = clearedRow;
+            }
+            writeRow--;
+        }
+        // The rows left at the top are exactly the cleared row arrays
+        for (int row = writeRow; row >= 0; row--) {
+            Arrays.fill(currentGameMatrix[row], 0);
+            rowFillCounts[row] = 0;
+        }
+        recomputeColumnTops();
+        return linesRemoved;
+    }
+
+    @Override
+    protected void clearField() {
+        for (int[] row : currentGameMatrix) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(rowFillCounts, 0);
+        Arrays.fill(columnTops, height);
+        lastMergeTop = 0;
+        lastMergeBottom = -1;
+    }
+
+    @Override
+    protected int getCell(int row, int col) {
+        return currentGameMatrix[row][col];
+    }
+
+    /**
+     * Writes a single cell and keeps the row counts and column heights in step.
+     */
+    @Override
+    protected void setCell(int row, int col, int color) {
+        int previous = currentGameMatrix[row][col];
+        currentGameMatrix[row][col] = color;
+        if (previous == 0 && color != 0) {
+            rowFillCounts[row]++;
+            columnTops[col] = Math.min(columnTops[col], row);
+        } else if (previous != 0 && color == 0) {
+            rowFillCounts[row]--;
+            if (columnTops[col] == row) {
+                columnTops[col] = topFilledRow(col, row + 1);
+            }
+        }
+    }
+
+    @Override
+    protected int getRowFillCount(int row) {
+        return rowFillCounts[row];
+    }
+
+    /**
+     * Finds the landing row from the column heights without moving the brick.
+     * For each column the brick occupies, the brick can fall until its lowest cell in that
+     * column sits on the column's topmost block; the landing row is the minimum over those
+     * columns. That only holds while every such block is below the brick, so a brick that
+     * has been slid under an overhang falls back to probing row by row.
+     */
+    @Override
+    protected int findLandingY(RotationTable shapes, int rotation, int x, int y) {
+        int landingY = Integer.MAX_VALUE;
+        for (int j = shapes.getMinColumn(rotation); j <= shapes.getMaxColumn(rotation); j++) {
+            int bottom = shapes.getBottom(rotation, j);
+            if (bottom == RotationTable.EMPTY_COLUMN) {
+                continue;
+            }
+            int columnTop = columnTops[x + j];
+            if (columnTop <= y + bottom) {
+                return super.findLandingY(shapes, rotation, x, y);
+            }
+            landingY = Math.min(landingY, columnTop - 1 - bottom);
+        }
+        return landingY;
+    }
+
+    /**
+     * Returns the topmost filled row of a field column at or below the given row.
+     *
+     * @param col the column index
+     * @param fromRow the first row to look at
+     * @return the row index, or height if the rest of the column is empty
+     */
+    private int topFilledRow(int col, int fromRow) {
+        for (int row = fromRow; row < height; row++) {
+            if (currentGameMatrix[row][col] != 0) {
+                return row;
+            }
+        }
+        return height;
+    }
+
+    /**
+     * Rebuilds the column heights after rows have been removed or rewritten.
+     */
+    private void recomputeColumnTops() {
+        for (int col = 0; col < width; col++) {
+            columnTops[col] = topFilledRow(col, 0);
+        }
+    }
+
+    @Override
+    protected void insertBottomRow(int color, int holeColumn) {
+        for (int row = 0; row < height - 1; row++) {
+            for (int col = 0; col < width; col++) {
+                currentGameMatrix[row][col] = currentGameMatrix[row + 1][col];
+            }
+        }
+
+        int[] newBottomRow = new int[width];
+        for (int col = 0; col < width; col++) {
+            newBottomRow[col] = color;
+        }
+        newBottomRow[holeColumn] = 0;
+
+        for (int col = 0; col < width; col++) {
+            currentGameMatrix[height - 1][col] = newBottomRow[col];
+        }
+        System.arraycopy(rowFillCounts, 1, rowFillCounts, 0, height - 1);
+        rowFillCounts[height - 1] = width - 1;
+        for (int col = 0; col < width; col++) {
+            if (columnTops[col] < height) {
+                columnTops[col]--;
+            } else if (col != holeColumn) {
+                columnTops[col] = height - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.bricks.RotationTable;
+
+/**
+ * Read-only snapshot of the falling brick and the next brick, for the view.
+ *
+ * <p>Boards keep one instance and refresh it on every {@link Board#getViewData()} call, so
+ * reading piece data never allocates: use the cell accessors in render loops. They read
+ * the shared rotation tables in place. {@link #getBrickData()} and
+ * {@link #getNextBrickData()} return private copies for callers that need to keep or
+ * modify a matrix.
+ */
+public final class ViewData {
+
+    private RotationTable brick;
+    private int rotation;
+    private int xPosition;
+    private int yPosition;
+    private RotationTable nextBrick;
+
+    /**
+     * Creates an empty snapshot, filled in by the board.
+     */
+    ViewData() {
+    }
+
+    /**
+     * Overwrites this snapshot in place.
+     *
+     * @param brick the rotation table of the falling brick
+     * @param rotation the rotation index of the falling brick
+     * @param xPosition the column of the falling brick
+     * @param yPosition the row of the falling brick
+     * @param nextBrick the rotation table of the next brick, shown in its first rotation
+     */
+    void set(RotationTable brick, int rotation, int xPosition, int yPosition, RotationTable nextBrick) {
+        this.brick = brick;
+        this.rotation = rotation;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+        this.nextBrick = nextBrick;
+    }
+
+    public int[][] getBrickData() {
+        return brick.copy(rotation);
+    }
+
+    /**
+     * Returns the number of rows of the falling brick's shape matrix.
+     *
+     * @return the shape height
+     */
+    public int getBrickHeight() {
+        return brick.getHeight(rotation);
+    }
+
+    /**
+     * Returns the number of columns of the falling brick's shape matrix.
+     *
+     * @return the shape width
+     */
+    public int getBrickWidth() {
+        return brick.getWidth();
+    }
+
+    /**
+     * Returns one cell of the falling brick without copying the shape.
+     *
+     * @param row the row within the shape
+     * @param col the column within the shape
+     * @return the cell color (0 when empty)
+     */
+    public int getBrickCell(int row, int col) {
+        return brick.getCell(rotation, row, col);
+    }
+
+    public int getxPosition() {
+        return xPosition;
+    }
+
+    public int getyPosition() {
+        return yPosition;
+    }
+
+    public int[][] getNextBrickData() {
+        return nextBrick.copy(0);
+    }
+
+    /**
+     * Returns one cell of the next brick without copying the shape.
+     *
+     * @param row the row within the shape
+     * @param col the column within the shape
+     * @return the cell color (0 when empty)
+     */
+    public int getNextBrickCell(int row, int col) {
+        return nextBrick.getCell(0, row, col);
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.model.tetromino;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RotationTable;
+
+public class BrickRotator {
+
+    // Shared rotation states of the current brick; never copied or modified
+    private RotationTable shapes;
+    private int currentShape = 0;
+
+    public NextShapeInfo getNextShape() {
+        int nextShape = getNextPosition();
+        return new NextShapeInfo(shapes.copy(nextShape), nextShape);
+    }
+
+    /**
+     * Returns the index of the rotation state that follows the current one.
+     *
+     * @return the next rotation index
+     */
+    public int getNextPosition() {
+        return (currentShape + 1) % shapes.size();
+    }
+
+    /**
+     * Returns a copy of the shape for the given rotation index. Use the rotation table's
+     * cell accessor to read a shape without copying it.
+     *
+     * @param position the rotation index
+     * @return a new shape matrix of that rotation
+     */
+    public int[][] getShape(int position) {
+        return shapes.copy(position);
+    }
+
+    public int[][] getCurrentShape() {
+        return shapes.copy(currentShape);
+    }
+
+    /**
+     * Returns the index of the current rotation state.
+     *
+     * @return the current rotation index
+     */
+    public int getCurrentPosition() {
+        return currentShape;
+    }
+
+    /**
+     * Returns the shared rotation table of the current brick.
+     *
+     * @return the immutable rotation table
+     */
+    public RotationTable getRotationTable() {
+        return shapes;
+    }
+
+    public void setCurrentShape(int currentShape) {
+        this.currentShape = currentShape;
+    }
+
+    public void setBrick(Brick brick) {
+        this.shapes = brick.getRotationTable();
+        currentShape = 0;
+    }
+
+
+}
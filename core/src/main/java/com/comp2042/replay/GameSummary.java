@@ -0,0 +1,98 @@
+package com.comp2042.replay;
+
+import com.comp2042.model.GameListener;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Counts the bricks and lines of a game and folds every line clear into a digest, so two
+ * runs of a game can be compared without storing each clear.
+ *
+ * <p>The digest is a 32-bit FNV-1a hash over (bricks landed so far, lines cleared) of
+ * every clear, in order.
+ */
+public final class GameSummary implements GameListener {
+
+    private static final int FNV_OFFSET = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+
+    private int pieces;
+    private int lines;
+    private int digest = FNV_OFFSET;
+
+    /**
+     * Forgets everything counted so far, for a new game.
+     */
+    public void reset() {
+        pieces = 0;
+        lines = 0;
+        digest = FNV_OFFSET;
+    }
+
+    /**
+     * Writes the counts and digest, so a keyframe can resume them.
+     *
+     * @param out the destination
+     */
+    public void saveState(ByteBuffer out) {
+        out.putInt(pieces);
+        out.putInt(lines);
+        out.putInt(digest);
+    }
+
+    /**
+     * Resumes the counts and digest written by {@link #saveState}.
+     *
+     * @param in the source
+     */
+    public void restoreState(ByteBuffer in) {
+        pieces = in.getInt();
+        lines = in.getInt();
+        digest = in.getInt();
+    }
+
+    @Override
+    public void brickLanded() {
+        pieces++;
+    }
+
+    @Override
+    public void rowsCleared(int cleared) {
+        lines += cleared;
+        digest = mix(mix(digest, pieces), cleared);
+    }
+
+    private static int mix(int hash, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash = (hash ^ ((value >>> shift) & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the number of bricks that have landed.
+     *
+     * @return the brick count
+     */
+    public int getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Returns the number of lines cleared.
+     *
+     * @return the line count
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Returns the digest of every line clear so far.
+     *
+     * @return the clear digest
+     */
+    public int getDigest() {
+        return digest;
+    }
+}
@@ -0,0 +1,274 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.bricks.Randomizer;
+import com.comp2042.model.GameMode;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A decoded replay: how the game was set up, every input with its time, and the recorded
+ * outcome (see {@link ReplayFormat} for the encoding).
+ */
+public final class Replay {
+
+    private final GameMode mode;
+    private final Randomizer randomizer;
+    private final long seed;
+    private final long startedAt;
+    private final long duration;
+    private final int eventCount;
+    private final byte[] events;
+    private final long[] times;
+    private final boolean complete;
+    private final int score;
+    private final int pieces;
+    private final int lines;
+    private final int digest;
+    private final int[] keyframeEvents;
+    private final ByteBuffer[] keyframes;
+
+    private static final int[] NO_KEYFRAME_EVENTS = new int[0];
+    private static final ByteBuffer[] NO_KEYFRAMES = new ByteBuffer[0];
+
+    private Replay(GameMode mode, Randomizer randomizer, long seed, long startedAt, long duration, int eventCount,
+                   byte[] events, long[] times, boolean complete, int score, int pieces, int lines, int digest,
+                   int[] keyframeEvents, ByteBuffer[] keyframes) {
+        this.mode = mode;
+        this.randomizer = randomizer;
+        this.seed = seed;
+        this.startedAt = startedAt;
+        this.duration = duration;
+        this.eventCount = eventCount;
+        this.events = events;
+        this.times = times;
+        this.complete = complete;
+        this.score = score;
+        this.pieces = pieces;
+        this.lines = lines;
+        this.digest = digest;
+        this.keyframeEvents = keyframeEvents;
+        this.keyframes = keyframes;
+    }
+
+    /**
+     * Decodes a replay.
+     *
+     * @param data the encoded replay
+     * @return the replay
+     * @throws IllegalArgumentException if the data is not a valid replay
+     */
+    public static Replay read(byte[] data) {
+        return read(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Decodes a replay from the buffer's position up to its limit. Works on heap and
+     * memory-mapped buffers alike; the buffer's position is advanced.
+     *
+     * @param data the encoded replay
+     * @return the replay
+     * @throws IllegalArgumentException if the data is not a valid replay
+     */
+    public static Replay read(ByteBuffer data) {
+        try {
+            if (data.remaining() < ReplayFormat.HEADER_SIZE || data.getInt() != ReplayFormat.MAGIC) {
+                throw new IllegalArgumentException("Not a replay");
+            }
+            byte version = data.get();
+            if (version != ReplayFormat.VERSION && version != ReplayFormat.VERSION_WITHOUT_KEYFRAMES) {
+                throw new IllegalArgumentException("Unsupported replay version: " + version);
+            }
+            GameMode mode = ordinal(GameMode.values(), data.get(), "game mode");
+            Randomizer randomizer = ordinal(Randomizer.values(), data.get(), "randomizer");
+            long seed = data.getLong();
+            long startedAt = data.getLong();
+
+            // Events usually take one or two bytes each
+            int capacity = Math.max(16, data.remaining() / 2);
+            byte[] events = new byte[capacity];
+            long[] times = new long[capacity];
+            int count = 0;
+            long time = 0;
+            while (data.hasRemaining()) {
+                long value = ReplayFormat.getVarint(data);
+                time += value >>> ReplayFormat.EVENT_BITS;
+                int event = (int) (value & ((1 << ReplayFormat.EVENT_BITS) - 1));
+                if (event == ReplayFormat.END) {
+                    int score = (int) ReplayFormat.getVarint(data);
+                    int pieces = (int) ReplayFormat.getVarint(data);
+                    int lines = (int) ReplayFormat.getVarint(data);
+                    int digest = data.getInt();
+                    if (version == ReplayFormat.VERSION_WITHOUT_KEYFRAMES) {
+                        return new Replay(mode, randomizer, seed, startedAt, time, count, events, times, true,
+                                score, pieces, lines, digest, NO_KEYFRAME_EVENTS, NO_KEYFRAMES);
+                    }
+                    int keyframeCount = (int) ReplayFormat.getVarint(data);
+                    if (keyframeCount < 0 || keyframeCount > count / ReplayFormat.KEYFRAME_INTERVAL + 1) {
+                        throw new IllegalArgumentException("Malformed replay: " + keyframeCount + " keyframes");
+                    }
+                    int[] keyframeEvents = new int[keyframeCount];
+                    ByteBuffer[] keyframes = new ByteBuffer[keyframeCount];
+                    for (int i = 0; i < keyframeCount; i++) {
+                        keyframeEvents[i] = data.getInt();
+                        int size = data.getShort() & 0xFFFF;
+                        if (keyframeEvents[i] < 0 || keyframeEvents[i] > count || size > data.remaining()) {
+                            throw new IllegalArgumentException("Malformed replay: bad keyframe " + i);
+                        }
+                        // Views share the replay's memory, so mapped archives are not copied
+                        keyframes[i] = data.slice(data.position(), size).asReadOnlyBuffer();
+                        data.position(data.position() + size);
+                    }
+                    return new Replay(mode, randomizer, seed, startedAt, time, count,
+                            events, times, true, score, pieces, lines, digest, keyframeEvents, keyframes);
+                }
+                if (count == events.length) {
+                    events = Arrays.copyOf(events, count * 2);
+                    times = Arrays.copyOf(times, count * 2);
+                }
+                events[count] = (byte) event;
+                times[count] = time;
+                count++;
+            }
+            return new Replay(mode, randomizer, seed, startedAt, time, count, events, times, false, 0, 0, 0, 0,
+                    NO_KEYFRAME_EVENTS, NO_KEYFRAMES);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Malformed replay: truncated", e);
+        }
+    }
+
+    private static <T> T ordinal(T[] values, byte ordinal, String what) {
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IllegalArgumentException("Malformed replay: unknown " + what + " " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public Randomizer getRandomizer() {
+        return randomizer;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns when the game was started.
+     *
+     * @return wall-clock time in epoch milliseconds
+     */
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Returns the game time from the start to the last event (the end, if complete).
+     *
+     * @return the duration in milliseconds
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the number of input events, not counting the end of the game.
+     *
+     * @return the event count
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Returns an event code.
+     *
+     * @param index the event index
+     * @return one of the {@link ReplayFormat} event codes
+     */
+    public int getEvent(int index) {
+        return events[checkIndex(index)];
+    }
+
+    /**
+     * Returns the game time of an event since the start of the game.
+     *
+     * @param index the event index
+     * @return the time in milliseconds
+     */
+    public long getTime(int index) {
+        return times[checkIndex(index)];
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= eventCount) {
+            throw new IndexOutOfBoundsException("Event " + index + " of " + eventCount);
+        }
+        return index;
+    }
+
+    /**
+     * Returns whether the replay ends with the game's outcome. The outcome getters return 0
+     * for replays that were cut short.
+     *
+     * @return true if the game's end was recorded
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getPieces() {
+        return pieces;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Returns the digest of every line clear, see {@link GameSummary#getDigest()}.
+     *
+     * @return the clear digest
+     */
+    public int getDigest() {
+        return digest;
+    }
+
+    /**
+     * Returns the number of keyframes stored with the replay. Replays that were cut short
+     * have none.
+     *
+     * @return the keyframe count
+     */
+    public int getKeyframeCount() {
+        return keyframes.length;
+    }
+
+    /**
+     * Returns the index of the event a keyframe was taken before.
+     *
+     * @param index the keyframe index, in event order
+     * @return the event index
+     */
+    public int getKeyframeEvent(int index) {
+        return keyframeEvents[index];
+    }
+
+    /**
+     * Returns a keyframe: the {@link GameSummary} state followed by the board state.
+     *
+     * @param index the keyframe index, in event order
+     * @return a new read-only view of the keyframe, positioned at its start
+     */
+    public ByteBuffer getKeyframe(int index) {
+        return keyframes[index].duplicate();
+    }
+}
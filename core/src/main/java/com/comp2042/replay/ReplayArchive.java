@@ -0,0 +1,684 @@
+package com.comp2042.replay;
+
+import com.comp2042.model.GameMode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps many replays in one append-only data file, with an index sorted by mode, score,
+ * date and duration. Both files are read through memory maps, so opening a replay or
+ * finding the best games never loads the archive onto the heap.
+ *
+ * <p>Data file ({@value #DATA_FILE_NAME}): an 8-byte header ({@link #DATA_MAGIC}, version,
+ * padding) followed by one record per replay: its length (4 bytes) and the encoded replay.
+ *
+ * <p>Index file ({@value #INDEX_FILE_NAME}): a 24-byte header (magic, version, state,
+ * padding, sorted entry count, padding, end of the indexed data) followed by fixed-size
+ * {@link Entry entries}. The first entries are sorted by {@link #INDEX_ORDER}; newer ones
+ * follow in the order they were added until {@link #compact()} merges them in, which
+ * happens automatically once {@value #MAX_UNSORTED} have piled up.
+ *
+ * <p>The index can always be rebuilt from the data file, so a crash or a damaged index
+ * never loses a replay. The data file is limited to 2 GB, the size of one memory map.
+ * All methods are thread-safe.
+ *
+ * <p>Only one program may write to an archive: {@link #open} holds an exclusive lock on the
+ * data file until the archive is closed. {@link #openReadOnly} reads an archive that may be
+ * being written, such as the game's while it is running, without changing either file.
+ */
+public final class ReplayArchive implements AutoCloseable {
+
+    /** Name of the data file in the archive directory */
+    public static final String DATA_FILE_NAME = "replays.dat";
+
+    /** Name of the index file in the archive directory */
+    public static final String INDEX_FILE_NAME = "replays.idx";
+
+    /** "TRPA" */
+    static final int DATA_MAGIC = 0x54525041;
+
+    /** "TRPI" */
+    static final int INDEX_MAGIC = 0x54525049;
+
+    /** Current version of both files */
+    static final byte VERSION = 1;
+
+    static final int DATA_HEADER_SIZE = 8;
+    static final int INDEX_HEADER_SIZE = 24;
+    static final int ENTRY_SIZE = 32;
+
+    /** Unsorted entries that trigger a compaction */
+    static final int MAX_UNSORTED = 256;
+
+    /** Best games first: mode, then score descending, then oldest and shortest first */
+    public static final Comparator<Entry> INDEX_ORDER = Comparator
+            .comparingInt((Entry entry) -> entry.getMode().ordinal())
+            .thenComparing(Comparator.comparingInt(Entry::getScore).reversed())
+            .thenComparingLong(Entry::getStartedAt)
+            .thenComparingLong(Entry::getDuration);
+
+    // Index header offsets
+    private static final int STATE_OFFSET = 5;
+    private static final int SORTED_COUNT_OFFSET = 8;
+    private static final int DATA_END_OFFSET = 16;
+
+    // Index states: a compaction rewrites entries in place and is redone by rebuilding
+    private static final byte STATE_CLEAN = 0;
+    private static final byte STATE_COMPACTING = 1;
+
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES;
+
+    private final Path directory;
+    private final FileChannel data;
+    // Null for a read-only archive without an index file
+    private final FileChannel index;
+    private final boolean readOnly;
+    private long dataEnd;
+    private int entryCount;
+    private int sortedCount;
+    // Maps of the files as of the last read; replaced when the files have grown
+    private MappedByteBuffer dataMap;
+    private MappedByteBuffer indexMap;
+    // A read-only archive's entries, laid out like the index file; it never writes the file
+    private ByteBuffer heapIndex;
+
+    private ReplayArchive(Path directory, FileChannel data, FileChannel index, boolean readOnly) {
+        this.directory = directory;
+        this.data = data;
+        this.index = index;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Opens the archive in a directory for writing, creating it if needed. A missing,
+     * damaged or out-of-date index is repaired from the data file, and a record cut short by
+     * a crash is discarded.
+     *
+     * @param directory the archive directory
+     * @return the open archive
+     * @throws IOException if the files cannot be opened, the archive is open for writing
+     *         elsewhere, or the data file is not an archive
+     */
+    public static ReplayArchive open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel data = FileChannel.open(directory.resolve(DATA_FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel index = null;
+        try {
+            // Repairs truncate and rewrite the files, so they must not run under another writer
+            lock(data, directory);
+            index = FileChannel.open(directory.resolve(INDEX_FILE_NAME),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ReplayArchive archive = new ReplayArchive(directory, data, index, false);
+            archive.load();
+            return archive;
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            if (index != null) {
+                index.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Opens an existing archive for reading only. It may be open for writing at the same
+     * time: the index is read as it stands, replays it does not cover yet are indexed on the
+     * heap, and a record still being appended is left out. Neither file is ever truncated,
+     * repaired or compacted, and {@link #append} and {@link #compact} are refused.
+     *
+     * @param directory the archive directory
+     * @return the open archive
+     * @throws IOException if the data file cannot be opened or is not an archive
+     */
+    public static ReplayArchive openReadOnly(Path directory) throws IOException {
+        FileChannel data = FileChannel.open(directory.resolve(DATA_FILE_NAME), StandardOpenOption.READ);
+        FileChannel index = null;
+        try {
+            Path indexFile = directory.resolve(INDEX_FILE_NAME);
+            if (Files.exists(indexFile)) {
+                index = FileChannel.open(indexFile, StandardOpenOption.READ);
+            }
+            ReplayArchive archive = new ReplayArchive(directory, data, index, true);
+            archive.load();
+            return archive;
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            if (index != null) {
+                index.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Takes the exclusive lock on the data file, released when the channel is closed.
+     *
+     * @throws IOException if another archive, in this or another program, holds it
+     */
+    private static void lock(FileChannel data, Path directory) throws IOException {
+        FileLock lock;
+        try {
+            lock = data.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            throw new IOException("Replay archive is already open for writing: " + directory);
+        }
+    }
+
+    /**
+     * Returns the directory holding the archive's files.
+     *
+     * @return the archive directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private void load() throws IOException {
+        if (data.size() == 0 && !readOnly) {
+            ByteBuffer header = ByteBuffer.allocate(DATA_HEADER_SIZE);
+            header.putInt(DATA_MAGIC).put(VERSION).flip();
+            data.write(header, 0);
+        }
+        ByteBuffer header = ByteBuffer.allocate(DATA_HEADER_SIZE);
+        data.read(header, 0);
+        if (header.getInt(0) != DATA_MAGIC || header.get(4) != VERSION) {
+            throw new IOException("Not a replay archive: " + directory.resolve(DATA_FILE_NAME));
+        }
+
+        boolean created = index == null || index.size() == 0;
+        if (!loadIndex()) {
+            if (!created) {
+                // RECOVERY: The index is damaged or was being compacted; rebuild it
+                System.err.println((readOnly ? "Indexing replay archive in memory, the index is unusable: "
+                        : "Rebuilding replay archive index: ") + directory.resolve(INDEX_FILE_NAME));
+            }
+            if (readOnly) {
+                heapIndex = ByteBuffer.allocate(INDEX_HEADER_SIZE);
+            } else {
+                index.truncate(0);
+                writeIndexHeader(STATE_CLEAN, 0, DATA_HEADER_SIZE);
+            }
+            entryCount = 0;
+            sortedCount = 0;
+            dataEnd = DATA_HEADER_SIZE;
+        }
+        // RECOVERY: Index replays appended after the index was last written
+        indexRecordsFrom(dataEnd);
+        if (!readOnly && entryCount - sortedCount > MAX_UNSORTED) {
+            compact();
+        }
+    }
+
+    /**
+     * Reads the index header and drops entries for data past the recorded end.
+     *
+     * @return false if the index has to be rebuilt
+     */
+    private boolean loadIndex() throws IOException {
+        if (index == null) {
+            return false;
+        }
+        long size = index.size();
+        if (size < INDEX_HEADER_SIZE || (size - INDEX_HEADER_SIZE) % ENTRY_SIZE != 0) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_SIZE);
+        index.read(header, 0);
+        if (header.getInt(0) != INDEX_MAGIC || header.get(4) != VERSION
+                || header.get(STATE_OFFSET) != STATE_CLEAN) {
+            return false;
+        }
+        int count = (int) ((size - INDEX_HEADER_SIZE) / ENTRY_SIZE);
+        int sorted = header.getInt(SORTED_COUNT_OFFSET);
+        long end = header.getLong(DATA_END_OFFSET);
+        if (sorted < 0 || sorted > count || end < DATA_HEADER_SIZE || end > data.size()) {
+            return false;
+        }
+        // An entry written just before a crash may describe data the header does not cover
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE);
+        while (count > sorted) {
+            entry.clear();
+            index.read(entry, INDEX_HEADER_SIZE + (long) (count - 1) * ENTRY_SIZE);
+            if (Entry.read(entry, 0).offset < end) {
+                break;
+            }
+            count--;
+        }
+        if (readOnly) {
+            heapIndex = ByteBuffer.allocate(INDEX_HEADER_SIZE + count * ENTRY_SIZE);
+            index.read(heapIndex, 0);
+            // The writer may have started compacting while the entries were copied
+            header.clear();
+            index.read(header, 0);
+            if (heapIndex.hasRemaining() || header.get(STATE_OFFSET) != STATE_CLEAN) {
+                return false;
+            }
+        } else {
+            index.truncate(INDEX_HEADER_SIZE + (long) count * ENTRY_SIZE);
+        }
+        entryCount = count;
+        sortedCount = sorted;
+        dataEnd = end;
+        return true;
+    }
+
+    private void indexRecordsFrom(long start) throws IOException {
+        long size = data.size();
+        long offset = start;
+        ByteBuffer length = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        while (offset + RECORD_HEADER_SIZE <= size) {
+            length.clear();
+            data.read(length, offset);
+            int replayLength = length.getInt(0);
+            if (replayLength < ReplayFormat.HEADER_SIZE || offset + RECORD_HEADER_SIZE + replayLength > size) {
+                break;
+            }
+            ByteBuffer replay = ByteBuffer.allocate(replayLength);
+            data.read(replay, offset + RECORD_HEADER_SIZE);
+            replay.flip();
+            try {
+                addEntry(Entry.of(Replay.read(replay), offset, replayLength));
+            } catch (IllegalArgumentException e) {
+                // RECOVERY: Leave a damaged replay out of the index but keep the ones after it
+                System.err.println("Skipping damaged replay in archive at offset " + offset + ": " + e.getMessage());
+            }
+            offset += RECORD_HEADER_SIZE + replayLength;
+            dataEnd = offset;
+        }
+        if (readOnly) {
+            // Whatever follows is still being appended by the writer, or is for it to repair
+            return;
+        }
+        if (offset < size) {
+            // RECOVERY: Drop a record cut short by a crash, so new replays follow valid data
+            System.err.println("Discarding " + (size - offset) + " damaged bytes at the end of the replay archive.");
+            data.truncate(offset);
+            dataMap = null;
+        }
+        writeDataEnd();
+    }
+
+    /**
+     * Adds a replay to the archive.
+     *
+     * @param replay the encoded replay
+     * @return the index entry of the replay
+     * @throws IllegalArgumentException if the data is not a valid replay
+     * @throws IllegalStateException if the archive is full (2 GB) or open read-only
+     * @throws IOException if the replay cannot be written
+     */
+    public synchronized Entry append(byte[] replay) throws IOException {
+        checkWritable();
+        Entry entry = Entry.of(Replay.read(replay), dataEnd, replay.length);
+        if (dataEnd + RECORD_HEADER_SIZE + replay.length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Replay archive is full: " + directory);
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + replay.length);
+        record.putInt(replay.length).put(replay).flip();
+        long position = dataEnd;
+        while (record.hasRemaining()) {
+            position += data.write(record, position);
+        }
+        // Data first, then its entry, then the header: a crash in between is repaired on open
+        addEntry(entry);
+        dataEnd = position;
+        writeDataEnd();
+        if (entryCount - sortedCount > MAX_UNSORTED) {
+            compact();
+        }
+        return entry;
+    }
+
+    /**
+     * Adds every replay file in a directory, such as one filled by a {@link ReplayWriter}.
+     * Files that are not valid replays are skipped.
+     *
+     * @param replayDirectory the directory to import
+     * @return the number of replays added
+     * @throws IOException if the directory cannot be listed or the archive cannot be written
+     * @throws IllegalStateException if the archive is open read-only
+     */
+    public int importDirectory(Path replayDirectory) throws IOException {
+        checkWritable();
+        int added = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(replayDirectory, "*" + ReplayWriter.EXTENSION)) {
+            for (Path file : files) {
+                try {
+                    append(Files.readAllBytes(file));
+                    added++;
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Skipping invalid replay " + file + ": " + e.getMessage());
+                }
+            }
+        }
+        return added;
+    }
+
+    private void addEntry(Entry entry) throws IOException {
+        if (readOnly) {
+            int position = entryOffset(entryCount);
+            if (heapIndex.capacity() < position + ENTRY_SIZE) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(position + ENTRY_SIZE, 2 * heapIndex.capacity()));
+                grown.put(heapIndex.clear());
+                heapIndex = grown;
+            }
+            entry.write(heapIndex, position);
+        } else {
+            ByteBuffer buffer = ByteBuffer.allocate(ENTRY_SIZE);
+            entry.write(buffer, 0);
+            index.write(buffer, INDEX_HEADER_SIZE + (long) entryCount * ENTRY_SIZE);
+        }
+        entryCount++;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("Replay archive is open read-only: " + directory);
+        }
+    }
+
+    private void writeDataEnd() throws IOException {
+        ByteBuffer end = ByteBuffer.allocate(Long.BYTES);
+        end.putLong(0, dataEnd);
+        index.write(end, DATA_END_OFFSET);
+    }
+
+    private void writeIndexHeader(byte state, int sorted, long end) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_SIZE);
+        header.putInt(INDEX_MAGIC).put(VERSION).put(state).putShort((short) 0)
+                .putInt(sorted).putInt(0).putLong(end).flip();
+        index.write(header, 0);
+    }
+
+    /**
+     * Sorts every entry into the index. Runs automatically; call it to make queries over a
+     * freshly filled archive as fast as possible.
+     *
+     * @throws IOException if the index cannot be rewritten
+     * @throws IllegalStateException if the archive is open read-only
+     */
+    public synchronized void compact() throws IOException {
+        checkWritable();
+        if (sortedCount == entryCount) {
+            return;
+        }
+        List<Entry> entries = entries(0, entryCount);
+        entries.sort(INDEX_ORDER);
+        ByteBuffer sorted = ByteBuffer.allocate(entries.size() * ENTRY_SIZE);
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).write(sorted, i * ENTRY_SIZE);
+        }
+        // The file keeps its size, so it is rewritten in place under a compacting mark
+        writeIndexHeader(STATE_COMPACTING, 0, dataEnd);
+        index.force(false);
+        long position = INDEX_HEADER_SIZE;
+        while (sorted.hasRemaining()) {
+            position += index.write(sorted, position);
+        }
+        index.force(false);
+        writeIndexHeader(STATE_CLEAN, entryCount, dataEnd);
+        sortedCount = entryCount;
+    }
+
+    /**
+     * Returns the number of replays in the archive.
+     *
+     * @return the replay count
+     */
+    public synchronized int size() {
+        return entryCount;
+    }
+
+    /**
+     * Returns the best games of a mode, highest score first.
+     *
+     * @param mode the game mode
+     * @param count the maximum number of games to return
+     * @return up to count entries in {@link #INDEX_ORDER}
+     * @throws IOException if the index cannot be read
+     */
+    public synchronized List<Entry> topScores(GameMode mode, int count) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid count: " + count + ". Must not be negative.");
+        }
+        ByteBuffer map = indexMap();
+        // Binary search for the first sorted entry of the mode; the mode is the first key
+        int low = 0;
+        int high = sortedCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (map.get(entryOffset(mid)) < mode.ordinal()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        List<Entry> best = new ArrayList<>();
+        for (int i = low; i < sortedCount && best.size() < count && map.get(entryOffset(i)) == mode.ordinal(); i++) {
+            best.add(Entry.read(map, entryOffset(i)));
+        }
+        for (int i = sortedCount; i < entryCount; i++) {
+            if (map.get(entryOffset(i)) == mode.ordinal()) {
+                best.add(Entry.read(map, entryOffset(i)));
+            }
+        }
+        best.sort(INDEX_ORDER);
+        return best.size() > count ? new ArrayList<>(best.subList(0, count)) : best;
+    }
+
+    /**
+     * Returns the best games of every mode, highest score first.
+     *
+     * @param count the maximum number of games to return
+     * @return up to count entries, by score descending
+     * @throws IOException if the index cannot be read
+     */
+    public synchronized List<Entry> topScores(int count) throws IOException {
+        List<Entry> best = new ArrayList<>();
+        for (GameMode mode : GameMode.values()) {
+            best.addAll(topScores(mode, count));
+        }
+        best.sort(Comparator.comparingInt(Entry::getScore).reversed()
+                .thenComparingLong(Entry::getStartedAt).thenComparingLong(Entry::getDuration));
+        return best.size() > count ? new ArrayList<>(best.subList(0, count)) : best;
+    }
+
+    /**
+     * Returns the index entries in archive order: sorted ones first, then the newest.
+     *
+     * @return every entry
+     * @throws IOException if the index cannot be read
+     */
+    public synchronized List<Entry> entries() throws IOException {
+        return entries(0, entryCount);
+    }
+
+    private List<Entry> entries(int from, int to) throws IOException {
+        ByteBuffer map = indexMap();
+        List<Entry> entries = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            entries.add(Entry.read(map, entryOffset(i)));
+        }
+        return entries;
+    }
+
+    /**
+     * Decodes an archived replay straight from the memory-mapped data file. Keyframes stay
+     * views of the map.
+     *
+     * @param entry an entry of this archive
+     * @return the replay
+     * @throws IOException if the data file cannot be mapped
+     * @throws IllegalArgumentException if the entry is not in this archive
+     */
+    public synchronized Replay read(Entry entry) throws IOException {
+        return Replay.read(slice(entry));
+    }
+
+    /**
+     * Returns the encoded bytes of an archived replay, as a view of the mapped data file.
+     *
+     * @param entry an entry of this archive
+     * @return a read-only buffer holding the replay
+     * @throws IOException if the data file cannot be mapped
+     * @throws IllegalArgumentException if the entry is not in this archive
+     */
+    public synchronized ByteBuffer slice(Entry entry) throws IOException {
+        if (entry.offset < DATA_HEADER_SIZE || entry.offset + RECORD_HEADER_SIZE + entry.length > dataEnd) {
+            throw new IllegalArgumentException("Entry is not in this archive: offset " + entry.offset);
+        }
+        ByteBuffer map = dataMap();
+        if (map.getInt((int) entry.offset) != entry.length) {
+            throw new IllegalArgumentException("Entry is not in this archive: offset " + entry.offset);
+        }
+        return map.slice((int) entry.offset + RECORD_HEADER_SIZE, entry.length).asReadOnlyBuffer();
+    }
+
+    private static int entryOffset(int entry) {
+        return INDEX_HEADER_SIZE + entry * ENTRY_SIZE;
+    }
+
+    private MappedByteBuffer dataMap() throws IOException {
+        if (dataMap == null || dataMap.capacity() < dataEnd) {
+            dataMap = data.map(FileChannel.MapMode.READ_ONLY, 0, dataEnd);
+        }
+        return dataMap;
+    }
+
+    private ByteBuffer indexMap() throws IOException {
+        if (readOnly) {
+            return heapIndex;
+        }
+        long size = INDEX_HEADER_SIZE + (long) entryCount * ENTRY_SIZE;
+        // Compaction rewrites entries through the channel; maps share the page cache, so
+        // a map of the right size always sees the current contents
+        if (indexMap == null || indexMap.capacity() != size) {
+            indexMap = index.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return indexMap;
+    }
+
+    /**
+     * Closes both files. Replays and buffers returned earlier must not be used afterwards.
+     *
+     * @throws IOException if a file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        dataMap = null;
+        indexMap = null;
+        heapIndex = null;
+        try {
+            if (index != null) {
+                index.close();
+            }
+        } finally {
+            data.close();
+        }
+    }
+
+    /**
+     * One index entry: the summary of an archived game and where its replay is stored.
+     *
+     * <p>Layout (32 bytes): mode (1), padding (3), score (4), startedAt (8), duration in
+     * milliseconds (4), replay length (4), record offset in the data file (8).
+     */
+    public static final class Entry {
+
+        private final GameMode mode;
+        private final int score;
+        private final long startedAt;
+        private final int duration;
+        private final int length;
+        private final long offset;
+
+        private Entry(GameMode mode, int score, long startedAt, int duration, int length, long offset) {
+            this.mode = mode;
+            this.score = score;
+            this.startedAt = startedAt;
+            this.duration = duration;
+            this.length = length;
+            this.offset = offset;
+        }
+
+        private static Entry of(Replay replay, long offset, int length) {
+            int duration = (int) Math.min(replay.getDuration(), Integer.MAX_VALUE);
+            return new Entry(replay.getMode(), replay.getScore(), replay.getStartedAt(), duration, length, offset);
+        }
+
+        private static Entry read(ByteBuffer buffer, int position) {
+            return new Entry(GameMode.values()[buffer.get(position)],
+                    buffer.getInt(position + 4), buffer.getLong(position + 8), buffer.getInt(position + 16),
+                    buffer.getInt(position + 20), buffer.getLong(position + 24));
+        }
+
+        private void write(ByteBuffer buffer, int position) {
+            buffer.put(position, (byte) mode.ordinal());
+            buffer.putInt(position + 4, score);
+            buffer.putLong(position + 8, startedAt);
+            buffer.putInt(position + 16, duration);
+            buffer.putInt(position + 20, length);
+            buffer.putLong(position + 24, offset);
+        }
+
+        public GameMode getMode() {
+            return mode;
+        }
+
+        /**
+         * Returns the recorded final score.
+         *
+         * @return the score, 0 for games that were cut short
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Returns when the game was started.
+         *
+         * @return wall-clock time in epoch milliseconds
+         */
+        public long getStartedAt() {
+            return startedAt;
+        }
+
+        /**
+         * Returns how long the game lasted.
+         *
+         * @return the game time in milliseconds
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * Returns the size of the encoded replay.
+         *
+         * @return the length in bytes
+         */
+        public int getLength() {
+            return length;
+        }
+
+        long getOffset() {
+            return offset;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.comp2042.replay;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and varint helpers for the binary replay format.
+ *
+ * <p>A replay starts with a fixed header:
+ * <pre>
+ *   magic      4 bytes  "TRPL"
+ *   version    1 byte
+ *   mode       1 byte   GameMode ordinal
+ *   randomizer 1 byte   Randomizer ordinal
+ *   seed       8 bytes
+ *   startedAt  8 bytes  wall-clock start of the game, epoch milliseconds
+ * </pre>
+ * followed by one varint per event: {@code (millisSincePreviousEvent << 3) | event}. The
+ * {@link #END} event is followed by the outcome of the game: score, pieces and lines as
+ * varints and the clear digest as 4 bytes. A replay without an END event was cut short.
+ *
+ * <p>Since version 2 the outcome is followed by the keyframes: a varint count, then for each keyframe the
+ * index of the event it precedes (4 bytes), the payload length (2 bytes) and the payload,
+ * which is the {@link GameSummary} state followed by the board state
+ * (see {@link com.comp2042.model.Board#saveState}). A keyframe is taken every
+ * {@link #KEYFRAME_INTERVAL} events, so playback can seek without simulating from the start.
+ * Version 1 replays end at the digest and are read as having no keyframes.
+ * Multi-byte numbers are big-endian; varints are unsigned LEB128.
+ */
+public final class ReplayFormat {
+
+    /** "TRPL" */
+    public static final int MAGIC = 0x5452504C;
+
+    /** Current format version, written by the recorder */
+    public static final byte VERSION = 2;
+
+    /** Oldest version that can still be read: the same layout without keyframes */
+    public static final byte VERSION_WITHOUT_KEYFRAMES = 1;
+
+    /** Size of the fixed header in bytes */
+    public static final int HEADER_SIZE = 23;
+
+    // Event codes (3 bits)
+    /** Player moved the brick left */
+    public static final int LEFT = 0;
+
+    /** Player moved the brick right */
+    public static final int RIGHT = 1;
+
+    /** Player rotated the brick */
+    public static final int ROTATE = 2;
+
+    /** Player moved the brick down (scores a point) */
+    public static final int SOFT_DROP = 3;
+
+    /** Gravity moved the brick down */
+    public static final int GRAVITY = 4;
+
+    /** Player hard-dropped the brick */
+    public static final int HARD_DROP = 5;
+
+    /** The Overgrowth timer added a vine line */
+    public static final int VINE = 6;
+
+    /** End of the game, followed by its outcome */
+    public static final int END = 7;
+
+    /** Number of events between keyframes */
+    public static final int KEYFRAME_INTERVAL = 500;
+
+    /** Number of bits of an event varint taken by the event code */
+    static final int EVENT_BITS = 3;
+
+    /** Longest varint encoding of a long */
+    static final int MAX_VARINT_BYTES = 10;
+
+    private ReplayFormat() {
+    }
+
+    /**
+     * Writes an unsigned varint.
+     *
+     * @param buffer the destination, with at least {@link #MAX_VARINT_BYTES} bytes free at pos
+     * @param pos where to write
+     * @param value the value, treated as unsigned
+     * @return the position after the varint
+     */
+    static int putVarint(byte[] buffer, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[pos++] = (byte) value;
+        return pos;
+    }
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @param buffer the source, positioned at the varint
+     * @return the value
+     * @throws IllegalArgumentException if the varint is longer than a long
+     * @throws java.nio.BufferUnderflowException if the buffer ends inside the varint
+     */
+    static long getVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed replay: varint too long");
+    }
+}
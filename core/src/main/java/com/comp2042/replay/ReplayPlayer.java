@@ -0,0 +1,277 @@
+package com.comp2042.replay;
+
+import com.comp2042.controller.GameController;
+import com.comp2042.controller.GameView;
+import com.comp2042.controller.ManualClock;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import com.comp2042.simulation.HeadlessGameView;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Plays a recorded game back through a {@link GameController}, so the board, score and
+ * view go through exactly the states they did when the game was played.
+ *
+ * <p>Events can be stepped one at a time, played up to a game time, paced in real time at
+ * any speed, or applied as fast as possible. Seeking restores the nearest keyframe at or
+ * before the target and re-simulates only the events after it. Keyframes come from the
+ * file and are also taken while playing, so seeking back is always cheap.
+ *
+ * <p>The controller runs on a {@link ManualClock} that never advances; recorded vine lines
+ * are applied as events instead of by the Overgrowth timer.
+ */
+public final class ReplayPlayer {
+
+    /** Number of columns of the board, as in the desktop client */
+    public static final int BOARD_WIDTH = 10;
+
+    /** Number of rows of the board, as in the desktop client */
+    public static final int BOARD_HEIGHT = 25;
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    /** Room for one keyframe besides its field */
+    private static final int KEYFRAME_OVERHEAD = 512;
+
+    private final Replay replay;
+    private final GameView view;
+    private final Board board;
+    private final GameController controller;
+    private final GameSummary summary = new GameSummary();
+    // Slot k holds the state before event k * KEYFRAME_INTERVAL, or null if not known yet
+    private final ByteBuffer[] keyframes;
+    private int position = 0;
+
+    /**
+     * Creates a player that renders nothing, for verification and fast-forwarding.
+     *
+     * @param replay the replay to play
+     */
+    public ReplayPlayer(Replay replay) {
+        this(replay, new HeadlessGameView(), BoardType.SIMPLE);
+    }
+
+    /**
+     * Creates a player and starts the recorded game, positioned before the first event.
+     *
+     * @param replay the replay to play
+     * @param view the view that shows the game
+     * @param boardType the board engine to replay on
+     */
+    public ReplayPlayer(Replay replay, GameView view, BoardType boardType) {
+        this.replay = replay;
+        this.view = view;
+        board = boardType.create(BOARD_WIDTH, BOARD_HEIGHT, replay.getRandomizer().create(replay.getSeed()));
+        board.setGameMode(replay.getMode());
+        board.addGameListener(summary);
+        controller = new GameController(view, board, new ManualClock(), replay.getSeed());
+
+        keyframes = new ByteBuffer[replay.getEventCount() / ReplayFormat.KEYFRAME_INTERVAL + 1];
+        for (int i = 0; i < replay.getKeyframeCount(); i++) {
+            int event = replay.getKeyframeEvent(i);
+            if (event % ReplayFormat.KEYFRAME_INTERVAL == 0) {
+                keyframes[event / ReplayFormat.KEYFRAME_INTERVAL] = replay.getKeyframe(i);
+            }
+        }
+        keyframes[0] = saveKeyframe();
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Returns the bricks, lines and clear digest of the game so far.
+     *
+     * @return the live summary
+     */
+    public GameSummary getSummary() {
+        return summary;
+    }
+
+    /**
+     * Returns the number of events applied so far.
+     *
+     * @return the index of the next event
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the game time of the last applied event.
+     *
+     * @return milliseconds since the start of the game, 0 before the first event
+     */
+    public long getTime() {
+        return position == 0 ? 0 : replay.getTime(position - 1);
+    }
+
+    /**
+     * Returns whether every event has been applied.
+     *
+     * @return true at the end of the replay
+     */
+    public boolean isFinished() {
+        return position == replay.getEventCount();
+    }
+
+    /**
+     * Applies the next event.
+     *
+     * @return false if the replay had already ended
+     */
+    public boolean step() {
+        if (isFinished()) {
+            return false;
+        }
+        apply(replay.getEvent(position));
+        position++;
+        int slot = position / ReplayFormat.KEYFRAME_INTERVAL;
+        if (position % ReplayFormat.KEYFRAME_INTERVAL == 0 && slot < keyframes.length && keyframes[slot] == null) {
+            keyframes[slot] = saveKeyframe();
+        }
+        return true;
+    }
+
+    private void apply(int event) {
+        switch (event) {
+            case ReplayFormat.LEFT -> controller.onLeftEvent(LEFT);
+            case ReplayFormat.RIGHT -> controller.onRightEvent(RIGHT);
+            case ReplayFormat.ROTATE -> controller.onRotateEvent(ROTATE);
+            case ReplayFormat.SOFT_DROP -> controller.onDownEvent(SOFT_DROP);
+            case ReplayFormat.GRAVITY -> controller.onDownEvent(GRAVITY);
+            case ReplayFormat.HARD_DROP -> controller.onHardDropEvent(HARD_DROP);
+            case ReplayFormat.VINE -> controller.onVineTick();
+            default -> throw new IllegalStateException("Unknown replay event: " + event);
+        }
+    }
+
+    /**
+     * Applies every event up to and including the given game time, as fast as possible.
+     *
+     * @param timeMillis the game time to play to, in milliseconds since the start
+     */
+    public void playUntil(long timeMillis) {
+        while (!isFinished() && replay.getTime(position) <= timeMillis) {
+            step();
+        }
+    }
+
+    /**
+     * Applies every remaining event as fast as possible.
+     */
+    public void playToEnd() {
+        playUntil(Long.MAX_VALUE);
+    }
+
+    /**
+     * Plays the remaining events paced against the wall clock, blocking until the end.
+     *
+     * @param speed game milliseconds per wall-clock millisecond (1 is real time); zero,
+     *              negative or infinite plays as fast as possible
+     */
+    public void play(double speed) {
+        if (speed <= 0 || Double.isInfinite(speed)) {
+            playToEnd();
+            return;
+        }
+        long startNanos = System.nanoTime();
+        long startTime = getTime();
+        while (!isFinished()) {
+            long due = startNanos + (long) ((replay.getTime(position) - startTime) * 1_000_000 / speed);
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                step();
+            }
+        }
+    }
+
+    /**
+     * Moves to just before the given event, restoring the nearest keyframe at or before it
+     * and re-simulating from there. Seeking forward within the current keyframe interval
+     * simply plays on.
+     *
+     * @param event the index of the next event to apply, clamped to the replay
+     */
+    public void seek(int event) {
+        int target = Math.max(0, Math.min(event, replay.getEventCount()));
+        int slot = target / ReplayFormat.KEYFRAME_INTERVAL;
+        while (keyframes[slot] == null) {
+            slot--;
+        }
+        int keyframeEvent = slot * ReplayFormat.KEYFRAME_INTERVAL;
+        if (target < position || keyframeEvent > position) {
+            restoreKeyframe(slot);
+        }
+        while (position < target) {
+            step();
+        }
+        view.refreshGameBackground(board.getBoardMatrix());
+    }
+
+    /**
+     * Moves to the given game time: every event up to and including it is applied.
+     *
+     * @param timeMillis the game time, in milliseconds since the start
+     */
+    public void seekTime(long timeMillis) {
+        // First event after the time, by binary search over the sorted event times
+        int low = 0;
+        int high = replay.getEventCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (replay.getTime(mid) <= timeMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        seek(low);
+    }
+
+    /**
+     * Returns whether the game played back ended exactly as recorded: same score, bricks,
+     * lines and sequence of line clears.
+     *
+     * @return true if the replay is complete, fully played and matches
+     */
+    public boolean matchesRecording() {
+        return replay.isComplete() && isFinished()
+                && board.getScore().get() == replay.getScore()
+                && summary.getPieces() == replay.getPieces()
+                && summary.getLines() == replay.getLines()
+                && summary.getDigest() == replay.getDigest();
+    }
+
+    private ByteBuffer saveKeyframe() {
+        ByteBuffer keyframe = ByteBuffer.allocate(KEYFRAME_OVERHEAD + BOARD_WIDTH * BOARD_HEIGHT);
+        summary.saveState(keyframe);
+        board.saveState(keyframe);
+        keyframe.flip();
+        return keyframe.asReadOnlyBuffer();
+    }
+
+    private void restoreKeyframe(int slot) {
+        ByteBuffer keyframe = keyframes[slot].duplicate();
+        summary.restoreState(keyframe);
+        board.restoreState(keyframe);
+        position = slot * ReplayFormat.KEYFRAME_INTERVAL;
+    }
+}
@@ -0,0 +1,227 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.bricks.Randomizer;
+import com.comp2042.model.Board;
+import com.comp2042.model.GameListener;
+import com.comp2042.model.GameMode;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Records the seed, mode and timestamped inputs of games in the binary replay format
+ * (see {@link ReplayFormat}).
+ *
+ * <p>Recording an event only appends a varint to a reused byte array, so it is cheap enough
+ * for the JavaFX thread. When a game ends, the finished replay is copied once and handed to
+ * the sink, usually a {@link ReplayWriter} that saves it on a background thread.
+ *
+ * <p>Register the recorder with the board as a {@link GameListener} so it can store the
+ * outcome of the game. Games started with {@link #begin(Board, long)} also get a keyframe
+ * of the board every {@link ReplayFormat#KEYFRAME_INTERVAL} events, for seeking. A recorder
+ * is not thread-safe; use it from the thread that plays the game.
+ */
+public final class ReplayRecorder implements GameListener {
+
+    /** Starting buffer size; about ten minutes of play */
+    private static final int INITIAL_CAPACITY = 8192;
+
+    /** Room kept free for one keyframe besides its field (summary, brick, streams, queue) */
+    private static final int KEYFRAME_OVERHEAD = 512;
+
+    /** Size of a keyframe's event index and payload length */
+    private static final int KEYFRAME_ENTRY_HEADER = Integer.BYTES + Short.BYTES;
+
+    private final Randomizer randomizer;
+    private final Consumer<byte[]> sink;
+    private final GameSummary summary = new GameSummary();
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int length = 0;
+    private long lastEventMillis;
+    private boolean recording = false;
+    private int eventCount;
+    // Board to take keyframes of, null when the game has none
+    private Board board;
+    private int keyframeSize;
+    private int keyframeCount;
+    private ByteBuffer keyframes = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+    /**
+     * Creates a recorder for games dealt by the uniform randomizer.
+     *
+     * @param sink receives every finished replay
+     */
+    public ReplayRecorder(Consumer<byte[]> sink) {
+        this(Randomizer.UNIFORM, sink);
+    }
+
+    /**
+     * Creates a recorder.
+     *
+     * @param randomizer the randomizer of the recorded games, stored so playback can use it
+     * @param sink receives every finished replay
+     */
+    public ReplayRecorder(Randomizer randomizer, Consumer<byte[]> sink) {
+        this.randomizer = randomizer;
+        this.sink = sink;
+    }
+
+    /**
+     * Starts recording the game that was just started on the board, with keyframes.
+     * A game still being recorded is discarded.
+     *
+     * @param board the board of the game
+     * @param startMillis the game clock's time at the start, in milliseconds
+     */
+    public void begin(Board board, long startMillis) {
+        begin(board.getSeed(), board.getGameMode(), startMillis);
+        int[][] field = board.getBoardMatrix();
+        this.board = board;
+        keyframeSize = KEYFRAME_OVERHEAD + field.length * field[0].length;
+    }
+
+    /**
+     * Starts recording a new game without keyframes. A game still being recorded is discarded.
+     *
+     * @param seed the seed of the game
+     * @param mode the game mode
+     * @param startMillis the game clock's time at the start, in milliseconds
+     */
+    public void begin(long seed, GameMode mode, long startMillis) {
+        summary.reset();
+        board = null;
+        eventCount = 0;
+        keyframeCount = 0;
+        keyframes.clear();
+        lastEventMillis = startMillis;
+        recording = true;
+        long startedAt = System.currentTimeMillis();
+        length = 0;
+        putInt(ReplayFormat.MAGIC);
+        buffer[length++] = ReplayFormat.VERSION;
+        buffer[length++] = (byte) mode.ordinal();
+        buffer[length++] = (byte) randomizer.ordinal();
+        putLong(seed);
+        putLong(startedAt);
+    }
+
+    /**
+     * Appends an event to the game being recorded. Ignored when no game is being recorded.
+     *
+     * @param event one of the {@link ReplayFormat} event codes other than END
+     * @param timeMillis the game clock's time of the event, in milliseconds
+     */
+    public void record(int event, long timeMillis) {
+        if (!recording) {
+            return;
+        }
+        if (board != null && eventCount > 0 && eventCount % ReplayFormat.KEYFRAME_INTERVAL == 0) {
+            saveKeyframe();
+        }
+        eventCount++;
+        // Clocks never run backwards, but a clamp keeps a bad clock from corrupting the file
+        long delta = Math.max(0, timeMillis - lastEventMillis);
+        lastEventMillis = timeMillis;
+        ensureCapacity(ReplayFormat.MAX_VARINT_BYTES);
+        length = ReplayFormat.putVarint(buffer, length, (delta << ReplayFormat.EVENT_BITS) | event);
+    }
+
+    /**
+     * Ends the game being recorded, appends its outcome and hands the replay to the sink.
+     * Ignored when no game is being recorded.
+     *
+     * @param score the final score
+     * @param timeMillis the game clock's time at the end, in milliseconds
+     */
+    public void finish(int score, long timeMillis) {
+        if (!recording) {
+            return;
+        }
+        record(ReplayFormat.END, timeMillis);
+        ensureCapacity(3 * ReplayFormat.MAX_VARINT_BYTES + Integer.BYTES);
+        length = ReplayFormat.putVarint(buffer, length, score);
+        length = ReplayFormat.putVarint(buffer, length, summary.getPieces());
+        length = ReplayFormat.putVarint(buffer, length, summary.getLines());
+        putInt(summary.getDigest());
+        ensureCapacity(ReplayFormat.MAX_VARINT_BYTES + keyframes.position());
+        length = ReplayFormat.putVarint(buffer, length, keyframeCount);
+        System.arraycopy(keyframes.array(), 0, buffer, length, keyframes.position());
+        length += keyframes.position();
+        recording = false;
+        board = null;
+        sink.accept(Arrays.copyOf(buffer, length));
+    }
+
+    /**
+     * Returns whether a game is being recorded.
+     *
+     * @return true between {@link #begin} and {@link #finish}
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Returns the size of the replay recorded so far.
+     *
+     * @return the number of bytes
+     */
+    public int size() {
+        return length;
+    }
+
+    @Override
+    public void brickLanded() {
+        summary.brickLanded();
+    }
+
+    @Override
+    public void rowsCleared(int lines) {
+        summary.rowsCleared(lines);
+    }
+
+    /**
+     * Saves the board as it is before the event about to be recorded.
+     */
+    private void saveKeyframe() {
+        if (keyframes.remaining() < KEYFRAME_ENTRY_HEADER + keyframeSize) {
+            ByteBuffer larger = ByteBuffer.allocate(keyframes.capacity() * 2 + keyframeSize);
+            keyframes.flip();
+            larger.put(keyframes);
+            keyframes = larger;
+        }
+        int start = keyframes.position();
+        keyframes.putInt(eventCount);
+        keyframes.putShort((short) 0);
+        try {
+            summary.saveState(keyframes);
+            board.saveState(keyframes);
+        } catch (UnsupportedOperationException e) {
+            // Boards with a custom brick generator cannot be saved; record without keyframes
+            keyframes.position(start);
+            board = null;
+            return;
+        }
+        keyframes.putShort(start + Integer.BYTES, (short) (keyframes.position() - start - KEYFRAME_ENTRY_HEADER));
+        keyframeCount++;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+
+    private void putInt(int value) {
+        ensureCapacity(Integer.BYTES);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            buffer[length++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void putLong(long value) {
+        putInt((int) (value >>> 32));
+        putInt((int) value);
+    }
+}
@@ -0,0 +1,196 @@
+package com.comp2042.replay;
+
+import com.comp2042.model.BoardType;
+import com.comp2042.simulation.HeadlessGameView;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Re-simulates recorded games headlessly, in parallel, and checks that each ends with the
+ * recorded score, bricks, lines and sequence of line clears. A mismatch means an engine
+ * change altered the outcome of a game: a determinism regression.
+ *
+ * <p>Replays share nothing, so the batch is cut into a few chunks per thread like a
+ * {@link com.comp2042.simulation.BatchSimulation}, each chunk fills its own
+ * {@link VerificationReport}, and the reports are merged at the end. Archived replays are
+ * decoded straight from the archive's memory map by the workers.
+ */
+public final class ReplayVerifier {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final BoardType boardType;
+
+    /**
+     * Creates a verifier.
+     *
+     * @param boardType the board engine to re-simulate on
+     */
+    public ReplayVerifier(BoardType boardType) {
+        this.boardType = boardType;
+    }
+
+    /**
+     * A replay to verify: where it came from and how to load it.
+     */
+    private interface Source {
+        String name();
+
+        ByteBuffer load() throws IOException;
+    }
+
+    /**
+     * Verifies every replay file in a directory.
+     *
+     * @param directory a directory of replay files, as written by {@link ReplayWriter}
+     * @param threads the number of worker threads
+     * @return the merged results
+     * @throws IOException if the directory cannot be listed
+     * @throws IllegalArgumentException if threads is not positive
+     * @throws IllegalStateException if the batch is interrupted
+     */
+    public VerificationReport verify(Path directory, int threads) throws IOException {
+        List<Source> sources = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + ReplayWriter.EXTENSION)) {
+            for (Path file : files) {
+                sources.add(new Source() {
+                    @Override
+                    public String name() {
+                        return file.getFileName().toString();
+                    }
+
+                    @Override
+                    public ByteBuffer load() throws IOException {
+                        return ByteBuffer.wrap(Files.readAllBytes(file));
+                    }
+                });
+            }
+        }
+        return verify(sources, threads);
+    }
+
+    /**
+     * Verifies every replay in an archive.
+     *
+     * @param archive the archive
+     * @param threads the number of worker threads
+     * @return the merged results
+     * @throws IOException if the archive cannot be read
+     * @throws IllegalArgumentException if threads is not positive
+     * @throws IllegalStateException if the batch is interrupted
+     */
+    public VerificationReport verify(ReplayArchive archive, int threads) throws IOException {
+        List<Source> sources = new ArrayList<>();
+        for (ReplayArchive.Entry entry : archive.entries()) {
+            // Slices are views of the map; taking them up front keeps workers off the archive lock
+            ByteBuffer replay = archive.slice(entry);
+            String name = String.format(Locale.ROOT, "archive@%d", entry.getOffset());
+            sources.add(new Source() {
+                @Override
+                public String name() {
+                    return name;
+                }
+
+                @Override
+                public ByteBuffer load() {
+                    return replay.duplicate();
+                }
+            });
+        }
+        return verify(sources, threads);
+    }
+
+    private VerificationReport verify(List<Source> sources, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Invalid number of threads: " + threads + ". Must be positive.");
+        }
+        int chunks = Math.max(1, Math.min(sources.size(), threads * CHUNKS_PER_THREAD));
+        List<Callable<VerificationReport>> tasks = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int first = (int) ((long) sources.size() * chunk / chunks);
+            int end = (int) ((long) sources.size() * (chunk + 1) / chunks);
+            List<Source> range = sources.subList(first, end);
+            tasks.add(() -> verifyRange(range));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            VerificationReport merged = new VerificationReport();
+            for (Future<VerificationReport> result : pool.invokeAll(tasks)) {
+                merged.add(result.get());
+            }
+            return merged;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Verification interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Verification failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private VerificationReport verifyRange(List<Source> sources) {
+        VerificationReport report = new VerificationReport();
+        for (Source source : sources) {
+            try {
+                Replay replay = Replay.read(source.load());
+                if (!replay.isComplete()) {
+                    report.addIncomplete();
+                    continue;
+                }
+                String difference = check(replay);
+                if (difference == null) {
+                    report.addVerified(replay.getEventCount());
+                } else {
+                    report.addMismatch(source.name(), difference);
+                }
+            } catch (IOException | RuntimeException e) {
+                // One bad replay must not hide the results of the others
+                report.addError(source.name(), e.toString());
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Re-simulates one complete replay.
+     *
+     * @param replay the replay
+     * @return null if the game ended as recorded, otherwise a description of what differed
+     */
+    public String check(Replay replay) {
+        ReplayPlayer player = new ReplayPlayer(replay, new HeadlessGameView(), boardType);
+        player.playToEnd();
+        if (player.matchesRecording()) {
+            return null;
+        }
+        GameSummary summary = player.getSummary();
+        StringBuilder difference = new StringBuilder(String.format(Locale.ROOT, "%s seed %016x:",
+                replay.getMode(), replay.getSeed()));
+        appendDifference(difference, "score", replay.getScore(), player.getBoard().getScore().get());
+        appendDifference(difference, "bricks", replay.getPieces(), summary.getPieces());
+        appendDifference(difference, "lines", replay.getLines(), summary.getLines());
+        if (replay.getDigest() != summary.getDigest()) {
+            difference.append(" line clears differ");
+        }
+        return difference.toString();
+    }
+
+    private static void appendDifference(StringBuilder text, String what, int recorded, int replayed) {
+        if (recorded != replayed) {
+            text.append(String.format(Locale.ROOT, " %s %d, replayed %d;", what, recorded, replayed));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.comp2042.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Saves finished replays on a single background thread, so the game thread never waits
+ * for the disk. Replays go either to a {@link ReplayArchive} or to a directory, one file each.
+ *
+ * <p>Files are named after the game's start time and seed, and are written to a temporary
+ * file first and then moved into place, so a crash never leaves a partial replay behind.
+ */
+public final class ReplayWriter implements Consumer<byte[]>, AutoCloseable {
+
+    /** File name extension of saved replays */
+    public static final String EXTENSION = ".replay";
+
+    /** How long {@link #close()} waits for queued replays to be written */
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    // Header offsets of the fields used in file names
+    private static final int SEED_OFFSET = 7;
+    private static final int STARTED_AT_OFFSET = 15;
+
+    private final Path directory;
+    // Only touched on the writer's thread, and by close() once that thread has finished
+    private ReplayArchive archive;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a writer that saves one file per replay. The directory is created when the
+     * first replay is saved.
+     *
+     * @param directory where replays are saved
+     */
+    public ReplayWriter(Path directory) {
+        this(directory, null);
+    }
+
+    /**
+     * Creates a writer that appends replays to an archive. The archive is closed with the
+     * writer.
+     *
+     * @param archive the archive to append to
+     */
+    public ReplayWriter(ReplayArchive archive) {
+        this(archive.getDirectory(), archive);
+    }
+
+    /**
+     * Creates a writer that appends replays to the archive in a directory, opening it on
+     * the writer's thread so the caller never waits for the disk; replays queue up until it
+     * is open. The first time, the replay files a file writer saved in the directory are
+     * imported, which can take a while. If the archive cannot be opened, replays are saved
+     * one file each instead.
+     *
+     * @param directory the archive directory
+     * @return the writer
+     */
+    public static ReplayWriter openArchive(Path directory) {
+        ReplayWriter writer = new ReplayWriter(directory, null);
+        writer.executor.execute(writer::openArchive);
+        return writer;
+    }
+
+    private ReplayWriter(Path directory, ReplayArchive archive) {
+        this.directory = directory;
+        this.archive = archive;
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "replay-writer");
+            // Never keep the application alive just to save a replay
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the directory replays are saved to.
+     *
+     * @return the replay directory, or the archive's directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Queues a finished replay for saving and returns immediately.
+     *
+     * @param replay the encoded replay; must not be modified afterwards
+     */
+    @Override
+    public void accept(byte[] replay) {
+        try {
+            executor.execute(() -> write(replay));
+        } catch (RejectedExecutionException e) {
+            System.err.println("Replay discarded: the replay writer is closed.");
+        }
+    }
+
+    private void openArchive() {
+        try {
+            archive = ReplayArchive.open(directory);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error opening replay archive: " + e.getMessage());
+            // RECOVERY: Keep recording, one file per game
+            return;
+        }
+        try {
+            if (archive.size() == 0) {
+                archive.importDirectory(directory);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error importing replay files: " + e.getMessage());
+        }
+    }
+
+    private void write(byte[] replay) {
+        if (archive != null) {
+            try {
+                archive.append(replay);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Error archiving replay: " + e.getMessage());
+            }
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, "replay", ".tmp");
+            Files.write(tempFile, replay);
+            // RECOVERY: Move into place only once complete, so readers never see a partial file
+            Files.move(tempFile, directory.resolve(fileName(replay)), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Error saving replay: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the file name of a replay from its start time and seed.
+     *
+     * @param replay the encoded replay
+     * @return the file name, unique per game
+     */
+    static String fileName(byte[] replay) {
+        ByteBuffer header = ByteBuffer.wrap(replay);
+        return String.format(Locale.ROOT, "%d-%016x%s",
+                header.getLong(STARTED_AT_OFFSET), header.getLong(SEED_OFFSET), EXTENSION);
+    }
+
+    /**
+     * Stops accepting replays, waits briefly for the queued ones to be written and closes
+     * the archive, if any.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Warning: Some replays could not be saved in time.");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (archive != null) {
+            try {
+                archive.close();
+            } catch (IOException e) {
+                System.err.println("Error closing replay archive: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.comp2042.replay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Results of re-simulating a batch of replays. Each worker fills its own report and the
+ * reports are merged at the end, so recording needs no synchronization.
+ */
+public final class VerificationReport {
+
+    /** Mismatches listed in full by {@link #format(long)}; the rest are only counted */
+    private static final int MAX_LISTED = 20;
+
+    private final List<String> mismatches = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private int verified = 0;
+    private int incomplete = 0;
+    private long events = 0;
+
+    /**
+     * Records a replay whose re-simulation ended exactly as recorded.
+     *
+     * @param eventCount the number of events re-simulated
+     */
+    void addVerified(int eventCount) {
+        verified++;
+        events += eventCount;
+    }
+
+    /**
+     * Records a replay that was cut short and has no outcome to check.
+     */
+    void addIncomplete() {
+        incomplete++;
+    }
+
+    /**
+     * Records a replay whose re-simulation ended differently: a determinism regression.
+     *
+     * @param name the replay's file or archive entry
+     * @param difference what differed
+     */
+    void addMismatch(String name, String difference) {
+        mismatches.add(name + ": " + difference);
+    }
+
+    /**
+     * Records a replay that could not be read or replayed.
+     *
+     * @param name the replay's file or archive entry
+     * @param error what went wrong
+     */
+    void addError(String name, String error) {
+        errors.add(name + ": " + error);
+    }
+
+    /**
+     * Merges another report into this one.
+     *
+     * @param other the report to merge in
+     */
+    public void add(VerificationReport other) {
+        verified += other.verified;
+        incomplete += other.incomplete;
+        events += other.events;
+        mismatches.addAll(other.mismatches);
+        errors.addAll(other.errors);
+    }
+
+    public int getVerified() {
+        return verified;
+    }
+
+    public int getIncomplete() {
+        return incomplete;
+    }
+
+    /**
+     * Returns the replays that re-simulated to a different outcome.
+     *
+     * @return one "name: difference" line per replay
+     */
+    public List<String> getMismatches() {
+        return Collections.unmodifiableList(mismatches);
+    }
+
+    /**
+     * Returns the replays that could not be read or replayed.
+     *
+     * @return one "name: error" line per replay
+     */
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Returns the number of replays looked at, whatever their result.
+     *
+     * @return the replay count
+     */
+    public int getReplays() {
+        return verified + incomplete + mismatches.size() + errors.size();
+    }
+
+    /**
+     * Returns whether every replay that could be checked matched its recording.
+     *
+     * @return true if there were no mismatches and no errors
+     */
+    public boolean isClean() {
+        return mismatches.isEmpty() && errors.isEmpty();
+    }
+
+    /**
+     * Formats the report for the console.
+     *
+     * @param elapsedNanos the wall-clock time the batch took
+     * @return a multi-line summary followed by the first mismatches and errors
+     */
+    public String format(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "replays:      %d in %.3f s (%.0f/min)%n",
+                getReplays(), seconds, getReplays() / seconds * 60));
+        text.append(String.format(Locale.ROOT, "events/sec:   %.0f (%d events)%n", events / seconds, events));
+        text.append(String.format(Locale.ROOT, "results:      verified %d, mismatched %d, unreadable %d, incomplete %d%n",
+                verified, mismatches.size(), errors.size(), incomplete));
+        appendListed(text, "MISMATCH ", mismatches);
+        appendListed(text, "ERROR    ", errors);
+        return text.toString();
+    }
+
+    private static void appendListed(StringBuilder text, String prefix, List<String> lines) {
+        for (int i = 0; i < Math.min(lines.size(), MAX_LISTED); i++) {
+            text.append(prefix).append(lines.get(i)).append(System.lineSeparator());
+        }
+        if (lines.size() > MAX_LISTED) {
+            text.append(String.format(Locale.ROOT, "%s... and %d more%n", prefix, lines.size() - MAX_LISTED));
+        }
+    }
+}
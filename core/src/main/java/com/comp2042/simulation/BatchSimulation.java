@@ -0,0 +1,106 @@
+package com.comp2042.simulation;
+
+import com.comp2042.replay.ReplayRecorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Plays a batch of seeded headless games in parallel.
+ *
+ * <p>Games share nothing: every game has its own board, controller, clock and policy. The
+ * batch is cut into a few chunks per thread so the pool can balance games of very different
+ * lengths, each chunk fills its own {@link SimulationReport}, and the reports are merged
+ * once all games are done. Throughput therefore scales with the number of cores.
+ *
+ * <p>Game {@code i} of a batch uses seed {@code baseSeed + i}, so any single game can be
+ * re-run on its own.
+ */
+public final class BatchSimulation {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final GameSimulator simulator;
+    private final PolicyType policyType;
+
+    public BatchSimulation(GameSimulator simulator, PolicyType policyType) {
+        this.simulator = simulator;
+        this.policyType = policyType;
+    }
+
+    /**
+     * Plays the batch and waits for every game to finish.
+     *
+     * @param games the number of games to play
+     * @param baseSeed the seed of the first game
+     * @param threads the number of worker threads
+     * @return the merged results of all games
+     * @throws IllegalArgumentException if games is negative or threads is not positive
+     * @throws IllegalStateException if a game fails or the batch is interrupted
+     */
+    public SimulationReport run(int games, long baseSeed, int threads) {
+        return run(games, baseSeed, threads, null);
+    }
+
+    /**
+     * Plays the batch, records every game as a replay and waits for every game to finish.
+     *
+     * @param games the number of games to play
+     * @param baseSeed the seed of the first game
+     * @param threads the number of worker threads
+     * @param replays receives every finished replay from the worker threads, such as a
+     *                {@link com.comp2042.replay.ReplayWriter}; null to not record
+     * @return the merged results of all games
+     * @throws IllegalArgumentException if games is negative or threads is not positive
+     * @throws IllegalStateException if a game fails or the batch is interrupted
+     */
+    public SimulationReport run(int games, long baseSeed, int threads, Consumer<byte[]> replays) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Invalid number of games: " + games + ". Must not be negative.");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Invalid number of threads: " + threads + ". Must be positive.");
+        }
+
+        int chunks = Math.max(1, Math.min(games, threads * CHUNKS_PER_THREAD));
+        List<Callable<SimulationReport>> tasks = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int first = (int) ((long) games * chunk / chunks);
+            int end = (int) ((long) games * (chunk + 1) / chunks);
+            tasks.add(() -> playRange(baseSeed, first, end, replays));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            SimulationReport merged = new SimulationReport();
+            for (Future<SimulationReport> result : pool.invokeAll(tasks)) {
+                merged.add(result.get());
+            }
+            return merged;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulated game failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private SimulationReport playRange(long baseSeed, int first, int end, Consumer<byte[]> replays) {
+        SimulationReport report = new SimulationReport();
+        ReplayRecorder recorder = replays == null ? null : new ReplayRecorder(simulator.getRandomizer(), replays);
+        for (int game = first; game < end; game++) {
+            long seed = baseSeed + game;
+            // The policy gets its own stream so its choices do not shift the brick sequence
+            Policy policy = policyType.create(~seed);
+            report.add(simulator.play(seed, policy, report.getLatencies(), recorder));
+        }
+        return report;
+    }
+}
@@ -0,0 +1,53 @@
+package com.comp2042.simulation;
+
+/**
+ * The outcome of one headless game.
+ */
+public final class GameResult {
+
+    /**
+     * How a headless game ended.
+     * GAME_OVER: The stack reached the top.
+     * VICTORY: The mode's win condition was met (Treasure Hunt).
+     * PIECE_LIMIT: The game was cut off after the maximum number of pieces.
+     */
+    public enum Outcome {
+        GAME_OVER,
+        VICTORY,
+        PIECE_LIMIT
+    }
+
+    private final long seed;
+    private final Outcome outcome;
+    private final int score;
+    private final int pieces;
+    private final int lines;
+
+    public GameResult(long seed, Outcome outcome, int score, int pieces, int lines) {
+        this.seed = seed;
+        this.outcome = outcome;
+        this.score = score;
+        this.pieces = pieces;
+        this.lines = lines;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getPieces() {
+        return pieces;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+}
@@ -0,0 +1,189 @@
+package com.comp2042.simulation;
+
+import com.comp2042.controller.GameController;
+import com.comp2042.controller.ManualClock;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.bricks.Randomizer;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.GameListener;
+import com.comp2042.model.GameMode;
+import com.comp2042.replay.ReplayRecorder;
+
+/**
+ * Plays complete games headlessly through a {@link GameController}, so scoring, mode rules,
+ * victory and game over all run exactly as in the desktop client.
+ *
+ * <p>Each brick is steered by sending the same rotate, left, right and hard-drop events the
+ * keyboard would send. Game time is simulated with a {@link ManualClock} that advances a
+ * fixed amount per brick, which is what makes Overgrowth vines appear.
+ *
+ * <p>A simulator holds no per-game state and can be shared by the games of one thread.
+ */
+public final class GameSimulator {
+
+    /** Number of columns of simulated boards, as in the desktop client */
+    public static final int BOARD_WIDTH = 10;
+
+    /** Number of rows of simulated boards, as in the desktop client */
+    public static final int BOARD_HEIGHT = 25;
+
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    private final GameMode mode;
+    private final BoardType boardType;
+    private final Randomizer randomizer;
+    private final int maxPieces;
+    private final long pieceMillis;
+
+    /**
+     * Creates a simulator that deals bricks uniformly at random, as the desktop client does.
+     *
+     * @param mode the game mode to play
+     * @param boardType the board engine to play on
+     * @param maxPieces the number of bricks after which a game is cut off
+     * @param pieceMillis the game time each brick takes, in milliseconds
+     * @throws IllegalArgumentException if maxPieces is not positive or pieceMillis is negative
+     */
+    public GameSimulator(GameMode mode, BoardType boardType, int maxPieces, long pieceMillis) {
+        this(mode, boardType, Randomizer.UNIFORM, maxPieces, pieceMillis);
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param mode the game mode to play
+     * @param boardType the board engine to play on
+     * @param randomizer the randomizer dealing the bricks
+     * @param maxPieces the number of bricks after which a game is cut off
+     * @param pieceMillis the game time each brick takes, in milliseconds
+     * @throws IllegalArgumentException if maxPieces is not positive or pieceMillis is negative
+     */
+    public GameSimulator(GameMode mode, BoardType boardType, Randomizer randomizer, int maxPieces, long pieceMillis) {
+        if (maxPieces <= 0) {
+            throw new IllegalArgumentException("Invalid piece limit: " + maxPieces + ". Must be positive.");
+        }
+        if (pieceMillis < 0) {
+            throw new IllegalArgumentException("Invalid piece time: " + pieceMillis + ". Must not be negative.");
+        }
+        this.mode = mode;
+        this.boardType = boardType;
+        this.randomizer = randomizer;
+        this.maxPieces = maxPieces;
+        this.pieceMillis = pieceMillis;
+    }
+
+    /**
+     * Returns the randomizer dealing the bricks of every game.
+     *
+     * @return the randomizer
+     */
+    public Randomizer getRandomizer() {
+        return randomizer;
+    }
+
+    /**
+     * Plays one game to its end.
+     *
+     * @param seed the seed of the game (bricks, treasure field and vine holes)
+     * @param policy the policy placing the bricks
+     * @param latencies receives the time taken by every brick, from choosing its placement to
+     *                  locking it, in nanoseconds
+     * @return how the game ended
+     */
+    public GameResult play(long seed, Policy policy, LatencyHistogram latencies) {
+        return play(seed, policy, latencies, null);
+    }
+
+    /**
+     * Plays one game to its end and records it as a replay. Games cut off at the piece
+     * limit are saved with the score they had.
+     *
+     * @param seed the seed of the game (bricks, treasure field and vine holes)
+     * @param policy the policy placing the bricks
+     * @param latencies receives the time taken by every brick, in nanoseconds
+     * @param recorder records the game, or null to not record it
+     * @return how the game ended
+     */
+    public GameResult play(long seed, Policy policy, LatencyHistogram latencies, ReplayRecorder recorder) {
+        Board board = boardType.create(BOARD_WIDTH, BOARD_HEIGHT, randomizer.create(seed));
+        board.setGameMode(mode);
+        HeadlessGameView view = new HeadlessGameView();
+        ManualClock clock = new ManualClock();
+        GameController controller = new GameController(view, board, clock, seed);
+        LineCounter lines = new LineCounter();
+        board.addGameListener(lines);
+        Placement placement = new Placement();
+        if (recorder != null) {
+            controller.setReplayRecorder(recorder);
+        }
+
+        int pieces = 0;
+        while (!view.isGameOver() && pieces < maxPieces) {
+            long start = System.nanoTime();
+            RotationTable shapes = board.getCurrentRotationTable();
+            int x = board.getViewData().getxPosition();
+            int y = board.getViewData().getyPosition();
+            policy.choose(board.getBoardMatrix(), shapes, x, y, placement);
+            steer(controller, board, placement);
+            controller.onHardDropEvent(HARD_DROP);
+            latencies.record(System.nanoTime() - start);
+            pieces++;
+            clock.advance(pieceMillis);
+        }
+
+        GameResult.Outcome outcome;
+        if (view.isVictory()) {
+            outcome = GameResult.Outcome.VICTORY;
+        } else if (view.isGameOver()) {
+            outcome = GameResult.Outcome.GAME_OVER;
+        } else {
+            outcome = GameResult.Outcome.PIECE_LIMIT;
+        }
+        if (recorder != null) {
+            if (outcome == GameResult.Outcome.PIECE_LIMIT) {
+                recorder.finish(board.getScore().get(), clock.currentTimeMillis());
+            }
+            controller.setReplayRecorder(null);
+        }
+        return new GameResult(seed, outcome, board.getScore().get(), pieces, lines.total);
+    }
+
+    /**
+     * Rotates and shifts the falling brick towards the placement, stopping early if blocked.
+     */
+    private static void steer(GameController controller, Board board, Placement placement) {
+        int rotations = board.getCurrentRotationTable().size();
+        for (int i = 0; i < rotations && board.getCurrentRotation() != placement.getRotation(); i++) {
+            controller.onRotateEvent(ROTATE);
+        }
+        int x = board.getViewData().getxPosition();
+        while (x != placement.getX()) {
+            int moved = (x < placement.getX() ? controller.onRightEvent(RIGHT) : controller.onLeftEvent(LEFT))
+                    .getxPosition();
+            if (moved == x) {
+                break;
+            }
+            x = moved;
+        }
+    }
+
+    /**
+     * Counts the rows cleared during a game.
+     */
+    private static final class LineCounter implements GameListener {
+
+        private int total = 0;
+
+        @Override
+        public void rowsCleared(int lines) {
+            total += lines;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.util.MatrixOperations;
+
+/**
+ * Tries every rotation and column for the falling brick and keeps the one whose resulting
+ * field scores best on a weighted sum of aggregate height, completed lines, holes and
+ * bumpiness. Plays long games, so it exercises line clears and level changes.
+ *
+ * <p>Candidate fields are built in a scratch matrix that is reused between calls, so after
+ * the first brick choosing does not allocate.
+ */
+public final class GreedyPolicy implements Policy {
+
+    // Heuristic weights (aggregate height, complete lines, holes, bumpiness)
+    private static final double HEIGHT_WEIGHT = -0.510066;
+    private static final double LINES_WEIGHT = 0.760666;
+    private static final double HOLES_WEIGHT = -0.35663;
+    private static final double BUMPINESS_WEIGHT = -0.184483;
+
+    private int[][] scratch = new int[0][0];
+    private boolean[] rowFull = new boolean[0];
+
+    @Override
+    public void choose(int[][] field, RotationTable shapes, int x, int y, Placement out) {
+        int height = field.length;
+        int width = field[0].length;
+        if (scratch.length != height || scratch[0].length != width) {
+            scratch = new int[height][width];
+            rowFull = new boolean[height];
+        }
+
+        double bestScore = Double.NEGATIVE_INFINITY;
+        out.set(0, x);
+        for (int rotation = 0; rotation < shapes.size(); rotation++) {
+            int minX = -shapes.getMinColumn(rotation);
+            int maxX = width - 1 - shapes.getMaxColumn(rotation);
+            for (int candidateX = minX; candidateX <= maxX; candidateX++) {
+                if (MatrixOperations.intersect(field, shapes, rotation, candidateX, y)) {
+                    continue;
+                }
+                int landingY = y;
+                while (!MatrixOperations.intersect(field, shapes, rotation, candidateX, landingY + 1)) {
+                    landingY++;
+                }
+                for (int row = 0; row < height; row++) {
+                    System.arraycopy(field[row], 0, scratch[row], 0, width);
+                }
+                MatrixOperations.mergeInPlace(scratch, shapes, rotation, candidateX, landingY);
+                double score = evaluate(width, height);
+                if (score > bestScore) {
+                    bestScore = score;
+                    out.set(rotation, candidateX);
+                }
+            }
+        }
+    }
+
+    /**
+     * Scores the scratch field as it will look once its full rows have been cleared.
+     */
+    private double evaluate(int width, int height) {
+        int lines = 0;
+        for (int row = 0; row < height; row++) {
+            boolean full = true;
+            for (int col = 0; col < width && full; col++) {
+                full = scratch[row][col] != 0;
+            }
+            rowFull[row] = full;
+            if (full) {
+                lines++;
+            }
+        }
+
+        int aggregateHeight = 0;
+        int holes = 0;
+        int bumpiness = 0;
+        int previousHeight = -1;
+        for (int col = 0; col < width; col++) {
+            // Full rows disappear, so only the remaining rows count towards height and holes
+            int columnHeight = 0;
+            boolean covered = false;
+            int remainingRows = height - lines;
+            int remainingRow = 0;
+            for (int row = 0; row < height; row++) {
+                if (rowFull[row]) {
+                    continue;
+                }
+                if (scratch[row][col] != 0) {
+                    if (!covered) {
+                        covered = true;
+                        columnHeight = remainingRows - remainingRow;
+                    }
+                } else if (covered) {
+                    holes++;
+                }
+                remainingRow++;
+            }
+            aggregateHeight += columnHeight;
+            if (previousHeight >= 0) {
+                bumpiness += Math.abs(columnHeight - previousHeight);
+            }
+            previousHeight = columnHeight;
+        }
+
+        return HEIGHT_WEIGHT * aggregateHeight + LINES_WEIGHT * lines
+                + HOLES_WEIGHT * holes + BUMPINESS_WEIGHT * bumpiness;
+    }
+}
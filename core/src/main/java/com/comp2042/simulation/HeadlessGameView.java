@@ -0,0 +1,69 @@
+package com.comp2042.simulation;
+
+import com.comp2042.controller.GameController;
+import com.comp2042.controller.GameView;
+import com.comp2042.events.InputEventListener;
+import com.comp2042.model.Board;
+import com.comp2042.model.ViewData;
+
+/**
+ * A {@link GameView} that draws nothing and only remembers how the game ended.
+ */
+public final class HeadlessGameView implements GameView {
+
+    private boolean gameOver = false;
+    private boolean victory = false;
+
+    /**
+     * Returns whether the controller has ended the game, by a loss or a win.
+     *
+     * @return true once the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns whether the game was won.
+     *
+     * @return true if the controller reported a victory
+     */
+    public boolean isVictory() {
+        return victory;
+    }
+
+    @Override
+    public void setEventListener(InputEventListener eventListener) {
+    }
+
+    @Override
+    public void setBoard(Board board) {
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+    }
+
+    @Override
+    public void setGameController(GameController controller) {
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] boardMatrix) {
+    }
+
+    @Override
+    public void gameOver() {
+        gameOver = true;
+    }
+
+    @Override
+    public void showVictory() {
+        victory = true;
+    }
+
+    @Override
+    public boolean updateHighScore(int currentScore) {
+        return false;
+    }
+}
@@ -0,0 +1,30 @@
+package com.comp2042.simulation;
+
+/**
+ * Where a policy wants the falling brick to go: a rotation index and the column of the
+ * shape's left edge. Policies fill in a caller-owned instance so choosing never allocates.
+ */
+public final class Placement {
+
+    private int rotation;
+    private int x;
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Sets the target placement.
+     *
+     * @param rotation the rotation index within the brick's rotation table
+     * @param x the target column of the shape's left edge
+     */
+    public void set(int rotation, int x) {
+        this.rotation = rotation;
+        this.x = x;
+    }
+}
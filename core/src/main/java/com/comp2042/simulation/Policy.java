@@ -0,0 +1,21 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.bricks.RotationTable;
+
+/**
+ * Decides where to drop each brick in a headless game.
+ * A policy instance plays one game at a time and may keep scratch state between calls.
+ */
+public interface Policy {
+
+    /**
+     * Chooses a placement for the falling brick.
+     *
+     * @param field the settled blocks, indexed [row][column]; must not be modified
+     * @param shapes the rotation states of the falling brick
+     * @param x the current column of the brick's left edge
+     * @param y the current row of the brick's top edge
+     * @param out receives the chosen rotation and column
+     */
+    void choose(int[][] field, RotationTable shapes, int x, int y, Placement out);
+}
@@ -0,0 +1,24 @@
+package com.comp2042.simulation;
+
+/**
+ * Enum representing the placement policies available to headless games.
+ * RANDOM: Random rotation and column for every brick; games are short.
+ * GREEDY: One-brick lookahead on a height/lines/holes/bumpiness heuristic; games are long.
+ */
+public enum PolicyType {
+    RANDOM,
+    GREEDY;
+
+    /**
+     * Creates a new policy of this type for one game.
+     *
+     * @param seed the seed for policies that make random choices
+     * @return a new policy
+     */
+    public Policy create(long seed) {
+        return switch (this) {
+            case RANDOM -> new RandomPolicy(seed);
+            case GREEDY -> new GreedyPolicy();
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.util.GameRandom;
+
+/**
+ * Drops every brick with a random rotation at a random column that fits inside the walls.
+ * Games end quickly, which makes this a cheap way to exercise spawning and game over.
+ */
+public final class RandomPolicy implements Policy {
+
+    private final GameRandom random;
+
+    /**
+     * Creates a policy whose choices are fully determined by the seed.
+     *
+     * @param seed the seed of the choice sequence
+     */
+    public RandomPolicy(long seed) {
+        random = new GameRandom(seed);
+    }
+
+    @Override
+    public void choose(int[][] field, RotationTable shapes, int x, int y, Placement out) {
+        int rotation = random.nextInt(shapes.size());
+        int minX = -shapes.getMinColumn(rotation);
+        int maxX = field[0].length - 1 - shapes.getMaxColumn(rotation);
+        out.set(rotation, minX + random.nextInt(maxX - minX + 1));
+    }
+}
@@ -0,0 +1,128 @@
+package com.comp2042.simulation;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Aggregated results of a batch of headless games: outcomes, score distribution and
+ * per-brick latency. Each worker fills its own report and the reports are merged at the end,
+ * so recording needs no synchronization.
+ */
+public final class SimulationReport {
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final long[] outcomes = new long[GameResult.Outcome.values().length];
+    private int[] scores = new int[16];
+    private int games = 0;
+    private long pieces = 0;
+    private long lines = 0;
+
+    /**
+     * Returns the histogram that games should record their per-brick latencies into.
+     *
+     * @return the latency histogram of this report
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Records the result of one game.
+     *
+     * @param result the finished game
+     */
+    public void add(GameResult result) {
+        if (games == scores.length) {
+            scores = Arrays.copyOf(scores, games * 2);
+        }
+        scores[games++] = result.getScore();
+        pieces += result.getPieces();
+        lines += result.getLines();
+        outcomes[result.getOutcome().ordinal()]++;
+    }
+
+    /**
+     * Merges another report into this one.
+     *
+     * @param other the report to merge in
+     */
+    public void add(SimulationReport other) {
+        for (int i = 0; i < other.games; i++) {
+            if (games == scores.length) {
+                scores = Arrays.copyOf(scores, games * 2);
+            }
+            scores[games++] = other.scores[i];
+        }
+        pieces += other.pieces;
+        lines += other.lines;
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] += other.outcomes[i];
+        }
+        latencies.add(other.latencies);
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public long getPieces() {
+        return pieces;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getOutcomeCount(GameResult.Outcome outcome) {
+        return outcomes[outcome.ordinal()];
+    }
+
+    /**
+     * Returns the score at the given percentile (nearest rank).
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the score, or 0 if no game has been recorded
+     */
+    public int getScoreAtPercentile(double percentile) {
+        if (games == 0) {
+            return 0;
+        }
+        int[] sorted = Arrays.copyOf(scores, games);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * games);
+        return sorted[Math.max(0, Math.min(games - 1, rank - 1))];
+    }
+
+    public double getMeanScore() {
+        long total = 0;
+        for (int i = 0; i < games; i++) {
+            total += scores[i];
+        }
+        return games == 0 ? 0 : (double) total / games;
+    }
+
+    /**
+     * Formats the report for the console.
+     *
+     * @param elapsedNanos the wall-clock time the batch took
+     * @return a multi-line summary
+     */
+    public String format(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "games:        %d in %.3f s%n", games, seconds));
+        text.append(String.format(Locale.ROOT, "games/sec:    %.1f%n", games / seconds));
+        text.append(String.format(Locale.ROOT, "pieces/sec:   %.0f (%d pieces, %d lines)%n", pieces / seconds, pieces, lines));
+        text.append(String.format(Locale.ROOT, "outcomes:     game over %d, victory %d, piece limit %d%n",
+                getOutcomeCount(GameResult.Outcome.GAME_OVER),
+                getOutcomeCount(GameResult.Outcome.VICTORY),
+                getOutcomeCount(GameResult.Outcome.PIECE_LIMIT)));
+        text.append(String.format(Locale.ROOT, "score:        min %d, p50 %d, p90 %d, p99 %d, max %d, mean %.1f%n",
+                getScoreAtPercentile(0), getScoreAtPercentile(50), getScoreAtPercentile(90),
+                getScoreAtPercentile(99), getScoreAtPercentile(100), getMeanScore()));
+        text.append(String.format(Locale.ROOT, "piece latency: p50 %d ns, p99 %d ns, max %d ns%n",
+                latencies.getValueAtPercentile(50), latencies.getValueAtPercentile(99),
+                latencies.getValueAtPercentile(100)));
+        return text.toString();
+    }
+}
@@ -0,0 +1,172 @@
+package com.comp2042.util;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Splittable pseudo-random number generator (SplitMix64) used for everything random in a game.
+ *
+ * <p>A game is started from one seed, which is split into an independent stream for each
+ * subsystem (piece sequence, treasure field, vine holes). Consuming more or fewer numbers in
+ * one subsystem therefore never shifts another, and two games started from the same seed
+ * with the same inputs are identical.
+ *
+ * <p>The algorithm is implemented here rather than taken from {@link java.util.SplittableRandom}
+ * because the exact output of the JDK class is not part of its specification; recorded seeds
+ * must replay the same game on every JVM. Instances are not thread-safe. Stream state can be
+ * reinitialised in place with {@link #setSeed} and {@link #splitInto}, so starting a game does
+ * not allocate.
+ */
+public final class GameRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long seed;
+    private long gamma;
+
+    /**
+     * Creates a stream whose output is fully determined by the seed.
+     *
+     * @param seed the initial seed
+     */
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private GameRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Returns a seed for games that do not need to be reproduced.
+     *
+     * @return an unpredictable seed
+     */
+    public static long newSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Restarts this stream as if it had just been created with the given seed.
+     *
+     * @param seed the new seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.gamma = GOLDEN_GAMMA;
+    }
+
+    /**
+     * Creates a new stream that is statistically independent of this one.
+     * This stream advances, so successive splits differ.
+     *
+     * @return the new stream
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /**
+     * Reinitialises another instance exactly as {@link #split()} would have created it.
+     *
+     * @param target the stream to overwrite
+     */
+    public void splitInto(GameRandom target) {
+        target.seed = nextLong();
+        target.gamma = mixGamma(nextSeed());
+    }
+
+    /**
+     * Writes the position of this stream, so {@link #restoreState} can resume it exactly.
+     *
+     * @param out the destination
+     */
+    public void saveState(ByteBuffer out) {
+        out.putLong(seed);
+        out.putLong(gamma);
+    }
+
+    /**
+     * Resumes the stream from a position written by {@link #saveState}.
+     *
+     * @param in the source
+     */
+    public void restoreState(ByteBuffer in) {
+        seed = in.getLong();
+        gamma = in.getLong();
+    }
+
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    public int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    /**
+     * Returns a uniformly distributed value between 0 (inclusive) and bound (exclusive).
+     *
+     * @param bound the upper bound, must be positive
+     * @return the next value
+     * @throws IllegalArgumentException if bound is not positive
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Invalid bound: " + bound + ". Must be positive.");
+        }
+        int r = nextInt();
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        // Reject the values from the incomplete last block of the range so every result is equally likely
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = nextInt() >>> 1) {
+            // Retry
+        }
+        return r;
+    }
+
+    /**
+     * Returns a uniformly distributed value between origin (inclusive) and bound (exclusive).
+     *
+     * @param origin the lower bound
+     * @param bound the upper bound, must be greater than origin
+     * @return the next value
+     * @throws IllegalArgumentException if the range is empty
+     */
+    public int nextInt(int origin, int bound) {
+        if (origin >= bound) {
+            throw new IllegalArgumentException("Invalid range: " + origin + " to " + bound + ".");
+        }
+        return origin + nextInt(bound - origin);
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    /**
+     * Derives the increment of a split stream; it must be odd and have enough bit transitions
+     * for the stream to look random.
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int transitions = Long.bitCount(z ^ (z >>> 1));
+        return transitions < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -0,0 +1,193 @@
+package com.comp2042.util;
+
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.model.ClearRow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class MatrixOperations {
+
+    // Scoring constants
+    /** Base score points awarded per cleared line (used in score calculation) */
+    private static final int BASE_SCORE_PER_LINE = 50;
+
+    //We don't want to instantiate this utility class
+    private MatrixOperations(){
+
+    }
+
+    public static boolean intersect(final int[][] matrix, final int[][] brick, int x, int y) {
+        for (int i = 0; i < brick.length; i++) {
+            for (int j = 0; j < brick[i].length; j++) {
+                int targetX = x + j;
+                int targetY = y + i;
+                if (brick[i][j] != 0 && (isOutOfBounds(matrix, targetX, targetY) || matrix[targetY][targetX] != 0)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a packed rotation state collides with the walls, floor or filled cells
+     * of a rectangular matrix when its top-left corner is placed at (x, y).
+     * The bounding box is checked against the walls once, so the cells themselves need no
+     * bounds checks, and only the filled bits of non-empty rows are visited.
+     *
+     * @param matrix the board matrix
+     * @param shapes the rotation table of the brick
+     * @param rotation the rotation index
+     * @param x the target column of the shape's left edge
+     * @param y the target row of the shape's top edge
+     * @return true if the shape is out of bounds or overlaps a filled cell
+     */
+    public static boolean intersect(final int[][] matrix, final RotationTable shapes, int rotation, int x, int y) {
+        int minRow = shapes.getMinRow(rotation);
+        int maxRow = shapes.getMaxRow(rotation);
+        if (y + minRow < 0 || y + maxRow >= matrix.length
+                || x + shapes.getMinColumn(rotation) < 0 || x + shapes.getMaxColumn(rotation) >= matrix[0].length) {
+            return true;
+        }
+        int mask = shapes.getMask(rotation);
+        for (int i = minRow; i <= maxRow; i++) {
+            int[] row = matrix[y + i];
+            for (int bits = RotationTable.maskRow(mask, i); bits != 0; bits &= bits - 1) {
+                if (row[x + Integer.numberOfTrailingZeros(bits)] != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the given coordinates are out of bounds for the matrix.
+     *
+     * @param matrix the matrix to check bounds against
+     * @param targetX the x coordinate to check
+     * @param targetY the y coordinate to check
+     * @return true if the coordinates are out of bounds, false otherwise
+     */
+    private static boolean isOutOfBounds(int[][] matrix, int targetX, int targetY) {
+        boolean returnValue = true;
+        if (targetX >= 0 && targetY >= 0 && targetY < matrix.length && targetX < matrix[targetY].length) {
+            returnValue = false;
+        }
+        return returnValue;
+    }
+
+    public static int[][] copy(int[][] original) {
+        int[][] myInt = new int[original.length][];
+        for (int i = 0; i < original.length; i++) {
+            int[] aMatrix = original[i];
+            int aLength = aMatrix.length;
+            myInt[i] = new int[aLength];
+            System.arraycopy(aMatrix, 0, myInt[i], 0, aLength);
+        }
+        return myInt;
+    }
+
+    public static int[][] merge(int[][] filledFields, int[][] brick, int x, int y) {
+        int[][] copy = copy(filledFields);
+        for (int i = 0; i < brick.length; i++) {
+            for (int j = 0; j < brick[i].length; j++) {
+                int targetX = x + j;
+                int targetY = y + i;
+                if (brick[i][j] != 0) {
+                    copy[targetY][targetX] = brick[i][j];
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the matrix with a packed rotation state written into it.
+     *
+     * @param filledFields the board matrix (not modified)
+     * @param shapes the rotation table of the brick
+     * @param rotation the rotation index
+     * @param x the column of the shape's left edge
+     * @param y the row of the shape's top edge
+     * @return the merged copy
+     */
+    public static int[][] merge(int[][] filledFields, RotationTable shapes, int rotation, int x, int y) {
+        int[][] copy = copy(filledFields);
+        mergeInPlace(copy, shapes, rotation, x, y);
+        return copy;
+    }
+
+    /**
+     * Writes a packed rotation state directly into the matrix without allocating.
+     * Only the filled bits of the shape are visited.
+     *
+     * @param matrix the board matrix to modify
+     * @param shapes the rotation table of the brick
+     * @param rotation the rotation index
+     * @param x the column of the shape's left edge
+     * @param y the row of the shape's top edge
+     */
+    public static void mergeInPlace(int[][] matrix, RotationTable shapes, int rotation, int x, int y) {
+        int mask = shapes.getMask(rotation);
+        int color = shapes.getColor();
+        for (int i = shapes.getMinRow(rotation); i <= shapes.getMaxRow(rotation); i++) {
+            int[] row = matrix[y + i];
+            for (int bits = RotationTable.maskRow(mask, i); bits != 0; bits &= bits - 1) {
+                row[x + Integer.numberOfTrailingZeros(bits)] = color;
+            }
+        }
+    }
+
+    public static ClearRow checkRemoving(final int[][] matrix) {
+        int[][] tmp = new int[matrix.length][matrix[0].length];
+        Deque<int[]> newRows = new ArrayDeque<>();
+        List<Integer> clearedRows = new ArrayList<>();
+
+        for (int i = 0; i < matrix.length; i++) {
+            int[] tmpRow = new int[matrix[i].length];
+            boolean rowToClear = true;
+            for (int j = 0; j < matrix[0].length; j++) {
+                if (matrix[i][j] == 0) {
+                    rowToClear = false;
+                }
+                tmpRow[j] = matrix[i][j];
+            }
+            if (rowToClear) {
+                clearedRows.add(i);
+            } else {
+                newRows.add(tmpRow);
+            }
+        }
+        for (int i = matrix.length - 1; i >= 0; i--) {
+            int[] row = newRows.pollLast();
+            if (row != null) {
+                tmp[i] = row;
+            } else {
+                break;
+            }
+        }
+        return new ClearRow(clearedRows.size(), tmp, calculateScoreBonus(clearedRows.size()));
+    }
+
+    /**
+     * Calculates the score bonus for clearing the given number of lines at once.
+     * Shared by every board implementation so they all score line clears identically.
+     *
+     * @param linesRemoved the number of lines cleared by a single lock
+     * @return the score bonus (50 points * lines^2)
+     */
+    public static int calculateScoreBonus(int linesRemoved) {
+        return BASE_SCORE_PER_LINE * linesRemoved * linesRemoved;
+    }
+
+    public static List<int[][]> deepCopyList(List<int[][]> list){
+        return list.stream().map(MatrixOperations::copy).collect(Collectors.toList());
+    }
+
+}
+
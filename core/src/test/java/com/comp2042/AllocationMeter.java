@@ -0,0 +1,41 @@
+package com.comp2042;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts the bytes the current thread allocates, for tests that check a hot path never
+ * allocates.
+ */
+public final class AllocationMeter {
+
+    private static final int MEASURED_RUNS = 5;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Measures the bytes allocated by the current thread while running the action.
+     * The action is run several times and the smallest count is returned: a real
+     * allocation shows up on every run, while JIT compilation can charge a few bytes
+     * to the calling thread on any single one.
+     *
+     * @param action the code to measure
+     * @return allocated bytes, excluding the overhead of the measurement itself
+     */
+    public static long measureAllocatedBytes(Runnable action) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long calibrationStart = threadBean.getCurrentThreadAllocatedBytes();
+        long calibrationEnd = threadBean.getCurrentThreadAllocatedBytes();
+        long overhead = calibrationEnd - calibrationStart;
+
+        long smallest = Long.MAX_VALUE;
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            long start = threadBean.getCurrentThreadAllocatedBytes();
+            action.run();
+            long end = threadBean.getCurrentThreadAllocatedBytes();
+            smallest = Math.min(smallest, end - start - overhead);
+        }
+        return smallest;
+    }
+}
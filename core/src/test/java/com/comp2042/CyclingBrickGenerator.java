@@ -0,0 +1,26 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickGenerator;
+
+/**
+ * Deterministic generator that deals every brick type in order, shared by the tests that
+ * play the same game on two engines.
+ */
+public final class CyclingBrickGenerator implements BrickGenerator {
+
+    private int nextType = 0;
+
+    @Override
+    public Brick getBrick() {
+        Brick brick = BrickFactory.getBrick(nextType);
+        nextType = (nextType + 1) % BrickFactory.TOTAL_BRICK_TYPES;
+        return brick;
+    }
+
+    @Override
+    public int peekType(int index) {
+        return (nextType + index) % BrickFactory.TOTAL_BRICK_TYPES;
+    }
+}
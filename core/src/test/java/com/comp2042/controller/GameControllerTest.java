@@ -0,0 +1,188 @@
+package com.comp2042.controller;
+
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.InputEventListener;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.model.Board;
+import com.comp2042.model.GameMode;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for GameController class.
+ * Plays full games against a recording view and a manual clock, without a display.
+ */
+class GameControllerTest {
+
+    private static final long VINE_INTERVAL_MILLIS = 10_000;
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    private RecordingView view;
+    private ManualClock clock;
+
+    @BeforeEach
+    void setUp() {
+        view = new RecordingView();
+        clock = new ManualClock();
+    }
+
+    @Test
+    void testControllerInitializesView() {
+        GameController controller = new GameController(view, clock);
+
+        assertSame(controller, view.eventListener, "Controller should receive the view's input");
+        assertSame(controller, view.controller, "View should be able to pause the controller");
+        assertSame(controller.getBoard(), view.board, "View should display the controller's board");
+        assertEquals(GameMode.CLASSIC, controller.getBoard().getGameMode(), "Default mode should be CLASSIC");
+        int initialized = view.initialized;
+        assertEquals(1, initialized, "The view should be initialized once");
+    }
+
+    @Test
+    void testClassicGamePlaysToGameOver() {
+        GameController controller = new GameController(view, clock);
+
+        int drops = 0;
+        while (view.gameOvers == 0 && drops < 1000) {
+            controller.onHardDropEvent(HARD_DROP);
+            drops++;
+        }
+
+        int gameOvers = view.gameOvers;
+        assertEquals(1, gameOvers, "Stacking bricks in the middle should end the game");
+        int highScore = view.highScore;
+        assertEquals(controller.getBoard().getScore().get(), highScore, "The final score should be reported");
+        assertTrue(view.refreshes >= drops, "Every lock should refresh the background");
+        int victories = view.victories;
+        assertEquals(0, victories, "Classic games cannot be won");
+    }
+
+    @Test
+    void testOvergrowthAddsVinesOnTheClock() {
+        GameController controller = new GameController(view, GameMode.OVERGROWTH, clock);
+        int[][] matrix = controller.getBoard().getBoardMatrix();
+        int bottom = matrix.length - 1;
+
+        clock.advance(VINE_INTERVAL_MILLIS - 1);
+        assertEquals(0, filledCells(controller.getBoard().getBoardMatrix()[bottom]), "No vine before the interval");
+
+        clock.advance(1);
+        int filled = filledCells(controller.getBoard().getBoardMatrix()[bottom]);
+        assertEquals(matrix[0].length - 1, filled, "A vine line with one hole should appear");
+        int refreshes = view.refreshes;
+        assertEquals(1, refreshes, "The view should be refreshed after a vine");
+
+        controller.pauseOvergrowthTimer(true);
+        clock.advance(VINE_INTERVAL_MILLIS * 5);
+        refreshes = view.refreshes;
+        assertEquals(1, refreshes, "No vines should grow while paused");
+
+        controller.pauseOvergrowthTimer(false);
+        clock.advance(VINE_INTERVAL_MILLIS);
+        refreshes = view.refreshes;
+        assertEquals(2, refreshes, "Vines should grow again after resuming");
+    }
+
+    @Test
+    void testOvergrowthEndsWhenVinesReachTheTop() {
+        GameController controller = new GameController(view, GameMode.OVERGROWTH, clock);
+        int height = controller.getBoard().getBoardMatrix().length;
+
+        clock.advance(VINE_INTERVAL_MILLIS * (height + 10));
+
+        int gameOvers = view.gameOvers;
+        assertEquals(1, gameOvers, "Vines reaching the top row should end the game once");
+        int refreshes = view.refreshes;
+        assertEquals(height, refreshes, "Every row should have been filled by a vine");
+    }
+
+    @Test
+    void testTreasureHuntVictory() {
+        Board board = new SimpleBoard(10, 25) {
+            @Override
+            public boolean hasRemainingTreasure() {
+                return false;
+            }
+        };
+        board.setGameMode(GameMode.TREASURE_HUNT);
+        GameController controller = new GameController(view, board, clock);
+
+        controller.onHardDropEvent(HARD_DROP);
+
+        int victories = view.victories;
+        assertEquals(1, victories, "Clearing all treasure should win the game");
+        int gameOvers = view.gameOvers;
+        assertEquals(1, gameOvers, "Winning should stop the game loop");
+    }
+
+    private static int filledCells(int[] row) {
+        int filled = 0;
+        for (int cell : row) {
+            if (cell != 0) {
+                filled++;
+            }
+        }
+        return filled;
+    }
+
+    /**
+     * View that records what the controller asks it to do.
+     */
+    private static final class RecordingView implements GameView {
+
+        private InputEventListener eventListener;
+        private GameController controller;
+        private Board board;
+        private int initialized = 0;
+        private int refreshes = 0;
+        private int gameOvers = 0;
+        private int victories = 0;
+        private int highScore = -1;
+
+        @Override
+        public void setEventListener(InputEventListener eventListener) {
+            this.eventListener = eventListener;
+        }
+
+        @Override
+        public void setBoard(Board board) {
+            this.board = board;
+        }
+
+        @Override
+        public void initGameView(int[][] boardMatrix, ViewData brick) {
+            initialized++;
+        }
+
+        @Override
+        public void setGameController(GameController controller) {
+            this.controller = controller;
+        }
+
+        @Override
+        public void refreshGameBackground(int[][] boardMatrix) {
+            refreshes++;
+        }
+
+        @Override
+        public void gameOver() {
+            gameOvers++;
+        }
+
+        @Override
+        public void showVictory() {
+            victories++;
+        }
+
+        @Override
+        public boolean updateHighScore(int currentScore) {
+            highScore = currentScore;
+            return false;
+        }
+    }
+}
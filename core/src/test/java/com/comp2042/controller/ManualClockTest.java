@@ -0,0 +1,63 @@
+package com.comp2042.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ManualClock class.
+ * Tests tick ordering and pause/stop semantics.
+ */
+class ManualClockTest {
+
+    @Test
+    void testTicksRunInTimeOrder() {
+        ManualClock clock = new ManualClock();
+        List<String> ticks = new ArrayList<>();
+        clock.every(30, () -> ticks.add("slow@" + clock.currentTimeMillis())).play();
+        clock.every(20, () -> ticks.add("fast@" + clock.currentTimeMillis())).play();
+
+        clock.advance(60);
+
+        assertEquals(List.of("fast@20", "slow@30", "fast@40", "slow@60", "fast@60"), ticks,
+                "Ticks should run in time order, including those due exactly at the end");
+    }
+
+    @Test
+    void testPauseKeepsProgressAndStopResets() {
+        ManualClock clock = new ManualClock();
+        List<Long> ticks = new ArrayList<>();
+        GameClock.Timer timer = clock.every(100, () -> ticks.add(clock.currentTimeMillis()));
+
+        clock.advance(50);
+        assertTrue(ticks.isEmpty(), "Timers should start stopped");
+
+        timer.play();
+        clock.advance(60);
+        timer.pause();
+        clock.advance(1000);
+        timer.play();
+        clock.advance(40);
+        assertEquals(List.of(1150L), ticks, "A paused timer should resume with its remaining time");
+
+        timer.stop();
+        timer.play();
+        clock.advance(99);
+        assertEquals(1, ticks.size(), "A stopped timer should wait a full period");
+        clock.advance(1);
+        assertEquals(List.of(1150L, 1250L), ticks, "The restarted timer should tick after a full period");
+    }
+
+    @Test
+    void testRejectsInvalidTimes() {
+        ManualClock clock = new ManualClock();
+
+        assertThrows(IllegalArgumentException.class, () -> clock.advance(-1),
+                "The clock should not move backwards");
+        assertThrows(IllegalArgumentException.class, () -> clock.every(0, () -> { }),
+                "Timers need a positive period");
+    }
+}
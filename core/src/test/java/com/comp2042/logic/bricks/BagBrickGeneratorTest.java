@@ -0,0 +1,83 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BagBrickGenerator class.
+ * Tests that every bag holds each type the expected number of times.
+ */
+class BagBrickGeneratorTest {
+
+    @Test
+    void testSevenBagDealsEveryTypeOncePerBag() {
+        BagBrickGenerator generator = new BagBrickGenerator(1, 11);
+
+        for (int bag = 0; bag < 100; bag++) {
+            int[] counts = new int[BrickFactory.TOTAL_BRICK_TYPES];
+            for (int i = 0; i < BrickFactory.TOTAL_BRICK_TYPES; i++) {
+                counts[generator.peekType(0)]++;
+                generator.getBrick();
+            }
+            for (int count : counts) {
+                assertEquals(1, count, "Bag " + bag + " should hold every type once");
+            }
+        }
+    }
+
+    @Test
+    void testFourteenBagDealsEveryTypeTwicePerBag() {
+        BagBrickGenerator generator = new BagBrickGenerator(2, 11);
+
+        for (int bag = 0; bag < 100; bag++) {
+            int[] counts = new int[BrickFactory.TOTAL_BRICK_TYPES];
+            for (int i = 0; i < 2 * BrickFactory.TOTAL_BRICK_TYPES; i++) {
+                counts[generator.peekType(0)]++;
+                generator.getBrick();
+            }
+            for (int count : counts) {
+                assertEquals(2, count, "Bag " + bag + " should hold every type twice");
+            }
+        }
+    }
+
+    @Test
+    void testSevenBagLimitsDroughts() {
+        BagBrickGenerator generator = new BagBrickGenerator(1, 5);
+        int[] lastSeen = new int[BrickFactory.TOTAL_BRICK_TYPES];
+        Arrays.fill(lastSeen, -1);
+
+        for (int i = 0; i < 7000; i++) {
+            int type = generator.peekType(0);
+            generator.getBrick();
+            assertTrue(i - lastSeen[type] <= 13, "No type should be more than 12 bricks away");
+            lastSeen[type] = i;
+        }
+    }
+
+    @Test
+    void testBagsAreShuffled() {
+        BagBrickGenerator generator = new BagBrickGenerator(1, 3);
+        int inOrder = 0;
+        for (int bag = 0; bag < 100; bag++) {
+            boolean sorted = true;
+            for (int i = 0; i < BrickFactory.TOTAL_BRICK_TYPES; i++) {
+                sorted &= generator.peekType(0) == i;
+                generator.getBrick();
+            }
+            if (sorted) {
+                inOrder++;
+            }
+        }
+        assertTrue(inOrder < 5, "Bags should not come out in type order: " + inOrder);
+    }
+
+    @Test
+    void testInvalidCopiesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BagBrickGenerator(0, 1),
+                "Should throw for an empty bag");
+    }
+}
@@ -0,0 +1,119 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrickFactoryTest {
+
+    @Test
+    void testValidBricks() {
+        for (int i = 0; i < BrickFactory.TOTAL_BRICK_TYPES; i++) {
+            Brick brick = BrickFactory.getBrick(i);
+            assertNotNull(brick, "Factory should return a Brick for type " + i);
+        }
+    }
+
+    @Test
+    void testInvalidBrickThrows() {
+        assertThrows(IllegalArgumentException.class, () -> BrickFactory.getBrick(99));
+    }
+
+    @Test
+    void testSpecificType() {
+        Brick brick = BrickFactory.getBrick(BrickFactory.BRICK_TYPE_I);
+        assertNotNull(brick);
+        assertEquals("IBrick", brick.getClass().getSimpleName(), "Type 0 should produce an IBrick");
+    }
+
+    @Test
+    void testBricksAreFlyweights() {
+        for (int i = 0; i < BrickFactory.TOTAL_BRICK_TYPES; i++) {
+            assertSame(BrickFactory.getBrick(i), BrickFactory.getBrick(i), "Factory should share one Brick per type " + i);
+        }
+    }
+
+    @Test
+    void testRotationTableIsShared() {
+        Brick brick = BrickFactory.getBrick(BrickFactory.BRICK_TYPE_T);
+        RotationTable table = brick.getRotationTable();
+
+        assertEquals(4, table.size(), "T-Brick should have four rotation states");
+        assertSame(table.get(1), brick.getRotationTable().get(1), "Rotation states should not be copied");
+        assertThrows(UnsupportedOperationException.class, () -> table.asList().clear(), "Rotation list should be read-only");
+    }
+
+    @Test
+    void testShapeMatrixReturnsCopies() {
+        Brick brick = BrickFactory.getBrick(BrickFactory.BRICK_TYPE_I);
+        int[][] copy = brick.getShapeMatrix().get(0);
+        copy[1][0] = 0;
+
+        assertNotSame(copy, brick.getRotationTable().get(0), "getShapeMatrix should return a copy");
+        assertEquals(1, brick.getRotationTable().get(0)[1][0], "Modifying a copy should not change the shared table");
+    }
+
+    @Test
+    void testCellAccessorAndCopiesMatchSharedMatrices() {
+        for (int type = 0; type < BrickFactory.TOTAL_BRICK_TYPES; type++) {
+            RotationTable table = BrickFactory.getBrick(type).getRotationTable();
+            for (int rotation = 0; rotation < table.size(); rotation++) {
+                int[][] shared = table.get(rotation);
+                int[][] copy = table.copy(rotation);
+                assertNotSame(shared, copy, "copy should not hand out the shared matrix");
+                int height = table.getHeight(rotation);
+                assertEquals(shared.length, height, "Height should match the matrix");
+                for (int i = 0; i < shared.length; i++) {
+                    assertNotSame(shared[i], copy[i], "copy should copy every row");
+                    for (int j = 0; j < shared[i].length; j++) {
+                        int cell = table.getCell(rotation, i, j);
+                        assertEquals(shared[i][j], cell, "Type " + type + " rotation " + rotation + " cell " + i + "," + j);
+                        assertEquals(shared[i][j], copy[i][j], "Copied cell should match");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testShapeMasksMatchMatrices() {
+        for (int type = 0; type < BrickFactory.TOTAL_BRICK_TYPES; type++) {
+            Brick brick = BrickFactory.getBrick(type);
+            RotationTable table = brick.getRotationTable();
+            for (int rotation = 0; rotation < table.size(); rotation++) {
+                int[][] shape = table.get(rotation);
+                int mask = brick.getShapeMask(rotation);
+                int minRow = RotationTable.MASK_SIZE;
+                int maxRow = -1;
+                int minColumn = RotationTable.MASK_SIZE;
+                int maxColumn = -1;
+                for (int i = 0; i < shape.length; i++) {
+                    for (int j = 0; j < shape[i].length; j++) {
+                        boolean filled = shape[i][j] != 0;
+                        boolean bitSet = (RotationTable.maskRow(mask, i) & (1 << j)) != 0;
+                        assertEquals(filled, bitSet, "Mask bit should match cell (" + i + ", " + j + ") of type " + type);
+                        if (filled) {
+                            assertEquals(brick.getColor(), shape[i][j], "Every cell should use the brick color");
+                            minRow = Math.min(minRow, i);
+                            maxRow = Math.max(maxRow, i);
+                            minColumn = Math.min(minColumn, j);
+                            maxColumn = Math.max(maxColumn, j);
+                        }
+                    }
+                }
+                assertEquals(minRow, table.getMinRow(rotation), "Top of bounding box should match");
+                assertEquals(maxRow, table.getMaxRow(rotation), "Bottom of bounding box should match");
+                assertEquals(minColumn, table.getMinColumn(rotation), "Left of bounding box should match");
+                assertEquals(maxColumn, table.getMaxColumn(rotation), "Right of bounding box should match");
+            }
+        }
+    }
+
+    @Test
+    void testRotationTableRejectsShapesThatCannotBePacked() {
+        assertThrows(IllegalArgumentException.class, () -> new RotationTable(new int[][]{{1, 1, 1, 1, 1}}),
+                "Shapes wider than the mask should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new RotationTable(new int[][]{{1, 2}}),
+                "Shapes with more than one color should be rejected");
+    }
+}
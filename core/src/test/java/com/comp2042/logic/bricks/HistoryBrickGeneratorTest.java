@@ -0,0 +1,67 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for HistoryBrickGenerator class.
+ * Tests the first brick rule and that recent types are rerolled.
+ */
+class HistoryBrickGeneratorTest {
+
+    @Test
+    void testFirstBrickIsNeverSzOrO() {
+        for (long seed = 0; seed < 500; seed++) {
+            int type = new HistoryBrickGenerator(seed).peekType(0);
+
+            assertNotEquals(BrickFactory.BRICK_TYPE_S, type, "First brick should not be S");
+            assertNotEquals(BrickFactory.BRICK_TYPE_Z, type, "First brick should not be Z");
+            assertNotEquals(BrickFactory.BRICK_TYPE_O, type, "First brick should not be O");
+        }
+    }
+
+    @Test
+    void testRepeatsAreRarerThanUniform() {
+        HistoryBrickGenerator history = new HistoryBrickGenerator(9);
+        RandomBrickGenerator uniform = new RandomBrickGenerator(9);
+
+        int historyRepeats = countRepeats(history, 7000);
+        int uniformRepeats = countRepeats(uniform, 7000);
+
+        // Uniform repeats one in seven bricks; six rolls against a four-brick history make it far rarer
+        assertTrue(historyRepeats * 10 < uniformRepeats,
+                "History should rarely repeat: " + historyRepeats + " vs " + uniformRepeats);
+    }
+
+    @Test
+    void testSingleRollIsUniform() {
+        HistoryBrickGenerator generator = new HistoryBrickGenerator(1, 4);
+        generator.getBrick();
+
+        int repeats = countRepeats(generator, 7000);
+
+        assertTrue(repeats > 800 && repeats < 1200, "One roll should not avoid repeats: " + repeats);
+    }
+
+    @Test
+    void testInvalidRollsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new HistoryBrickGenerator(0, 1),
+                "Should throw for zero rolls");
+    }
+
+    private static int countRepeats(BrickGenerator generator, int count) {
+        int repeats = 0;
+        int previous = generator.peekType(0);
+        generator.getBrick();
+        for (int i = 1; i < count; i++) {
+            int type = generator.peekType(0);
+            generator.getBrick();
+            if (type == previous) {
+                repeats++;
+            }
+            previous = type;
+        }
+        return repeats;
+    }
+}
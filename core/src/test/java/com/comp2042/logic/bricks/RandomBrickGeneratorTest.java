@@ -0,0 +1,105 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.AllocationMeter;
+import com.comp2042.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for RandomBrickGenerator class.
+ * Also covers the ring-buffer queue and peek API shared by every randomizer.
+ */
+class RandomBrickGeneratorTest {
+
+    @Test
+    void testPeekMatchesDealtBricks() {
+        RandomBrickGenerator generator = new RandomBrickGenerator(42);
+        int[] peeked = new int[100];
+        for (int i = 0; i < peeked.length; i++) {
+            peeked[i] = generator.peekType(i);
+        }
+
+        for (int i = 0; i < peeked.length; i++) {
+            assertSame(generator.peek(0), generator.getNextBrick(), "Next brick should be the head of the queue");
+            assertSame(BrickFactory.getBrick(peeked[i]), generator.getBrick(),
+                    "Brick " + i + " should be the one peeked earlier");
+        }
+    }
+
+    @Test
+    void testPeekingDoesNotChangeTheSequence() {
+        RandomBrickGenerator peeking = new RandomBrickGenerator(7);
+        RandomBrickGenerator plain = new RandomBrickGenerator(7);
+
+        for (int i = 0; i < 200; i++) {
+            // Look far ahead every now and then, past the initial queue capacity
+            if (i % 10 == 0) {
+                peeking.peekType(i % 3 == 0 ? 40 : 5);
+            }
+            assertSame(plain.getBrick(), peeking.getBrick(), "Brick " + i + " should not depend on peeking");
+        }
+    }
+
+    @Test
+    void testSameSeedGivesSameSequence() {
+        RandomBrickGenerator first = new RandomBrickGenerator(2025);
+        RandomBrickGenerator second = new RandomBrickGenerator(0);
+        second.reseed(new GameRandom(2025));
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(first.getBrick(), second.getBrick(), "Brick " + i + " should follow the seed");
+        }
+    }
+
+    @Test
+    void testDealsEveryType() {
+        RandomBrickGenerator generator = new RandomBrickGenerator(1);
+        int[] counts = new int[BrickFactory.TOTAL_BRICK_TYPES];
+        for (int i = 0; i < 7000; i++) {
+            counts[generator.peekType(0)]++;
+            generator.getBrick();
+        }
+        for (int count : counts) {
+            assertTrue(count > 800 && count < 1200, "Types should be roughly uniform: " + count);
+        }
+    }
+
+    @Test
+    void testNegativePeekIsRejected() {
+        RandomBrickGenerator generator = new RandomBrickGenerator(1);
+
+        assertThrows(IllegalArgumentException.class, () -> generator.peekType(-1),
+                "Should throw for a negative preview index");
+    }
+
+    @Test
+    void testDealingAndPeekingDoNotAllocate() {
+        RandomBrickGenerator generator = new RandomBrickGenerator(3);
+        GameRandom random = new GameRandom(3);
+
+        // First pass warms up class loading and the JIT, and grows the queue to its final depth
+        deal(generator, random, 1000);
+        long allocated = AllocationMeter.measureAllocatedBytes(() -> deal(generator, random, 1000));
+
+        assertEquals(0, allocated, "Dealing, peeking and reseeding should not allocate");
+    }
+
+    /**
+     * Deals bricks the way a game with a five-brick preview does, restarting every 100 bricks.
+     */
+    private static void deal(BrickGenerator generator, GameRandom random, int count) {
+        int sum = 0;
+        for (int i = 0; i < count; i++) {
+            if (i % 100 == 0) {
+                random.setSeed(i);
+                generator.reseed(random);
+            }
+            for (int preview = 0; preview < 5; preview++) {
+                sum += generator.peek(preview).getColor();
+            }
+            sum += generator.getBrick().getColor();
+        }
+        assertTrue(sum > 0, "Bricks should have colors");
+    }
+}
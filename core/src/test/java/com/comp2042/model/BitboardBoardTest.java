@@ -0,0 +1,43 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BitboardBoard class.
+ * Covers what is specific to the bitboard engine; BoardTypeTest checks it plays the same
+ * games as SimpleBoard.
+ */
+class BitboardBoardTest {
+
+    private static final int BOARD_WIDTH = 10;
+    private static final int BOARD_HEIGHT = 20;
+    private BitboardBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new BitboardBoard(BOARD_WIDTH, BOARD_HEIGHT);
+    }
+
+    @Test
+    void testInvalidWidthThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new BitboardBoard(BitboardBoard.MAX_WIDTH + 1, BOARD_HEIGHT));
+    }
+
+    @Test
+    void testAddVineLineMatchesShape() {
+        board.newGame();
+
+        assertTrue(board.addVineLine(), "Vine line should be added to an empty board");
+        int[] bottomRow = board.getBoardMatrix()[BOARD_HEIGHT - 1];
+        int holes = 0;
+        for (int cell : bottomRow) {
+            if (cell == 0) {
+                holes++;
+            }
+        }
+        assertEquals(1, holes, "Vine row should have exactly one hole");
+    }
+}
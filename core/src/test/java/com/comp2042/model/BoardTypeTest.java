@@ -0,0 +1,319 @@
+package com.comp2042.model;
+
+import com.comp2042.CyclingBrickGenerator;
+import com.comp2042.AllocationMeter;
+import com.comp2042.logic.bricks.Randomizer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BoardType enum.
+ * Checks every engine it creates behaves the same way on the hot movement paths.
+ */
+class BoardTypeTest {
+
+    private static final int BOARD_WIDTH = 10;
+    private static final int BOARD_HEIGHT = 20;
+
+    @Test
+    void testCreatesEmptyBoards() {
+        for (BoardType type : BoardType.values()) {
+            Board board = type.create(BOARD_WIDTH, BOARD_HEIGHT);
+            board.newGame();
+
+            int[][] matrix = board.getBoardMatrix();
+            assertEquals(BOARD_HEIGHT, matrix.length, type + " board height should match");
+            assertEquals(BOARD_WIDTH, matrix[0].length, type + " board width should match");
+        }
+    }
+
+    @Test
+    void testNewBoardsStartPlayable() {
+        for (BoardType type : BoardType.values()) {
+            Board board = type.create(BOARD_WIDTH, BOARD_HEIGHT);
+            int initialScore = board.getScore().get();
+            assertEquals(0, initialScore, type + " score should start at 0");
+            board.newGame();
+
+            assertTrue(board.moveBrickDown(), type + " brick should be able to move down on an empty board");
+        }
+    }
+
+    @Test
+    void testTreasureHuntStartsWithTreasure() {
+        for (BoardType type : BoardType.values()) {
+            Board board = type.create(BOARD_WIDTH, BOARD_HEIGHT);
+            board.setGameMode(GameMode.TREASURE_HUNT);
+            board.newGame();
+
+            assertEquals(GameMode.TREASURE_HUNT, board.getGameMode(), type + " should report TREASURE_HUNT mode");
+            assertTrue(board.hasRemainingTreasure(), type + " should spawn gold blocks at start");
+            for (int[] row : board.getBoardMatrix()) {
+                int filled = 0;
+                for (int cell : row) {
+                    if (cell != 0) {
+                        filled++;
+                    }
+                }
+                assertTrue(filled < BOARD_WIDTH, type + " should not start with a full treasure row");
+            }
+        }
+    }
+
+    /**
+     * Plays the same 300 bricks on every engine and SimpleBoard, the reference, comparing
+     * the result of every move and the field after every lock.
+     */
+    @Test
+    void testMatchesSimpleBoard() {
+        for (BoardType type : BoardType.values()) {
+            if (type == BoardType.SIMPLE) {
+                continue;
+            }
+            Board simple = BoardType.SIMPLE.create(BOARD_WIDTH, BOARD_HEIGHT, new CyclingBrickGenerator());
+            Board other = type.create(BOARD_WIDTH, BOARD_HEIGHT, new CyclingBrickGenerator());
+            simple.newGame();
+            other.newGame();
+
+            for (int piece = 0; piece < 300; piece++) {
+                for (int r = 0; r < piece % 4; r++) {
+                    assertEquals(simple.rotateLeftBrick(), other.rotateLeftBrick(), type + " rotation result should match");
+                }
+                int shift = (piece * 7) % 11 - 5;
+                for (int s = 0; s < Math.abs(shift); s++) {
+                    if (shift < 0) {
+                        assertEquals(simple.moveBrickLeft(), other.moveBrickLeft(), type + " left move result should match");
+                    } else {
+                        assertEquals(simple.moveBrickRight(), other.moveBrickRight(), type + " right move result should match");
+                    }
+                }
+                assertEquals(simple.getGhostPieceY(), other.getGhostPieceY(), type + " ghost position should match");
+                assertEquals(simple.hardDrop(), other.hardDrop(), type + " hard drop distance should match");
+
+                simple.mergeBrickToBackground();
+                other.mergeBrickToBackground();
+                ClearRow simpleClear = simple.clearRows();
+                ClearRow otherClear = other.clearRows();
+                assertEquals(simpleClear.getLinesRemoved(), otherClear.getLinesRemoved(), type + " lines removed should match");
+                assertEquals(simpleClear.getScoreBonus(), otherClear.getScoreBonus(), type + " score bonus should match");
+                assertArrayEquals(simple.getBoardMatrix(), other.getBoardMatrix(), type + " board should match after piece " + piece);
+
+                boolean simpleOver = simple.createNewBrick();
+                assertEquals(simpleOver, other.createNewBrick(), type + " game over state should match");
+                if (simpleOver) {
+                    simple.newGame();
+                    other.newGame();
+                }
+            }
+        }
+    }
+
+    /**
+     * Every random choice of a game comes from its seed, so the same seed and the same
+     * inputs must produce identical boards, on every engine.
+     */
+    @Test
+    void testSameSeedGivesIdenticalBoards() {
+        for (GameMode mode : GameMode.values()) {
+            int[][] expected = playScripted(BoardType.SIMPLE, mode, 2025);
+            for (BoardType type : BoardType.values()) {
+                int[][] actual = playScripted(type, mode, 2025);
+                assertArrayEquals(expected, actual, type + " " + mode + " game should match for the same seed");
+            }
+            if (mode == GameMode.TREASURE_HUNT) {
+                Board first = BoardType.SIMPLE.create(BOARD_WIDTH, BOARD_HEIGHT);
+                Board second = BoardType.SIMPLE.create(BOARD_WIDTH, BOARD_HEIGHT);
+                first.setGameMode(mode);
+                second.setGameMode(mode);
+                first.newGame(1);
+                second.newGame(2);
+                assertFalse(Arrays.deepEquals(first.getBoardMatrix(), second.getBoardMatrix()),
+                        "Different seeds should give different treasure fields");
+            }
+        }
+    }
+
+    /**
+     * Plays a fixed sequence of inputs, with a vine line every few bricks, and returns a
+     * copy of the final field.
+     */
+    private static int[][] playScripted(BoardType type, GameMode mode, long seed) {
+        Board board = type.create(BOARD_WIDTH, BOARD_HEIGHT);
+        board.setGameMode(mode);
+        board.newGame(seed);
+        assertEquals(seed, board.getSeed(), "The board should report its seed");
+        playPieces(board, 0, 40);
+        int[][] matrix = board.getBoardMatrix();
+        int[][] copy = new int[matrix.length][];
+        for (int row = 0; row < matrix.length; row++) {
+            copy[row] = matrix[row].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Plays bricks {@code from} to {@code from + count - 1} of the fixed input sequence.
+     */
+    private static void playPieces(Board board, int from, int count) {
+        for (int piece = from; piece < from + count; piece++) {
+            for (int i = 0; i < piece % 4; i++) {
+                board.rotateLeftBrick();
+            }
+            for (int i = 0; i < piece % 5; i++) {
+                if (piece % 2 == 0) {
+                    board.moveBrickLeft();
+                } else {
+                    board.moveBrickRight();
+                }
+            }
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (piece % 3 == 0) {
+                board.addVineLine();
+            }
+            if (board.createNewBrick()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * A view redraws only the cells the board marks, so every cell that changes must be
+     * marked, on every engine; a lock that clears nothing marks just the brick's cells.
+     */
+    @Test
+    void testDirtyCellsCoverEveryChange() {
+        for (GameMode mode : GameMode.values()) {
+            for (BoardType type : BoardType.values()) {
+                Board board = type.create(BOARD_WIDTH, BOARD_HEIGHT);
+                board.setGameMode(mode);
+                board.newGame(2025);
+                DirtyCells dirty = board.getDirtyCells();
+                int marked = dirty.count();
+                assertEquals(BOARD_WIDTH * BOARD_HEIGHT, marked, type + " new game should mark the whole field");
+                dirty.clear();
+
+                for (int piece = 0; piece < 40; piece++) {
+                    int[][] before = copyOf(board.getBoardMatrix());
+                    for (int i = 0; i < piece % 5; i++) {
+                        board.moveBrickLeft();
+                    }
+                    board.hardDrop();
+                    board.mergeBrickToBackground();
+                    int linesRemoved = board.clearRows().getLinesRemoved();
+                    if (linesRemoved == 0) {
+                        marked = dirty.count();
+                        assertEquals(4, marked, type + " " + mode + " lock should mark the brick's cells");
+                    }
+                    boolean vine = piece % 3 == 0 && board.addVineLine();
+                    int[][] after = board.getBoardMatrix();
+                    for (int row = 0; row < BOARD_HEIGHT; row++) {
+                        for (int col = 0; col < BOARD_WIDTH; col++) {
+                            if (before[row][col] != after[row][col]) {
+                                assertTrue(dirty.isDirty(row, col),
+                                        type + " " + mode + " changed cell " + row + "," + col + " should be marked");
+                            }
+                        }
+                    }
+                    if (vine) {
+                        assertEquals(BOARD_WIDTH * BOARD_HEIGHT, dirty.count(), type + " vine line should mark the field");
+                    }
+                    dirty.clear();
+                    if (board.createNewBrick()) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private static int[][] copyOf(int[][] matrix) {
+        int[][] copy = new int[matrix.length][];
+        for (int row = 0; row < matrix.length; row++) {
+            copy[row] = matrix[row].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * A saved state must capture everything the rest of the game depends on: restoring it,
+     * on the same or another engine, and playing the same inputs must end identically.
+     */
+    @Test
+    void testRestoredStateResumesIdentically() {
+        for (Randomizer randomizer : Randomizer.values()) {
+            for (GameMode mode : GameMode.values()) {
+                Board original = BoardType.SIMPLE.create(BOARD_WIDTH, BOARD_HEIGHT, randomizer.create(7));
+                original.setGameMode(mode);
+                original.newGame(7);
+                playPieces(original, 0, 12);
+                ByteBuffer state = ByteBuffer.allocate(1024);
+                original.saveState(state);
+                state.flip();
+                playPieces(original, 12, 12);
+
+                for (BoardType type : BoardType.values()) {
+                    Board restored = type.create(BOARD_WIDTH, BOARD_HEIGHT, randomizer.create(99));
+                    restored.setGameMode(mode);
+                    restored.newGame(99);
+                    restored.restoreState(state.duplicate());
+                    playPieces(restored, 12, 12);
+
+                    String label = type + " " + mode + " " + randomizer;
+                    assertArrayEquals(original.getBoardMatrix(), restored.getBoardMatrix(),
+                            label + " field should match after restoring");
+                    assertEquals(original.getScore().get(), restored.getScore().get(),
+                            label + " score should match after restoring");
+                    assertEquals(original.getLevel(), restored.getLevel(),
+                            label + " level should match after restoring");
+                }
+            }
+        }
+    }
+
+    /**
+     * The falling brick's position is kept in primitive fields, so dropping it, looking up
+     * its landing row and hard-dropping it must not allocate on any engine.
+     */
+    @Test
+    void testDropsDoNotAllocate() {
+        for (BoardType type : BoardType.values()) {
+            Board board = type.create(BOARD_WIDTH, BOARD_HEIGHT);
+
+            // First pass warms up class loading and the JIT; later passes are measured
+            board.newGame();
+            dropBrick(board);
+            long allocated = AllocationMeter.measureAllocatedBytes(() -> dropBrick(board));
+
+            assertEquals(0, allocated, type + " should drop bricks without allocating");
+        }
+    }
+
+    /**
+     * Queries the landing row, drops the brick to the floor one row at a time checking
+     * that it lands there, then hard-drops it in place and keeps pushing it down.
+     * Starts a new game at the end so the next run begins with a fresh brick.
+     */
+    private static void dropBrick(Board board) {
+        int ghostY = 0;
+        for (int i = 0; i < 1000; i++) {
+            ghostY = board.getGhostPieceY();
+        }
+        int rows = 0;
+        while (board.moveBrickDown()) {
+            rows++;
+        }
+        assertTrue(rows > 0, "A new brick should be able to fall");
+        assertEquals(ghostY, board.getViewData().getyPosition(), "The brick should stop on its landing row");
+        for (int i = 0; i < 1000; i++) {
+            board.hardDrop();
+            board.moveBrickDown();
+        }
+        board.newGame();
+    }
+}
@@ -0,0 +1,80 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for DirtyCells.
+ */
+class DirtyCellsTest {
+
+    @Test
+    void testStartsClean() {
+        DirtyCells cells = new DirtyCells(10, 20);
+        int count = cells.count();
+        assertEquals(0, count, "A new set should be empty");
+        for (int row = 0; row < 20; row++) {
+            assertFalse(cells.isRowDirty(row), "No row should be dirty");
+        }
+    }
+
+    @Test
+    void testMarksSingleCells() {
+        DirtyCells cells = new DirtyCells(10, 20);
+        cells.markCell(5, 3);
+        cells.markCell(5, 3);
+        cells.markCell(19, 9);
+
+        int count = cells.count();
+        assertEquals(2, count, "Marking a cell twice should count it once");
+        assertTrue(cells.isDirty(5, 3), "Marked cell should be dirty");
+        assertTrue(cells.isDirty(19, 9), "Marked corner should be dirty");
+        assertFalse(cells.isDirty(5, 4), "Neighbouring cell should stay clean");
+        assertFalse(cells.isDirty(6, 3), "Cell below should stay clean");
+        assertTrue(cells.isRowDirty(5), "Row with a marked cell should be dirty");
+        assertFalse(cells.isRowDirty(4), "Row without marks should be clean");
+    }
+
+    @Test
+    void testMarksRowRangesClipped() {
+        DirtyCells cells = new DirtyCells(10, 20);
+        cells.markRows(-3, 2);
+        cells.markRows(18, 25);
+
+        int count = cells.count();
+        assertEquals(50, count, "Rows 0-2 and 18-19 should be marked");
+        assertTrue(cells.isDirty(0, 0), "First row should be marked");
+        assertTrue(cells.isDirty(2, 9), "Last cell of the range should be marked");
+        assertFalse(cells.isRowDirty(3), "Row after the range should stay clean");
+        assertTrue(cells.isDirty(19, 9), "Range should reach the bottom row");
+    }
+
+    @Test
+    void testMarksOnlyColumnsOfTheField() {
+        // Wider than one word, so rows span two words with a partial last one
+        DirtyCells cells = new DirtyCells(70, 3);
+        cells.markAll();
+        int count = cells.count();
+        assertEquals(210, count, "Every cell and no more should be marked");
+        cells.markCell(1, 69);
+        assertTrue(cells.isDirty(1, 69), "Last column should be addressable");
+        assertTrue(cells.isDirty(2, 64), "First column of the second word should be marked");
+    }
+
+    @Test
+    void testClearForgetsEverything() {
+        DirtyCells cells = new DirtyCells(10, 20);
+        cells.markAll();
+        cells.clear();
+        int count = cells.count();
+        assertEquals(0, count, "Cleared set should be empty");
+        assertFalse(cells.isDirty(10, 5), "Cleared cell should be clean");
+    }
+
+    @Test
+    void testRejectsEmptyField() {
+        assertThrows(IllegalArgumentException.class, () -> new DirtyCells(0, 20));
+        assertThrows(IllegalArgumentException.class, () -> new DirtyCells(10, -1));
+    }
+}
@@ -0,0 +1,51 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for RingBufferBoard class.
+ * Covers what is specific to the ring buffer engine; BoardTypeTest checks it plays the
+ * same games as SimpleBoard.
+ */
+class RingBufferBoardTest {
+
+    private static final int BOARD_WIDTH = 10;
+    private static final int BOARD_HEIGHT = 20;
+    private RingBufferBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new RingBufferBoard(BOARD_WIDTH, BOARD_HEIGHT);
+    }
+
+    @Test
+    void testAddVineLineShiftsRowsUp() {
+        board.newGame();
+
+        assertTrue(board.addVineLine(), "Vine line should be added to an empty board");
+        int[] firstVine = board.getBoardMatrix()[BOARD_HEIGHT - 1].clone();
+        assertTrue(board.addVineLine(), "Second vine line should be added");
+
+        assertArrayEquals(firstVine, board.getBoardMatrix()[BOARD_HEIGHT - 2], "Earlier vine row should move up by one");
+        int holes = 0;
+        for (int cell : board.getBoardMatrix()[BOARD_HEIGHT - 1]) {
+            if (cell == 0) {
+                holes++;
+            }
+        }
+        assertEquals(1, holes, "Vine row should have exactly one hole");
+    }
+
+    @Test
+    void testAddVineLineFailsWhenTopRowOccupied() {
+        board.newGame();
+
+        for (int i = 0; i < BOARD_HEIGHT; i++) {
+            assertTrue(board.addVineLine(), "Vine line " + i + " should fit");
+        }
+        assertFalse(board.addVineLine(), "Vine line should be refused once the top row is filled");
+    }
+}
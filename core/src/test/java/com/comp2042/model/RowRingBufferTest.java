@@ -0,0 +1,84 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for RowRingBuffer class.
+ * Checks row removal and insertion against a plain list of rows.
+ */
+class RowRingBufferTest {
+
+    private static final int WIDTH = 4;
+    private static final int HEIGHT = 9;
+
+    @Test
+    void testRemoveRowDropsRowsAbove() {
+        RowRingBuffer buffer = new RowRingBuffer(WIDTH, HEIGHT);
+        for (int row = 0; row < HEIGHT; row++) {
+            buffer.set(row, 0, row + 1);
+        }
+
+        // One removal near the top and one near the bottom exercise both shift directions
+        buffer.removeRow(2);
+        buffer.removeRow(7);
+
+        int[][] matrix = buffer.asMatrix();
+        int[] expected = {0, 0, 1, 2, 4, 5, 6, 7, 9};
+        for (int row = 0; row < HEIGHT; row++) {
+            int cell = matrix[row][0];
+            assertEquals(expected[row], cell, "Unexpected cell in row " + row);
+        }
+        int topCount = buffer.fillCount(0);
+        assertEquals(0, topCount, "New top rows should be empty");
+        int bottomCount = buffer.fillCount(HEIGHT - 1);
+        assertEquals(1, bottomCount, "Fill counts should move with their rows");
+    }
+
+    @Test
+    void testMatchesListOfRows() {
+        RowRingBuffer buffer = new RowRingBuffer(WIDTH, HEIGHT);
+        List<int[]> expected = new ArrayList<>();
+        for (int row = 0; row < HEIGHT; row++) {
+            expected.add(new int[WIDTH]);
+        }
+        Random random = new Random(42);
+
+        for (int step = 0; step < 2000; step++) {
+            int action = random.nextInt(3);
+            if (action == 0) {
+                int row = random.nextInt(HEIGHT);
+                int col = random.nextInt(WIDTH);
+                int color = random.nextInt(3);
+                buffer.set(row, col, color);
+                expected.get(row)[col] = color;
+            } else if (action == 1) {
+                int row = random.nextInt(HEIGHT);
+                buffer.removeRow(row);
+                expected.remove(row);
+                expected.add(0, new int[WIDTH]);
+            } else if (Arrays.stream(expected.get(0)).allMatch(cell -> cell == 0)) {
+                int hole = random.nextInt(WIDTH);
+                buffer.pushBottom(8, hole);
+                int[] vine = new int[WIDTH];
+                Arrays.fill(vine, 8);
+                vine[hole] = 0;
+                expected.remove(0);
+                expected.add(vine);
+            }
+
+            assertArrayEquals(expected.toArray(new int[0][]), buffer.asMatrix(), "Rows should match after step " + step);
+            for (int row = 0; row < HEIGHT; row++) {
+                int filled = (int) Arrays.stream(expected.get(row)).filter(cell -> cell != 0).count();
+                int count = buffer.fillCount(row);
+                assertEquals(filled, count, "Fill count should match in row " + row);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for Score class.
+ * Tests accumulation, reset and change notification.
+ */
+class ScoreTest {
+
+    @Test
+    void testAddAndReset() {
+        Score score = new Score();
+        score.add(10);
+        score.add(5);
+        int total = score.get();
+        assertEquals(15, total, "Score should accumulate points");
+
+        score.reset();
+        int reset = score.get();
+        assertEquals(0, reset, "Reset should return the score to 0");
+    }
+
+    @Test
+    void testListenersAreNotifiedOfChanges() {
+        Score score = new Score();
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        ScoreListener firstListener = first::add;
+        score.addListener(firstListener);
+        score.addListener(second::add);
+
+        score.add(10);
+        score.add(0);
+        score.removeListener(firstListener);
+        score.add(5);
+
+        assertEquals(List.of(10), first, "Removed listeners should stop receiving changes");
+        assertEquals(List.of(10, 15), second, "Adding 0 should not be reported as a change");
+    }
+}
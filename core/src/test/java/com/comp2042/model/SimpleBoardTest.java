@@ -0,0 +1,338 @@
+package com.comp2042.model;
+
+import com.comp2042.AllocationMeter;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SimpleBoard class.
+ * Tests game board initialization, brick movement, and score functionality.
+ */
+class SimpleBoardTest {
+
+    private static final int BOARD_WIDTH = 10;
+    private static final int BOARD_HEIGHT = 20;
+    private SimpleBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new SimpleBoard(BOARD_WIDTH, BOARD_HEIGHT);
+    }
+
+    @Test
+    void testNewGame() {
+        // Initialize a board and call newGame()
+        board.newGame();
+        
+        // Assert that getBoardMatrix() returns a non-null array
+        int[][] boardMatrix = board.getBoardMatrix();
+        assertNotNull(boardMatrix, "Board matrix should not be null");
+        
+        // Assert correct dimensions
+        // Board matrix is stored as [height][width] (row-major)
+        assertEquals(BOARD_HEIGHT, boardMatrix.length, "Board height should match");
+        assertEquals(BOARD_WIDTH, boardMatrix[0].length, "Board width should match");
+    }
+
+    @Test
+    void testMoveBrickDown() {
+        // Create a board and spawn a brick
+        board.newGame();
+        
+        // Call moveBrickDown() - should return true since the board is empty
+        boolean moved = board.moveBrickDown();
+        
+        assertTrue(moved, "Brick should be able to move down on an empty board");
+    }
+
+    @Test
+    void testScoreInitialization() {
+        // Assert that getScore() is not null
+        Score score = board.getScore();
+        assertNotNull(score, "Score should not be null");
+        
+        // Assert that score starts at 0
+        int initialScore = score.get();
+        assertEquals(0, initialScore, "Score should start at 0");
+    }
+
+    @Test
+    void testGameModeSelection() {
+        board.setGameMode(GameMode.TREASURE_HUNT);
+        board.newGame();
+
+        assertEquals(GameMode.TREASURE_HUNT, board.getGameMode(), "Board should report TREASURE_HUNT mode");
+        assertTrue(board.hasRemainingTreasure(), "Treasure Hunt should spawn gold blocks at start");
+    }
+
+    @Test
+    void testMovementDoesNotAllocate() {
+        // I-bricks only: lying flat on the floor they can neither fall nor rotate upright
+        board = new SimpleBoard(BOARD_WIDTH, BOARD_HEIGHT, new SequenceBrickGenerator(BrickFactory.BRICK_TYPE_I));
+        board.newGame();
+
+        // First pass warms up class loading and the JIT; later passes are measured
+        dropRotateAndBlock();
+        board.createNewBrick();
+        long allocated = AllocationMeter.measureAllocatedBytes(this::dropRotateAndBlock);
+
+        assertEquals(0, allocated, "Moving, rotating and blocked moves should not allocate");
+    }
+
+    @Test
+    void testLockPipelineDoesNotAllocate() {
+        // Flat I-bricks on an 8-wide board: two of them complete a row
+        board = new SimpleBoard(8, BOARD_HEIGHT, new SequenceBrickGenerator(BrickFactory.BRICK_TYPE_I));
+        board.newGame();
+
+        // First pass warms up class loading and the JIT; later passes are measured
+        lockPieces(1000);
+        long allocated = AllocationMeter.measureAllocatedBytes(() -> lockPieces(1000));
+
+        assertEquals(0, allocated, "Merging, clearing rows, scoring and spawning should not allocate");
+        int[][] matrix = board.getBoardMatrix();
+        assertArrayEquals(new int[8], matrix[BOARD_HEIGHT - 1], "Every pair of bricks should have been cleared");
+    }
+
+    @Test
+    void testViewDataIsReusedWithoutAllocating() {
+        board = new SimpleBoard(BOARD_WIDTH, BOARD_HEIGHT, new SequenceBrickGenerator(BrickFactory.BRICK_TYPE_T));
+        board.newGame();
+        ViewData first = board.getViewData();
+        board.moveBrickDown();
+        ViewData second = board.getViewData();
+
+        assertSame(first, second, "The board should hand out one reusable snapshot");
+        int y = second.getyPosition();
+        assertEquals(2, y, "The snapshot should be refreshed on every call");
+        int cell = second.getBrickCell(1, 1);
+        assertEquals(second.getBrickData()[1][1], cell, "Cell accessors should match the copied matrix");
+
+        readViewData(100);
+        long allocated = AllocationMeter.measureAllocatedBytes(() -> readViewData(1000));
+        assertEquals(0, allocated, "Refreshing and reading the snapshot should not allocate");
+    }
+
+    @Test
+    void testClearRowsOnlyRemovesFullRows() {
+        board = new SimpleBoard(BOARD_WIDTH, BOARD_HEIGHT, new SequenceBrickGenerator(
+                BrickFactory.BRICK_TYPE_I, BrickFactory.BRICK_TYPE_I, BrickFactory.BRICK_TYPE_O));
+        board.newGame();
+
+        // I-brick into columns 0-3
+        for (int i = 0; i < 4; i++) {
+            board.moveBrickLeft();
+        }
+        ClearRow first = lockAfterHardDrop();
+        assertEquals(0, first.getLinesRemoved(), "An incomplete row should not be cleared");
+        assertEquals(0, first.getScoreBonus(), "No bonus without cleared rows");
+
+        // I-brick into columns 4-7
+        board.createNewBrick();
+        lockAfterHardDrop();
+
+        // O-brick into columns 8-9 completes the bottom row and leaves two cells above it
+        board.createNewBrick();
+        for (int i = 0; i < 3; i++) {
+            board.moveBrickRight();
+        }
+        ClearRow clearRow = lockAfterHardDrop();
+
+        assertEquals(1, clearRow.getLinesRemoved(), "Exactly one row should be cleared");
+        assertEquals(50, clearRow.getScoreBonus(), "One line should be worth 50 points");
+        int[][] matrix = board.getBoardMatrix();
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 4, 4}, matrix[BOARD_HEIGHT - 1],
+                "The row above the cleared row should drop into the bottom row");
+        assertArrayEquals(new int[BOARD_WIDTH], matrix[BOARD_HEIGHT - 2], "Rows above should be empty");
+    }
+
+    @Test
+    void testGhostPieceDoesNotMoveBrick() {
+        board.newGame();
+        int startY = board.getViewData().getyPosition();
+
+        int ghostY = board.getGhostPieceY();
+
+        assertEquals(startY, board.getViewData().getyPosition(), "Ghost calculation should not move the brick");
+        assertEquals(ghostY - startY, board.hardDrop(), "Hard drop should land on the ghost row");
+        assertFalse(board.moveBrickDown(), "Brick should rest on the ghost row after a hard drop");
+    }
+
+    @Test
+    void testGhostPieceUnderOverhang() {
+        board = new SimpleBoard(BOARD_WIDTH, BOARD_HEIGHT, new SequenceBrickGenerator(
+                BrickFactory.BRICK_TYPE_T, BrickFactory.BRICK_TYPE_I));
+        board.newGame();
+
+        // T-brick pointing down in columns 4-6 leaves an overhang over the floor cell of column 4
+        lockAfterHardDrop();
+
+        // Slide a flat I-brick along the floor until it is partly under the overhang
+        board.createNewBrick();
+        for (int i = 0; i < 4; i++) {
+            board.moveBrickLeft();
+        }
+        while (board.moveBrickDown()) {
+            // Drop to the floor
+        }
+        assertTrue(board.moveBrickRight(), "I-brick should slide under the overhang");
+
+        int currentY = board.getViewData().getyPosition();
+        assertEquals(currentY, board.getGhostPieceY(), "Brick under an overhang is already at its landing row");
+        assertEquals(0, board.hardDrop(), "Hard drop under an overhang should not move the brick");
+    }
+
+    @Test
+    void testListenersReceiveGameEvents() {
+        board = new SimpleBoard(8, BOARD_HEIGHT, new SequenceBrickGenerator(BrickFactory.BRICK_TYPE_I));
+        board.newGame();
+        RecordingListener listener = new RecordingListener();
+        board.addGameListener(listener);
+
+        // 20 bricks clear 10 rows: one level up
+        lockPieces(20);
+
+        assertEquals(20, listener.landed, "Every merge should be reported");
+        assertEquals(40, listener.moved, "Every successful sideways move should be reported");
+        assertEquals(2, listener.level, "Clearing 10 rows should report level 2");
+        assertEquals(board.getScore().get(), listener.score, "Score changes should be reported");
+        assertTrue(listener.score > 0, "Cleared rows should have scored");
+
+        board.newGame();
+        assertEquals(1, listener.level, "A new game should report the level reset");
+        assertEquals(0, listener.score, "A new game should report the score reset");
+
+        board.removeGameListener(listener);
+        lockPieces(2);
+        assertEquals(20, listener.landed, "Removed listeners should not be notified");
+    }
+
+    @Test
+    void testListenersDoNotAllocate() {
+        board = new SimpleBoard(8, BOARD_HEIGHT, new SequenceBrickGenerator(BrickFactory.BRICK_TYPE_I));
+        board.newGame();
+        board.addGameListener(new RecordingListener());
+
+        // First pass warms up class loading and the JIT; later passes are measured
+        lockPieces(1000);
+        long allocated = AllocationMeter.measureAllocatedBytes(() -> lockPieces(1000));
+
+        assertEquals(0, allocated, "Notifying listeners should not allocate");
+    }
+
+    /**
+     * Runs the same lock sequence as the game controller, alternating bricks between the
+     * left and right halves of the board so every second piece clears a row.
+     */
+    private void lockPieces(int count) {
+        for (int piece = 0; piece < count; piece++) {
+            if (piece % 2 == 0) {
+                for (int i = 0; i < 4; i++) {
+                    board.moveBrickLeft();
+                }
+            }
+            ClearRow clearRow = lockAfterHardDrop();
+            board.getScore().add(clearRow.getScoreBonus());
+            assertFalse(board.createNewBrick(), "Clearing rows should keep the game going");
+        }
+    }
+
+    /**
+     * Reads every cell of the falling and next brick the way the view does on a refresh.
+     */
+    private void readViewData(int count) {
+        int sum = 0;
+        for (int n = 0; n < count; n++) {
+            ViewData viewData = board.getViewData();
+            for (int i = 0; i < viewData.getBrickHeight(); i++) {
+                for (int j = 0; j < viewData.getBrickWidth(); j++) {
+                    sum += viewData.getBrickCell(i, j) + viewData.getNextBrickCell(i, j);
+                }
+            }
+        }
+        assertTrue(sum > 0, "Bricks should have filled cells");
+    }
+
+    private ClearRow lockAfterHardDrop() {
+        board.hardDrop();
+        board.mergeBrickToBackground();
+        return board.clearRows();
+    }
+
+    /**
+     * Drops the current brick to the floor one row at a time, then repeatedly attempts
+     * moves and rotations that are blocked by the floor.
+     */
+    private void dropRotateAndBlock() {
+        while (board.moveBrickDown()) {
+            // Successful moves
+        }
+        for (int i = 0; i < 1000; i++) {
+            board.moveBrickDown();
+            board.rotateLeftBrick();
+        }
+    }
+
+    /**
+     * Listener that remembers the last reported values and counts events.
+     */
+    private static final class RecordingListener implements GameListener {
+
+        private int score = -1;
+        private int level = -1;
+        private int moved = 0;
+        private int landed = 0;
+
+        @Override
+        public void scoreChanged(int score) {
+            this.score = score;
+        }
+
+        @Override
+        public void levelChanged(int level) {
+            this.level = level;
+        }
+
+        @Override
+        public void brickMoved() {
+            moved++;
+        }
+
+        @Override
+        public void brickLanded() {
+            landed++;
+        }
+    }
+
+    /**
+     * Generator that deals the given brick types in order, repeating the last one forever.
+     */
+    private static final class SequenceBrickGenerator implements BrickGenerator {
+
+        private final int[] types;
+        private int next = 0;
+
+        SequenceBrickGenerator(int... types) {
+            this.types = types;
+        }
+
+        private int typeAt(int index) {
+            return types[Math.min(index, types.length - 1)];
+        }
+
+        @Override
+        public Brick getBrick() {
+            return BrickFactory.getBrick(typeAt(next++));
+        }
+
+        @Override
+        public int peekType(int index) {
+            return typeAt(next + index);
+        }
+    }
+}
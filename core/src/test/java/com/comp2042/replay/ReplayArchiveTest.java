@@ -0,0 +1,261 @@
+package com.comp2042.replay;
+
+import com.comp2042.model.GameMode;
+import com.comp2042.util.GameRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ReplayArchive class.
+ * Tests appending, index queries and recovery of the archive files after crashes.
+ */
+class ReplayArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAppendedReplaysReadBackAfterReopening() throws IOException {
+        List<byte[]> replays = new ArrayList<>();
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            for (int seed = 0; seed < 10; seed++) {
+                byte[] replay = replay(seed, GameMode.CLASSIC, seed * 10, seed);
+                replays.add(replay);
+                ReplayArchive.Entry entry = archive.append(replay);
+                assertEquals(seed * 10, entry.getScore(), "The entry should hold the score");
+                assertEquals(seed, archive.read(entry).getSeed(), "An appended replay should read back");
+            }
+        }
+
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            int size = archive.size();
+            assertEquals(10, size, "Every replay should be kept");
+            for (ReplayArchive.Entry entry : archive.entries()) {
+                Replay replay = archive.read(entry);
+                byte[] expected = replays.get((int) replay.getSeed());
+                ByteBuffer stored = archive.slice(entry);
+                byte[] actual = new byte[stored.remaining()];
+                stored.get(actual);
+                assertArrayEquals(expected, actual, "Replay bytes should be stored unchanged");
+            }
+        }
+    }
+
+    @Test
+    void testTopScoresMatchSortingEveryEntry() throws IOException {
+        GameRandom random = new GameRandom(4);
+        List<ReplayArchive.Entry> all = new ArrayList<>();
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            // Enough replays for automatic compactions plus an unsorted tail
+            for (int seed = 0; seed < 3 * ReplayArchive.MAX_UNSORTED + 17; seed++) {
+                GameMode mode = GameMode.values()[random.nextInt(GameMode.values().length)];
+                all.add(archive.append(replay(seed, mode, random.nextInt(5000), random.nextInt(20))));
+            }
+
+            for (GameMode mode : GameMode.values()) {
+                List<ReplayArchive.Entry> expected = new ArrayList<>();
+                for (ReplayArchive.Entry entry : all) {
+                    if (entry.getMode() == mode) {
+                        expected.add(entry);
+                    }
+                }
+                expected.sort(ReplayArchive.INDEX_ORDER);
+                assertSameEntries(expected.subList(0, 25), archive.topScores(mode, 25), mode + " top scores");
+            }
+
+            archive.compact();
+            List<ReplayArchive.Entry> best = archive.topScores(10);
+            int count = best.size();
+            assertEquals(10, count, "Top scores of every mode should be limited");
+            for (int i = 1; i < best.size(); i++) {
+                assertTrue(best.get(i - 1).getScore() >= best.get(i).getScore(), "Top scores should be descending");
+            }
+            int maxScore = all.stream().mapToInt(ReplayArchive.Entry::getScore).max().getAsInt();
+            int topScore = best.get(0).getScore();
+            assertEquals(maxScore, topScore, "The best game should come first");
+        }
+    }
+
+    @Test
+    void testMissingIndexIsRebuilt() throws IOException {
+        List<ReplayArchive.Entry> before;
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            for (int seed = 0; seed < 30; seed++) {
+                archive.append(replay(seed, GameMode.OVERGROWTH, seed % 7, seed));
+            }
+            before = archive.topScores(GameMode.OVERGROWTH, 30);
+        }
+        Files.delete(directory.resolve(ReplayArchive.INDEX_FILE_NAME));
+
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            assertSameEntries(before, archive.topScores(GameMode.OVERGROWTH, 30), "Rebuilt index");
+        }
+    }
+
+    @Test
+    void testReplaysNotYetIndexedAreRecovered() throws IOException {
+        Path index = directory.resolve(ReplayArchive.INDEX_FILE_NAME);
+        Path savedIndex = directory.resolve("saved.idx");
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            archive.append(replay(1, GameMode.CLASSIC, 100, 1));
+            Files.copy(index, savedIndex);
+            archive.append(replay(2, GameMode.CLASSIC, 200, 2));
+        }
+        // A crash after the data was written but before the index was
+        Files.copy(savedIndex, index, StandardCopyOption.REPLACE_EXISTING);
+
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            int size = archive.size();
+            assertEquals(2, size, "The unindexed replay should be indexed on open");
+            int best = archive.topScores(GameMode.CLASSIC, 1).get(0).getScore();
+            assertEquals(200, best, "The recovered replay should be queryable");
+        }
+    }
+
+    @Test
+    void testTruncatedRecordIsDiscarded() throws IOException {
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            archive.append(replay(1, GameMode.CLASSIC, 100, 1));
+        }
+        // A crash in the middle of appending: a length with only part of its replay
+        ByteBuffer partial = ByteBuffer.allocate(12).putInt(500);
+        partial.flip();
+        Files.write(directory.resolve(ReplayArchive.DATA_FILE_NAME), Arrays.copyOf(partial.array(), 12),
+                StandardOpenOption.APPEND);
+
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            ReplayArchive.Entry entry = archive.append(replay(2, GameMode.CLASSIC, 200, 2));
+            int size = archive.size();
+            assertEquals(2, size, "The partial record should be dropped");
+            assertEquals(2, archive.read(entry).getSeed(), "New replays should follow the valid data");
+        }
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            int size = archive.size();
+            assertEquals(2, size, "The repaired archive should reopen cleanly");
+        }
+    }
+
+    @Test
+    void testOnlyOneWriterAtATime() throws IOException {
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            archive.append(replay(1, GameMode.CLASSIC, 100, 1));
+            assertThrows(IOException.class, () -> ReplayArchive.open(directory),
+                    "A second writer should be refused while the archive is open");
+        }
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            int size = archive.size();
+            assertEquals(1, size, "The archive should open again once closed");
+        }
+    }
+
+    @Test
+    void testReadOnlyOpenNeverChangesTheFiles() throws IOException {
+        try (ReplayArchive writer = ReplayArchive.open(directory)) {
+            writer.append(replay(1, GameMode.CLASSIC, 100, 1));
+            // A record the writer is still appending, and a replay it has not indexed yet
+            byte[] unindexed = replay(2, GameMode.CLASSIC, 200, 2);
+            ByteBuffer record = ByteBuffer.allocate(4 + unindexed.length).putInt(unindexed.length).put(unindexed);
+            Files.write(directory.resolve(ReplayArchive.DATA_FILE_NAME), record.array(), StandardOpenOption.APPEND);
+            Files.write(directory.resolve(ReplayArchive.DATA_FILE_NAME), new byte[] {0, 0, 1, 0, 7},
+                    StandardOpenOption.APPEND);
+            byte[] data = Files.readAllBytes(directory.resolve(ReplayArchive.DATA_FILE_NAME));
+            byte[] index = Files.readAllBytes(directory.resolve(ReplayArchive.INDEX_FILE_NAME));
+
+            try (ReplayArchive reader = ReplayArchive.openReadOnly(directory)) {
+                int size = reader.size();
+                assertEquals(2, size, "Indexed and complete unindexed replays should be read");
+                long best = reader.read(reader.topScores(GameMode.CLASSIC, 1).get(0)).getSeed();
+                assertEquals(2, best, "The unindexed replay should be queryable");
+                assertThrows(IllegalStateException.class, () -> reader.append(replay(3, GameMode.CLASSIC, 1, 3)),
+                        "A read-only archive should refuse appends");
+            }
+            assertArrayEquals(data, Files.readAllBytes(directory.resolve(ReplayArchive.DATA_FILE_NAME)),
+                    "Reading should not truncate the data file");
+            assertArrayEquals(index, Files.readAllBytes(directory.resolve(ReplayArchive.INDEX_FILE_NAME)),
+                    "Reading should not rewrite the index");
+        }
+
+        Files.delete(directory.resolve(ReplayArchive.INDEX_FILE_NAME));
+        try (ReplayArchive reader = ReplayArchive.openReadOnly(directory)) {
+            int size = reader.size();
+            assertEquals(2, size, "Replays should be readable without an index");
+        }
+        assertFalse(Files.exists(directory.resolve(ReplayArchive.INDEX_FILE_NAME)),
+                "Reading should not create an index");
+    }
+
+    @Test
+    void testRejectsFilesThatAreNotArchives() throws IOException {
+        Files.write(directory.resolve(ReplayArchive.DATA_FILE_NAME), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThrows(IOException.class, () -> ReplayArchive.open(directory), "Foreign data should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> {
+            try (ReplayArchive archive = ReplayArchive.open(directory.resolve("other"))) {
+                archive.append(new byte[ReplayFormat.HEADER_SIZE]);
+            }
+        }, "Invalid replays should be rejected");
+    }
+
+    @Test
+    void testImportsDirectoryAndArchivesThroughWriter() throws IOException {
+        Path files = directory.resolve("files");
+        ReplayWriter fileWriter = new ReplayWriter(files);
+        for (int seed = 0; seed < 5; seed++) {
+            fileWriter.accept(replay(seed, GameMode.TREASURE_HUNT, seed, seed));
+        }
+        fileWriter.close();
+        Files.write(files.resolve("broken" + ReplayWriter.EXTENSION), new byte[] {1, 2, 3});
+
+        Path archived = directory.resolve("archive");
+        try (ReplayArchive archive = ReplayArchive.open(archived)) {
+            int imported = archive.importDirectory(files);
+            assertEquals(5, imported, "Every valid replay file should be imported");
+        }
+
+        ReplayWriter writer = new ReplayWriter(ReplayArchive.open(archived));
+        writer.accept(replay(9, GameMode.TREASURE_HUNT, 900, 9));
+        writer.close();
+
+        try (ReplayArchive archive = ReplayArchive.open(archived)) {
+            int size = archive.size();
+            assertEquals(6, size, "The writer should append to the archive");
+            long seed = archive.read(archive.topScores(GameMode.TREASURE_HUNT, 1).get(0)).getSeed();
+            assertEquals(9, seed, "The written replay should be the best game");
+        }
+    }
+
+    private static void assertSameEntries(List<ReplayArchive.Entry> expected, List<ReplayArchive.Entry> actual,
+                                          String what) {
+        int count = actual.size();
+        assertEquals(expected.size(), count, what + " should have the expected size");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getOffset(), actual.get(i).getOffset(), what + " entry " + i);
+        }
+    }
+
+    /**
+     * Records a complete game of the given length with a fixed score.
+     */
+    private static byte[] replay(long seed, GameMode mode, int score, int events) {
+        List<byte[]> saved = new ArrayList<>();
+        ReplayRecorder recorder = new ReplayRecorder(saved::add);
+        recorder.begin(seed, mode, 0);
+        for (int i = 0; i < events; i++) {
+            recorder.record(ReplayFormat.GRAVITY, i * 100L);
+        }
+        recorder.finish(score, events * 100L);
+        return saved.get(0);
+    }
+}
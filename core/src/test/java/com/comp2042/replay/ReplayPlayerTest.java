@@ -0,0 +1,211 @@
+package com.comp2042.replay;
+
+import com.comp2042.controller.GameController;
+import com.comp2042.controller.ManualClock;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.bricks.Randomizer;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.GameMode;
+import com.comp2042.simulation.GreedyPolicy;
+import com.comp2042.simulation.HeadlessGameView;
+import com.comp2042.simulation.Placement;
+import com.comp2042.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ReplayPlayer class.
+ * Records scripted games and checks that playback and seeking reproduce them exactly.
+ */
+class ReplayPlayerTest {
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    /** Bricks after which a scripted game is cut off */
+    private static final int MAX_PIECES = 120;
+
+    /** Game time between scripted inputs, in milliseconds */
+    private static final long EVENT_MILLIS = 50;
+
+    @Test
+    void testPlaybackReproducesEveryMode() {
+        for (GameMode mode : GameMode.values()) {
+            for (Randomizer randomizer : Randomizer.values()) {
+                Recorded game = record(mode, randomizer, 11, true);
+                ReplayPlayer player = new ReplayPlayer(Replay.read(game.data));
+
+                player.playToEnd();
+
+                assertTrue(player.matchesRecording(), mode + " " + randomizer + " playback should match");
+                assertArrayEquals(game.field, player.getBoard().getBoardMatrix(), mode + " final field should match");
+            }
+        }
+    }
+
+    @Test
+    void testLongGamesStoreKeyframes() {
+        Recorded game = record(GameMode.OVERGROWTH, Randomizer.UNIFORM, 5, true);
+        Replay replay = Replay.read(game.data);
+
+        assertTrue(replay.getEventCount() > 2 * ReplayFormat.KEYFRAME_INTERVAL, "The scripted game should be long");
+        int expected = (replay.getEventCount() - 1) / ReplayFormat.KEYFRAME_INTERVAL;
+        int keyframes = replay.getKeyframeCount();
+        assertEquals(expected, keyframes, "A keyframe should be stored every interval");
+        int first = replay.getKeyframeEvent(0);
+        assertEquals(ReplayFormat.KEYFRAME_INTERVAL, first, "Keyframes should sit on interval boundaries");
+        boolean vines = false;
+        for (int i = 0; i < replay.getEventCount(); i++) {
+            vines |= replay.getEvent(i) == ReplayFormat.VINE;
+        }
+        assertTrue(vines, "Vine lines should be recorded as events");
+    }
+
+    @Test
+    void testSeekingMatchesPlayingFromTheStart() {
+        for (boolean keyframes : new boolean[] {true, false}) {
+            Recorded game = record(GameMode.OVERGROWTH, Randomizer.BAG_7, 5, keyframes);
+            Replay replay = Replay.read(game.data);
+            ReplayPlayer seeking = new ReplayPlayer(replay);
+            GameRandom targets = new GameRandom(3);
+
+            for (int i = 0; i < 20; i++) {
+                int target = targets.nextInt(replay.getEventCount() + 1);
+                seeking.seek(target);
+                ReplayPlayer reference = new ReplayPlayer(replay);
+                for (int step = 0; step < target; step++) {
+                    reference.step();
+                }
+
+                int position = seeking.getPosition();
+                assertEquals(target, position, "Seek should stop before the target event");
+                assertArrayEquals(reference.getBoard().getBoardMatrix(), seeking.getBoard().getBoardMatrix(),
+                        "Field after seeking to " + target + " should match");
+                assertEquals(reference.getBoard().getScore().get(), seeking.getBoard().getScore().get(),
+                        "Score after seeking to " + target + " should match");
+                assertEquals(reference.getSummary().getDigest(), seeking.getSummary().getDigest(),
+                        "Clears after seeking to " + target + " should match");
+            }
+
+            seeking.seek(replay.getEventCount());
+            assertTrue(seeking.matchesRecording(), "Seeking to the end should reach the recorded outcome");
+        }
+    }
+
+    @Test
+    void testSeekTimeAppliesEventsUpToTheTime() {
+        Replay replay = Replay.read(record(GameMode.CLASSIC, Randomizer.UNIFORM, 8, true).data);
+        ReplayPlayer player = new ReplayPlayer(replay);
+        long middle = replay.getDuration() / 2;
+
+        player.seekTime(middle);
+
+        assertTrue(player.getTime() <= middle, "No event after the time should be applied");
+        assertTrue(replay.getTime(player.getPosition()) > middle, "Every event up to the time should be applied");
+    }
+
+    @Test
+    void testPacedPlaybackTakesScaledTime() {
+        Replay replay = Replay.read(record(GameMode.CLASSIC, Randomizer.UNIFORM, 8, true).data);
+        ReplayPlayer player = new ReplayPlayer(replay);
+        double speed = replay.getDuration() / 50.0; // about 50 ms of wall-clock time
+
+        long start = System.nanoTime();
+        player.play(speed);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(player.matchesRecording(), "Paced playback should match");
+        assertTrue(elapsedMillis >= 45, "Playback should be paced, took " + elapsedMillis + " ms");
+    }
+
+    /**
+     * A recorded game and its final field.
+     */
+    private static final class Recorded {
+        byte[] data;
+        int[][] field;
+    }
+
+    /**
+     * Plays and records a game: greedy placements, each brick steered and then left to fall,
+     * so games are long and Overgrowth vines grow. Games still running after the brick limit
+     * are ended by starting a new game.
+     */
+    private static Recorded record(GameMode mode, Randomizer randomizer, long seed, boolean keyframes) {
+        List<byte[]> saved = new ArrayList<>();
+        ManualClock clock = new ManualClock();
+        HeadlessGameView view = new HeadlessGameView();
+        Board board = BoardType.SIMPLE.create(ReplayPlayer.BOARD_WIDTH, ReplayPlayer.BOARD_HEIGHT, randomizer.create(0));
+        board.setGameMode(mode);
+        GameController controller = new GameController(view, board, clock, seed);
+        controller.setReplayRecorder(new ReplayRecorder(randomizer, saved::add));
+        GameRandom input = new GameRandom(seed);
+        GreedyPolicy policy = new GreedyPolicy();
+        Placement placement = new Placement();
+        for (int pieces = 0; pieces < MAX_PIECES && !view.isGameOver(); pieces++) {
+            policy.choose(board.getBoardMatrix(), board.getCurrentRotationTable(),
+                    board.getViewData().getxPosition(), board.getViewData().getyPosition(), placement);
+            for (int i = 0; i < 4 && board.getCurrentRotation() != placement.getRotation(); i++) {
+                clock.advance(EVENT_MILLIS);
+                controller.onRotateEvent(ROTATE);
+            }
+            int x = board.getViewData().getxPosition();
+            while (x != placement.getX()) {
+                clock.advance(EVENT_MILLIS);
+                int moved = (x < placement.getX() ? controller.onRightEvent(RIGHT) : controller.onLeftEvent(LEFT))
+                        .getxPosition();
+                if (moved == x) {
+                    break;
+                }
+                x = moved;
+            }
+            // Let the brick fall the rest of the way, so every brick takes a few dozen events
+            int y = -1;
+            while (!view.isGameOver() && board.getViewData().getyPosition() > y) {
+                y = board.getViewData().getyPosition();
+                clock.advance(EVENT_MILLIS);
+                controller.onDownEvent(input.nextInt(4) == 0 ? SOFT_DROP : GRAVITY);
+            }
+        }
+        Recorded game = new Recorded();
+        game.field = copy(board.getBoardMatrix());
+        if (!view.isGameOver()) {
+            controller.createNewGame();
+        }
+        game.data = keyframes ? saved.get(0) : withoutKeyframes(saved.get(0));
+        return game;
+    }
+
+    /**
+     * Cuts the keyframe section off a replay, as written by recorders without a board.
+     */
+    private static byte[] withoutKeyframes(byte[] data) {
+        Replay replay = Replay.read(data);
+        int keyframeBytes = 1; // the count, a one-byte varint for short games
+        for (int i = 0; i < replay.getKeyframeCount(); i++) {
+            keyframeBytes += Integer.BYTES + Short.BYTES + replay.getKeyframe(i).remaining();
+        }
+        byte[] stripped = Arrays.copyOf(data, data.length - keyframeBytes + 1);
+        stripped[stripped.length - 1] = 0;
+        return stripped;
+    }
+
+    private static int[][] copy(int[][] matrix) {
+        int[][] copy = new int[matrix.length][];
+        for (int row = 0; row < matrix.length; row++) {
+            copy[row] = matrix[row].clone();
+        }
+        return copy;
+    }
+}
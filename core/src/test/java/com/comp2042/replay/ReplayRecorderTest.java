@@ -0,0 +1,161 @@
+package com.comp2042.replay;
+
+import com.comp2042.AllocationMeter;
+import com.comp2042.controller.GameController;
+import com.comp2042.controller.ManualClock;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.bricks.Randomizer;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.GameMode;
+import com.comp2042.simulation.HeadlessGameView;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ReplayRecorder class.
+ * Records games played through a GameController and decodes them again.
+ */
+class ReplayRecorderTest {
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    @Test
+    void testRecordsEveryInputOfAGame() {
+        List<byte[]> saved = new ArrayList<>();
+        ManualClock clock = new ManualClock();
+        HeadlessGameView view = new HeadlessGameView();
+        Board board = BoardType.SIMPLE.create(10, 25);
+        board.setGameMode(GameMode.OVERGROWTH);
+        GameController controller = new GameController(view, board, clock, 77);
+        controller.setReplayRecorder(new ReplayRecorder(saved::add));
+
+        int inputs = 0;
+        while (!view.isGameOver()) {
+            clock.advance(250);
+            switch (inputs % 6) {
+                case 0 -> controller.onRotateEvent(ROTATE);
+                case 1 -> controller.onLeftEvent(LEFT);
+                case 2 -> controller.onRightEvent(RIGHT);
+                case 3 -> controller.onDownEvent(SOFT_DROP);
+                case 4 -> controller.onDownEvent(GRAVITY);
+                default -> controller.onHardDropEvent(HARD_DROP);
+            }
+            inputs++;
+        }
+
+        int replays = saved.size();
+        assertEquals(1, replays, "Game over should save the replay");
+        Replay replay = Replay.read(saved.get(0));
+        assertEquals(77, replay.getSeed(), "Seed should be recorded");
+        assertEquals(GameMode.OVERGROWTH, replay.getMode(), "Mode should be recorded");
+        assertEquals(Randomizer.UNIFORM, replay.getRandomizer(), "Randomizer should be recorded");
+        assertTrue(replay.isComplete(), "The end of the game should be recorded");
+        assertEquals(board.getScore().get(), replay.getScore(), "Final score should be recorded");
+
+        // Every input plus one vine line per 10 seconds
+        int vines = 0;
+        int soft = 0;
+        int gravity = 0;
+        for (int i = 0; i < replay.getEventCount(); i++) {
+            switch (replay.getEvent(i)) {
+                case ReplayFormat.VINE -> vines++;
+                case ReplayFormat.SOFT_DROP -> soft++;
+                case ReplayFormat.GRAVITY -> gravity++;
+                default -> { }
+            }
+        }
+        assertEquals(inputs + vines, replay.getEventCount(), "Every input should be recorded");
+        assertTrue(vines > 0, "Vine lines should be recorded");
+        assertTrue(soft > 0 && gravity > 0, "Player and gravity drops should be told apart");
+        assertEquals(250, replay.getTime(0), "The first input came 250 ms into the game");
+        assertEquals(inputs * 250L, replay.getTime(replay.getEventCount() - 1), "The last input time should add up");
+    }
+
+    @Test
+    void testNewGameSavesTheAbandonedOne() {
+        List<byte[]> saved = new ArrayList<>();
+        ManualClock clock = new ManualClock();
+        GameController controller = new GameController(new HeadlessGameView(), clock);
+        controller.setReplayRecorder(new ReplayRecorder(saved::add));
+
+        controller.onHardDropEvent(HARD_DROP);
+        controller.createNewGame();
+        controller.onLeftEvent(LEFT);
+
+        int replays = saved.size();
+        assertEquals(1, replays, "Starting over should save the abandoned game");
+        Replay replay = Replay.read(saved.get(0));
+        int pieces = replay.getPieces();
+        assertEquals(1, pieces, "The abandoned game had one brick");
+    }
+
+    @Test
+    void testTenMinuteGameFitsInAFewKilobytes() {
+        List<byte[]> saved = new ArrayList<>();
+        ReplayRecorder recorder = new ReplayRecorder(saved::add);
+        recorder.begin(1, GameMode.CLASSIC, 0);
+
+        // Gravity every 400 ms and a key press every 300 ms for ten minutes
+        long nextGravity = 400;
+        long nextInput = 300;
+        int events = 0;
+        while (Math.min(nextGravity, nextInput) <= 600_000) {
+            if (nextGravity <= nextInput) {
+                recorder.record(ReplayFormat.GRAVITY, nextGravity);
+                nextGravity += 400;
+            } else {
+                recorder.record(events % 2 == 0 ? ReplayFormat.LEFT : ReplayFormat.ROTATE, nextInput);
+                nextInput += 300 + events % 50;
+            }
+            events++;
+        }
+        recorder.finish(12345, 600_000);
+
+        int size = saved.get(0).length;
+        assertTrue(size < 8 * 1024, "Ten minutes of play should take a few KB, took " + size);
+        assertEquals(events, Replay.read(saved.get(0)).getEventCount(), "Every event should decode");
+    }
+
+    @Test
+    void testRecordingDoesNotAllocate() {
+        ReplayRecorder recorder = new ReplayRecorder(replay -> { });
+
+        // First pass warms up class loading and the JIT
+        recordEvents(recorder, 1000);
+        long allocated = AllocationMeter.measureAllocatedBytes(() -> recordEvents(recorder, 1000));
+
+        assertEquals(0, allocated, "Recording an input should not allocate");
+    }
+
+    @Test
+    void testEventsOutsideAGameAreIgnored() {
+        List<byte[]> saved = new ArrayList<>();
+        ReplayRecorder recorder = new ReplayRecorder(saved::add);
+
+        recorder.record(ReplayFormat.LEFT, 10);
+        recorder.finish(0, 10);
+
+        assertFalse(recorder.isRecording(), "Nothing should be recorded before begin");
+        assertTrue(saved.isEmpty(), "Nothing should be saved without a game");
+    }
+
+    private static void recordEvents(ReplayRecorder recorder, int count) {
+        recorder.begin(5, GameMode.CLASSIC, 0);
+        for (int i = 0; i < count; i++) {
+            recorder.record(i % ReplayFormat.END, i * 37L);
+        }
+        assertTrue(recorder.size() > count, "Events should have been recorded");
+    }
+}
@@ -0,0 +1,120 @@
+package com.comp2042.replay;
+
+import com.comp2042.model.GameMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for Replay class.
+ * Tests decoding of complete, cut-short and malformed replays.
+ */
+class ReplayTest {
+
+    @Test
+    void testDecodesHeaderEventsAndOutcome() {
+        byte[] data = record(true);
+
+        Replay replay = Replay.read(data);
+
+        assertEquals(-3, replay.getSeed(), "Negative seeds should survive encoding");
+        assertEquals(GameMode.TREASURE_HUNT, replay.getMode(), "Mode should decode");
+        int events = replay.getEventCount();
+        assertEquals(3, events, "The end marker is not an input event");
+        assertEquals(ReplayFormat.HARD_DROP, replay.getEvent(2), "Events should decode in order");
+        assertEquals(1_000_000, replay.getTime(2), "Long gaps should decode");
+        assertEquals(1_000_500, replay.getDuration(), "Duration should run to the end marker");
+        assertTrue(replay.isComplete(), "Replay should be complete");
+        assertEquals(300, replay.getScore(), "Score should decode");
+        assertTrue(replay.getStartedAt() > 0, "Start time should be recorded");
+    }
+
+    @Test
+    void testReplayWithoutEndIsIncomplete() {
+        byte[] complete = record(true);
+        byte[] cut = record(false);
+
+        Replay replay = Replay.read(cut);
+
+        assertFalse(replay.isComplete(), "A replay without its end should be incomplete");
+        int events = replay.getEventCount();
+        assertEquals(3, events, "Events before the cut should decode");
+        assertTrue(cut.length < complete.length, "The cut replay should be shorter");
+    }
+
+    @Test
+    void testRejectsMalformedData() {
+        byte[] data = record(true);
+        byte[] badMagic = data.clone();
+        badMagic[0] = 'X';
+        byte[] badVersion = data.clone();
+        badVersion[4] = 99;
+        byte[] badMode = data.clone();
+        badMode[5] = 42;
+        byte[] truncated = Arrays.copyOf(data, data.length - 2);
+
+        assertThrows(IllegalArgumentException.class, () -> Replay.read(new byte[3]), "Should reject short data");
+        assertThrows(IllegalArgumentException.class, () -> Replay.read(badMagic), "Should reject other files");
+        assertThrows(IllegalArgumentException.class, () -> Replay.read(badVersion), "Should reject unknown versions");
+        assertThrows(IllegalArgumentException.class, () -> Replay.read(badMode), "Should reject unknown modes");
+        assertThrows(IllegalArgumentException.class, () -> Replay.read(truncated), "Should reject a cut outcome");
+    }
+
+    /**
+     * Replays saved before keyframes were added end at the digest; they must still load,
+     * so old replay files can be imported into an archive.
+     */
+    @Test
+    void testReadsVersionOneReplayWithoutKeyframes() {
+        byte[] current = record(true);
+        assertEquals(ReplayFormat.VERSION, current[4], "The recorder should write the current version");
+        // The version 1 layout: the same bytes up to the digest, with no keyframe count
+        byte[] versionOne = Arrays.copyOf(current, current.length - 1);
+        versionOne[4] = ReplayFormat.VERSION_WITHOUT_KEYFRAMES;
+
+        Replay replay = Replay.read(versionOne);
+
+        assertTrue(replay.isComplete(), "A version 1 replay with its end should be complete");
+        assertEquals(300, replay.getScore(), "Score should decode");
+        int events = replay.getEventCount();
+        assertEquals(3, events, "Events should decode");
+        int keyframes = replay.getKeyframeCount();
+        assertEquals(0, keyframes, "A version 1 replay has no keyframes");
+        byte[] missingCount = Arrays.copyOf(current, current.length - 1);
+        assertThrows(IllegalArgumentException.class, () -> Replay.read(missingCount),
+                "A current replay must still carry its keyframe count");
+    }
+
+    @Test
+    void testEventIndexIsChecked() {
+        Replay replay = Replay.read(record(true));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> replay.getEvent(3), "Should reject an index past the end");
+        assertThrows(IndexOutOfBoundsException.class, () -> replay.getTime(-1), "Should reject a negative index");
+    }
+
+    /**
+     * Records three events; the game is finished only if requested.
+     */
+    private static byte[] record(boolean finish) {
+        List<byte[]> saved = new ArrayList<>();
+        ReplayRecorder recorder = new ReplayRecorder(saved::add);
+        recorder.begin(-3, GameMode.TREASURE_HUNT, 100);
+        recorder.record(ReplayFormat.LEFT, 110);
+        recorder.record(ReplayFormat.ROTATE, 150);
+        recorder.record(ReplayFormat.HARD_DROP, 1_000_100);
+        if (finish) {
+            recorder.finish(300, 1_000_600);
+            return saved.get(0);
+        }
+        // Cut short: take what was recorded by finishing a copy and dropping the end marker
+        recorder.finish(300, 1_000_600);
+        byte[] complete = saved.get(0);
+        int endLength = 2 + 2 + 1 + 1 + 4 + 1; // end varint, score 300, pieces, lines, digest, no keyframes
+        return Arrays.copyOf(complete, complete.length - endLength);
+    }
+}
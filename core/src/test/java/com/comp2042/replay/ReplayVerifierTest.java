@@ -0,0 +1,113 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.bricks.Randomizer;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.GameMode;
+import com.comp2042.simulation.BatchSimulation;
+import com.comp2042.simulation.GameSimulator;
+import com.comp2042.simulation.PolicyType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ReplayVerifier class.
+ * Re-simulates recorded batches and checks that tampered or broken replays are reported.
+ */
+class ReplayVerifierTest {
+
+    private static final int GAMES = 12;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecordedBatchVerifiesOnEveryEngine() throws IOException {
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            for (GameMode mode : GameMode.values()) {
+                record(mode, PolicyType.GREEDY, archive);
+                record(mode, PolicyType.RANDOM, archive);
+            }
+
+            for (BoardType type : BoardType.values()) {
+                VerificationReport report = new ReplayVerifier(type).verify(archive, 3);
+
+                int verified = report.getVerified();
+                assertEquals(archive.size(), verified, type + " should reproduce every recorded game");
+                assertTrue(report.isClean(), type + " should find no mismatches: " + report.getMismatches());
+            }
+        }
+    }
+
+    @Test
+    void testResultsDoNotDependOnThreadCount() throws IOException {
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            record(GameMode.OVERGROWTH, PolicyType.RANDOM, archive);
+            ReplayVerifier verifier = new ReplayVerifier(BoardType.SIMPLE);
+
+            VerificationReport single = verifier.verify(archive, 1);
+            VerificationReport parallel = verifier.verify(archive, 4);
+
+            int replays = parallel.getReplays();
+            assertEquals(GAMES, replays, "Every replay should be verified once");
+            assertEquals(single.getVerified(), parallel.getVerified(), "Verification should not depend on threads");
+            assertThrows(IllegalArgumentException.class, () -> verifier.verify(archive, 0),
+                    "At least one thread is needed");
+        }
+    }
+
+    @Test
+    void testReportsMismatchesAndBrokenFiles() throws IOException {
+        ReplayWriter writer = new ReplayWriter(directory);
+        BatchSimulation batch = new BatchSimulation(
+                new GameSimulator(GameMode.CLASSIC, BoardType.SIMPLE, 50, 1000), PolicyType.GREEDY);
+        batch.run(5, 0, 2, writer);
+        // A replay whose recorded outcome no longer matches the engine
+        ReplayRecorder recorder = new ReplayRecorder(writer);
+        recorder.begin(99, GameMode.CLASSIC, 0);
+        for (int i = 0; i < 10; i++) {
+            recorder.record(ReplayFormat.HARD_DROP, i * 100L);
+        }
+        recorder.finish(1, 1000);
+        // And one that was cut short: a header without events
+        List<byte[]> saved = new ArrayList<>();
+        ReplayRecorder finished = new ReplayRecorder(saved::add);
+        finished.begin(100, GameMode.CLASSIC, 0);
+        finished.finish(0, 0);
+        writer.accept(Arrays.copyOf(saved.get(0), ReplayFormat.HEADER_SIZE));
+        writer.close();
+        Files.write(directory.resolve("broken" + ReplayWriter.EXTENSION), new byte[] {1, 2, 3});
+
+        VerificationReport report = new ReplayVerifier(BoardType.SIMPLE).verify(directory, 2);
+
+        int verified = report.getVerified();
+        int incomplete = report.getIncomplete();
+        assertEquals(5, verified, "The simulated games should verify");
+        assertEquals(1, incomplete, "The cut-short replay should be skipped");
+        assertEquals(1, report.getMismatches().size(), "The tampered replay should be flagged");
+        assertTrue(report.getMismatches().get(0).contains("score 1, replayed"), "The mismatch should name the score");
+        assertEquals(1, report.getErrors().size(), "The broken file should be reported");
+        assertFalse(report.isClean(), "A report with mismatches is not clean");
+        assertTrue(report.format(1_000_000_000L).contains("MISMATCH"), "Mismatches should be listed");
+    }
+
+    private static void record(GameMode mode, PolicyType policy, ReplayArchive archive) {
+        GameSimulator simulator = new GameSimulator(mode, BoardType.SIMPLE, Randomizer.HISTORY, 150, 2000);
+        new BatchSimulation(simulator, policy).run(GAMES, mode.ordinal() * 1000L, 2, replay -> {
+            try {
+                archive.append(replay);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.comp2042.replay;
+
+import com.comp2042.model.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ReplayWriter class.
+ * Tests that replays are saved in the background, one complete file each.
+ */
+class ReplayWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testSavesEveryReplayOnClose() throws IOException {
+        Path target = directory.resolve("nested");
+        ReplayWriter writer = new ReplayWriter(target);
+        ReplayRecorder recorder = new ReplayRecorder(writer);
+        for (int seed = 0; seed < 20; seed++) {
+            recorder.begin(seed, GameMode.CLASSIC, 0);
+            recorder.record(ReplayFormat.HARD_DROP, 100);
+            recorder.finish(seed, 200);
+        }
+
+        writer.close();
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(target)) {
+            files = listing.collect(Collectors.toList());
+        }
+        int saved = files.size();
+        assertEquals(20, saved, "Every replay should be saved in its own file");
+        for (Path file : files) {
+            assertTrue(file.getFileName().toString().endsWith(ReplayWriter.EXTENSION), "Only replays should be left");
+            Replay replay = Replay.read(Files.readAllBytes(file));
+            assertEquals(replay.getSeed(), replay.getScore(), "Each file should hold its own game");
+        }
+    }
+
+    @Test
+    void testOpensArchiveInTheBackgroundAndImportsFiles() throws IOException {
+        ReplayWriter fileWriter = new ReplayWriter(directory);
+        recordGames(fileWriter, 0, 3);
+        fileWriter.close();
+
+        ReplayWriter writer = ReplayWriter.openArchive(directory);
+        recordGames(writer, 3, 2);
+        writer.close();
+
+        try (ReplayArchive archive = ReplayArchive.open(directory)) {
+            int size = archive.size();
+            assertEquals(5, size, "Old replay files and queued replays should all be archived");
+        }
+    }
+
+    @Test
+    void testFallsBackToFilesWhenArchiveCannotOpen() throws IOException {
+        Files.write(directory.resolve(ReplayArchive.DATA_FILE_NAME), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        ReplayWriter writer = ReplayWriter.openArchive(directory);
+        recordGames(writer, 0, 2);
+        writer.close();
+
+        long saved;
+        try (Stream<Path> listing = Files.list(directory)) {
+            saved = listing.filter(file -> file.toString().endsWith(ReplayWriter.EXTENSION)).count();
+        }
+        assertEquals(2, saved, "Replays should be saved as files when the archive is unusable");
+    }
+
+    /**
+     * Records short games with consecutive seeds, each scoring its seed.
+     */
+    private static void recordGames(ReplayWriter writer, int firstSeed, int count) {
+        ReplayRecorder recorder = new ReplayRecorder(writer);
+        for (int seed = firstSeed; seed < firstSeed + count; seed++) {
+            recorder.begin(seed, GameMode.CLASSIC, 0);
+            recorder.record(ReplayFormat.HARD_DROP, 100);
+            recorder.finish(seed, 200);
+        }
+    }
+
+    @Test
+    void testFileNameHoldsStartTimeAndSeed() {
+        List<byte[]> saved = new ArrayList<>();
+        ReplayRecorder recorder = new ReplayRecorder(saved::add);
+        recorder.begin(0xABCL, GameMode.CLASSIC, 0);
+        recorder.finish(0, 0);
+
+        String name = ReplayWriter.fileName(saved.get(0));
+        long startedAt = Replay.read(saved.get(0)).getStartedAt();
+
+        assertEquals(startedAt + "-0000000000000abc" + ReplayWriter.EXTENSION, name, "Name should be time-seed");
+    }
+
+    @Test
+    void testClosedWriterDiscardsReplays() {
+        ReplayWriter writer = new ReplayWriter(directory);
+        writer.close();
+
+        assertDoesNotThrow(() -> writer.accept(new byte[ReplayFormat.HEADER_SIZE]),
+                "A closed writer should drop replays without failing the game");
+    }
+}
@@ -0,0 +1,47 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.BoardType;
+import com.comp2042.model.GameMode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BatchSimulation class.
+ * Tests that spreading games over threads does not change their results.
+ */
+class BatchSimulationTest {
+
+    private static final int GAMES = 40;
+
+    @Test
+    void testResultsDoNotDependOnThreadCount() {
+        GameSimulator simulator = new GameSimulator(GameMode.CLASSIC, BoardType.SIMPLE, 200, 1000);
+        BatchSimulation batch = new BatchSimulation(simulator, PolicyType.RANDOM);
+
+        SimulationReport single = batch.run(GAMES, 100, 1);
+        SimulationReport parallel = batch.run(GAMES, 100, 3);
+
+        int games = parallel.getGames();
+        assertEquals(GAMES, games, "Every game should be played once");
+        assertEquals(single.getPieces(), parallel.getPieces(), "Seeded games should not depend on scheduling");
+        assertEquals(single.getMeanScore(), parallel.getMeanScore(), 0.0, "Seeded games should not depend on scheduling");
+        for (int percentile = 0; percentile <= 100; percentile += 10) {
+            int expected = single.getScoreAtPercentile(percentile);
+            int actual = parallel.getScoreAtPercentile(percentile);
+            assertEquals(expected, actual, "Score distribution should match at p" + percentile);
+        }
+        assertEquals(single.getPieces(), parallel.getLatencies().getTotalCount(), "Every brick should be timed");
+    }
+
+    @Test
+    void testRejectsInvalidBatches() {
+        BatchSimulation batch = new BatchSimulation(
+                new GameSimulator(GameMode.CLASSIC, BoardType.SIMPLE, 10, 1000), PolicyType.RANDOM);
+
+        assertThrows(IllegalArgumentException.class, () -> batch.run(-1, 0, 1), "Game count cannot be negative");
+        assertThrows(IllegalArgumentException.class, () -> batch.run(1, 0, 0), "At least one thread is needed");
+        int games = batch.run(0, 0, 2).getGames();
+        assertEquals(0, games, "An empty batch should produce an empty report");
+    }
+}
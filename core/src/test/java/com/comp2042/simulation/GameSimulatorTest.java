@@ -0,0 +1,113 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.bricks.Randomizer;
+import com.comp2042.model.BoardType;
+import com.comp2042.model.GameMode;
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayRecorder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for GameSimulator class.
+ * Plays headless games and checks they end the way the mode rules say.
+ */
+class GameSimulatorTest {
+
+    private static final int MAX_PIECES = 300;
+
+    @Test
+    void testRandomPolicyPlaysToGameOver() {
+        GameSimulator simulator = new GameSimulator(GameMode.CLASSIC, BoardType.SIMPLE, 10_000, 1000);
+        LatencyHistogram latencies = new LatencyHistogram();
+
+        GameResult result = simulator.play(1, new RandomPolicy(2), latencies);
+
+        assertEquals(GameResult.Outcome.GAME_OVER, result.getOutcome(), "Random drops should top out");
+        assertEquals(result.getPieces(), latencies.getTotalCount(), "Every brick should be timed");
+        assertTrue(result.getPieces() > 0, "At least one brick should have been played");
+    }
+
+    @Test
+    void testGreedyPolicyClearsLines() {
+        GameSimulator simulator = new GameSimulator(GameMode.CLASSIC, BoardType.SIMPLE, MAX_PIECES, 1000);
+
+        GameResult result = simulator.play(7, new GreedyPolicy(), new LatencyHistogram());
+
+        assertTrue(result.getPieces() > 100, "Greedy play should last far longer than random drops");
+        // Every brick adds 4 cells and every cleared line removes 10, so most cells must have been cleared
+        assertTrue(result.getLines() * 10 > result.getPieces() * 4 / 2, "Greedy play should clear most of its cells");
+    }
+
+    @Test
+    void testSameSeedReplaysSameClassicGame() {
+        for (BoardType type : BoardType.values()) {
+            GameSimulator simulator = new GameSimulator(GameMode.CLASSIC, type, MAX_PIECES, 1000);
+
+            GameResult first = simulator.play(42, new RandomPolicy(5), new LatencyHistogram());
+            GameResult second = simulator.play(42, new RandomPolicy(5), new LatencyHistogram());
+
+            assertEquals(first.getPieces(), second.getPieces(), type + " games with the same seed should match");
+            assertEquals(first.getScore(), second.getScore(), type + " games with the same seed should match");
+        }
+    }
+
+    @Test
+    void testEveryRandomizerPlaysSeededGames() {
+        for (Randomizer randomizer : Randomizer.values()) {
+            GameSimulator simulator = new GameSimulator(GameMode.CLASSIC, BoardType.SIMPLE, randomizer, MAX_PIECES, 1000);
+
+            GameResult first = simulator.play(42, new GreedyPolicy(), new LatencyHistogram());
+            GameResult second = simulator.play(42, new GreedyPolicy(), new LatencyHistogram());
+
+            assertTrue(first.getLines() > 0, randomizer + " games should clear lines");
+            assertEquals(first.getScore(), second.getScore(), randomizer + " games with the same seed should match");
+        }
+    }
+
+    @Test
+    void testRecordedGamesMatchUnrecordedOnes() {
+        List<byte[]> saved = new ArrayList<>();
+        ReplayRecorder recorder = new ReplayRecorder(Randomizer.BAG_7, saved::add);
+        for (GameMode mode : GameMode.values()) {
+            GameSimulator simulator = new GameSimulator(mode, BoardType.SIMPLE, Randomizer.BAG_7, MAX_PIECES, 2000);
+
+            GameResult plain = simulator.play(8, new GreedyPolicy(), new LatencyHistogram());
+            GameResult recorded = simulator.play(8, new GreedyPolicy(), new LatencyHistogram(), recorder);
+
+            assertEquals(plain.getScore(), recorded.getScore(), mode + " recording should not change the game");
+            Replay replay = Replay.read(saved.get(saved.size() - 1));
+            assertTrue(replay.isComplete(), mode + " replay should be finished, even at the piece limit");
+            assertEquals(recorded.getScore(), replay.getScore(), mode + " replay should hold the final score");
+            assertEquals(recorded.getLines(), replay.getLines(), mode + " replay should hold the lines");
+            assertEquals(8, replay.getSeed(), mode + " replay should hold the seed");
+        }
+    }
+
+    @Test
+    void testOvergrowthEndsByVines() {
+        // No time passes per brick in the first game, so only the second one grows vines
+        GameSimulator still = new GameSimulator(GameMode.OVERGROWTH, BoardType.SIMPLE, MAX_PIECES, 0);
+        GameSimulator growing = new GameSimulator(GameMode.OVERGROWTH, BoardType.SIMPLE, MAX_PIECES, 10_000);
+
+        GameResult stillResult = still.play(3, new GreedyPolicy(), new LatencyHistogram());
+        GameResult growingResult = growing.play(3, new GreedyPolicy(), new LatencyHistogram());
+
+        assertEquals(GameResult.Outcome.PIECE_LIMIT, stillResult.getOutcome(), "Without game time no vines should grow");
+        assertEquals(GameResult.Outcome.GAME_OVER, growingResult.getOutcome(), "A vine per brick should end the game");
+    }
+
+    @Test
+    void testRejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameSimulator(GameMode.CLASSIC, BoardType.SIMPLE, 0, 1000),
+                "A game needs at least one piece");
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameSimulator(GameMode.CLASSIC, BoardType.SIMPLE, 10, -1),
+                "Game time cannot run backwards");
+    }
+}
@@ -0,0 +1,64 @@
+package com.comp2042.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for LatencyHistogram class.
+ * Tests percentile precision and merging.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void testPercentilesWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        assertWithinPrecision(50_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(99_000, histogram.getValueAtPercentile(99));
+        assertWithinPrecision(100_000, histogram.getValueAtPercentile(100));
+        long smallest = histogram.getValueAtPercentile(0);
+        assertEquals(1, smallest, "Small values should be exact");
+    }
+
+    @Test
+    void testMergeAddsCounts() {
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            fast.record(10);
+        }
+        for (int i = 0; i < 10; i++) {
+            slow.record(1_000_000);
+        }
+
+        fast.add(slow);
+
+        assertEquals(100, fast.getTotalCount(), "Merged histogram should hold every value");
+        long p50 = fast.getValueAtPercentile(50);
+        assertEquals(10, p50, "Median should come from the fast values");
+        assertWithinPrecision(1_000_000, fast.getValueAtPercentile(99));
+    }
+
+    @Test
+    void testEmptyAndExtremeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long empty = histogram.getValueAtPercentile(99);
+        assertEquals(0, empty, "An empty histogram should report 0");
+
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-5);
+        long max = histogram.getValueAtPercentile(100);
+        assertEquals(Long.MAX_VALUE, max, "The largest value should be representable");
+        long min = histogram.getValueAtPercentile(1);
+        assertEquals(0, min, "Negative durations should count as 0");
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 16,
+                "Expected about " + expected + " but was " + actual);
+    }
+}
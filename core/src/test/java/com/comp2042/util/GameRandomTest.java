@@ -0,0 +1,111 @@
+package com.comp2042.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for GameRandom class.
+ * Tests the output against the SplitMix64 reference and the stream operations.
+ */
+class GameRandomTest {
+
+    @Test
+    void testMatchesSplitMix64Reference() {
+        GameRandom random = new GameRandom(0);
+
+        // First outputs of the reference splitmix64.c for seed 0
+        assertEquals(0xE220A8397B1DCDAFL, random.nextLong(), "First output should match the reference");
+        assertEquals(0x6E789E6AA1B965F4L, random.nextLong(), "Second output should match the reference");
+        assertEquals(0x06C45D188009454FL, random.nextLong(), "Third output should match the reference");
+    }
+
+    @Test
+    void testSetSeedRestartsStream() {
+        GameRandom random = new GameRandom(123);
+        long first = random.nextLong();
+        random.nextLong();
+
+        random.setSeed(123);
+
+        assertEquals(first, random.nextLong(), "Reseeding should replay the stream from the start");
+    }
+
+    @Test
+    void testRestoredStateContinuesStream() {
+        GameRandom random = new GameRandom(99).split();
+        random.nextLong();
+        ByteBuffer state = ByteBuffer.allocate(2 * Long.BYTES);
+        random.saveState(state);
+        state.flip();
+        long expected = random.nextLong();
+
+        GameRandom restored = new GameRandom(1);
+        restored.restoreState(state);
+
+        assertEquals(expected, restored.nextLong(), "A restored stream should continue where it was saved");
+        assertEquals(random.nextLong(), restored.nextLong(), "A restored stream should keep the same gamma");
+    }
+
+    @Test
+    void testSplitIntoMatchesSplit() {
+        GameRandom parent = new GameRandom(99);
+        GameRandom sameParent = new GameRandom(99);
+        GameRandom target = new GameRandom(0);
+
+        GameRandom child = parent.split();
+        sameParent.splitInto(target);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(child.nextLong(), target.nextLong(), "In-place split should match split()");
+        }
+        assertEquals(parent.nextLong(), sameParent.nextLong(), "Both parents should advance the same way");
+    }
+
+    @Test
+    void testSplitStreamsDiffer() {
+        GameRandom parent = new GameRandom(5);
+        GameRandom first = parent.split();
+        GameRandom second = parent.split();
+
+        int equal = 0;
+        for (int i = 0; i < 100; i++) {
+            if (first.nextLong() == second.nextLong()) {
+                equal++;
+            }
+        }
+        assertEquals(0, equal, "Successive splits should be independent streams");
+    }
+
+    @Test
+    void testBoundedValuesStayInRange() {
+        GameRandom random = new GameRandom(7);
+        int[] counts = new int[7];
+        for (int i = 0; i < 70_000; i++) {
+            int value = random.nextInt(7);
+            assertTrue(value >= 0 && value < 7, "Value out of range: " + value);
+            counts[value]++;
+        }
+        for (int count : counts) {
+            assertTrue(Math.abs(count - 10_000) < 500, "Values should be roughly uniform: " + count);
+        }
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(5, 9);
+            assertTrue(value >= 5 && value < 9, "Value out of range: " + value);
+        }
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(16);
+            assertTrue(value >= 0 && value < 16, "Value out of power-of-two range: " + value);
+        }
+    }
+
+    @Test
+    void testRejectsEmptyRanges() {
+        GameRandom random = new GameRandom(1);
+
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(0), "Bound must be positive");
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(3, 3), "Range must not be empty");
+    }
+}
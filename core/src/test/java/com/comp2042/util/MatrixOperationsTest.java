@@ -1,7 +1,12 @@
 package com.comp2042.util;
 
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.RotationTable;
 import com.comp2042.model.ClearRow;
 import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -357,5 +362,47 @@ class MatrixOperationsTest {
         // Original board should not be modified
         assertEquals(0, board[y][x], "Original board should not be modified");
     }
-}
 
+    // ==================== Packed mask Tests ====================
+
+    /**
+     * Verifies the mask-based intersect agrees with the matrix-based one for every brick,
+     * rotation and position, including positions hanging off every wall.
+     */
+    @Test
+    void testIntersectWithMask_MatchesMatrixIntersect() {
+        int[][] board = new int[BOARD_HEIGHT][BOARD_WIDTH];
+        Random random = new Random(7);
+        for (int row = BOARD_HEIGHT / 2; row < BOARD_HEIGHT; row++) {
+            for (int col = 0; col < BOARD_WIDTH; col++) {
+                board[row][col] = random.nextInt(3) == 0 ? 0 : 1;
+            }
+        }
+
+        for (int type = 0; type < BrickFactory.TOTAL_BRICK_TYPES; type++) {
+            RotationTable table = BrickFactory.getBrick(type).getRotationTable();
+            for (int rotation = 0; rotation < table.size(); rotation++) {
+                for (int y = -4; y <= BOARD_HEIGHT; y++) {
+                    for (int x = -4; x <= BOARD_WIDTH; x++) {
+                        assertEquals(MatrixOperations.intersect(board, table.copy(rotation), x, y),
+                                MatrixOperations.intersect(board, table, rotation, x, y),
+                                "Type " + type + " rotation " + rotation + " at (" + x + ", " + y + ")");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testMergeWithMask_MatchesMatrixMerge() {
+        int[][] board = new int[BOARD_HEIGHT][BOARD_WIDTH];
+        RotationTable table = BrickFactory.getBrick(BrickFactory.BRICK_TYPE_T).getRotationTable();
+
+        for (int rotation = 0; rotation < table.size(); rotation++) {
+            int[][] expected = MatrixOperations.merge(board, table.copy(rotation), 3, 7);
+            int[][] result = MatrixOperations.merge(board, table, rotation, 3, 7);
+            assertArrayEquals(expected, result, "Mask merge should match matrix merge for rotation " + rotation);
+        }
+        assertEquals(0, board[7][4], "Original board should not be modified");
+    }
+}
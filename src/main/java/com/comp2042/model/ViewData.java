@@ -1,35 +0,0 @@
-package com.comp2042.model;
-
-import com.comp2042.util.MatrixOperations;
-
-public final class ViewData {
-
-    private final int[][] brickData;
-    private final int xPosition;
-    private final int yPosition;
-    private final int[][] nextBrickData;
-
-    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData) {
-        this.brickData = brickData;
-        this.xPosition = xPosition;
-        this.yPosition = yPosition;
-        this.nextBrickData = nextBrickData;
-    }
-
-    public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
-    }
-
-    public int getxPosition() {
-        return xPosition;
-    }
-
-    public int getyPosition() {
-        return yPosition;
-    }
-
-    public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
-    }
-}
-